@@ -0,0 +1,10 @@
+#!/bin/sh
+# Lets the db-replica service (docker compose --profile replica) stream WAL from this instance.
+# Runs automatically when the data volume is first initialised; for an existing volume:
+#   docker compose exec -u postgres db sh /docker-entrypoint-initdb.d/10-replication.sh
+set -e
+
+if ! grep -q "^host replication" "$PGDATA/pg_hba.conf"; then
+    echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+fi
+psql -v ON_ERROR_STOP=1 -U "$POSTGRES_USER" -d "$POSTGRES_DB" -c "SELECT pg_reload_conf()"
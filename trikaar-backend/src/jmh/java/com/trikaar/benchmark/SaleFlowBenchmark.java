@@ -0,0 +1,161 @@
+package com.trikaar.benchmark;
+
+import com.trikaar.TrikaarApplication;
+import com.trikaar.module.auth.entity.Business;
+import com.trikaar.module.auth.repository.BusinessRepository;
+import com.trikaar.module.employee.entity.Employee;
+import com.trikaar.module.employee.repository.EmployeeRepository;
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.module.inventory.repository.ProductRepository;
+import com.trikaar.module.sales.dto.CreateSaleRequest;
+import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.service.SaleService;
+import com.trikaar.shared.context.TenantContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code createSale} against a real PostgreSQL: validation, stock
+ * deduction, document numbering, loyalty and the sale insert.
+ *
+ * The schema relies on PostgreSQL-only migrations and native queries, so this
+ * needs a disposable database (Flyway migrates it on startup):
+ *
+ * <pre>
+ * mvn -Pbenchmarks compile exec:exec -Djmh.args="SaleFlowBenchmark -jvmArgs -Dbench.db.url=jdbc:postgresql://localhost:5432/trikaar_bench"
+ * </pre>
+ *
+ * Every trial seeds its own business, so runs never interfere with each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SaleFlowBenchmark {
+
+    private static final int PRODUCT_COUNT = 200;
+
+    @Param({ "1", "5", "20" })
+    int itemsPerSale;
+
+    private ConfigurableApplicationContext context;
+    private SaleService saleService;
+    private UUID businessId;
+    private UUID employeeId;
+    private List<UUID> productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(TrikaarApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(Map.of(
+                "spring.datasource.url",
+                System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5432/trikaar_bench"),
+                "spring.datasource.username", System.getProperty("bench.db.user", "trikaar_user"),
+                "spring.datasource.password", System.getProperty("bench.db.password", "trikaar_pass"),
+                "logging.level.com.trikaar", "WARN",
+                "logging.level.org.hibernate.SQL", "WARN"));
+        context = application.run();
+        saleService = context.getBean(SaleService.class);
+        seed();
+    }
+
+    @Setup(Level.Invocation)
+    public void bindTenant() {
+        TenantContext.setBusinessId(businessId);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SaleResponse createSale() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<CreateSaleRequest.SaleItemRequest> items = new ArrayList<>(itemsPerSale);
+        int offset = random.nextInt(PRODUCT_COUNT);
+        for (int i = 0; i < itemsPerSale; i++) {
+            items.add(new CreateSaleRequest.SaleItemRequest(
+                    productIds.get((offset + i) % PRODUCT_COUNT), BigDecimal.ONE, null));
+        }
+
+        CreateSaleRequest request = new CreateSaleRequest();
+        request.setEmployeeId(employeeId);
+        request.setItems(items);
+        request.setPaymentMethod("CASH");
+        request.setAmountPaid(new BigDecimal("1000000"));
+        return saleService.createSale(request);
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        Business business = Business.builder()
+                .businessName("Benchmark " + suffix)
+                .slug("bench-" + suffix)
+                .build();
+        business.setBusinessId(UUID.randomUUID());
+        BusinessRepository businessRepository = context.getBean(BusinessRepository.class);
+        business = businessRepository.save(business);
+        business.setBusinessId(business.getId());
+        business = businessRepository.save(business);
+        businessId = business.getId();
+
+        TenantContext.setBusinessId(businessId);
+        try {
+            Employee employee = Employee.builder()
+                    .employeeCode("BENCH-" + suffix)
+                    .firstName("Bench")
+                    .lastName("Cashier")
+                    .dateOfJoining(LocalDate.now())
+                    .employmentType(Employee.EmploymentType.FULL_TIME)
+                    .wageType(Employee.WageType.MONTHLY)
+                    .baseSalary(new BigDecimal("25000"))
+                    .build();
+            employee.setBusinessId(businessId);
+            employeeId = context.getBean(EmployeeRepository.class).save(employee).getId();
+
+            List<Product> products = new ArrayList<>(PRODUCT_COUNT);
+            for (int i = 0; i < PRODUCT_COUNT; i++) {
+                Product product = Product.builder()
+                        .sku("BENCH-" + suffix + "-" + i)
+                        .productName("Benchmark product " + i)
+                        .unit("PCS")
+                        .costPrice(new BigDecimal("80.00"))
+                        .sellingPrice(new BigDecimal("99.00"))
+                        .taxPercentage(BigDecimal.valueOf(18))
+                        .taxable(true)
+                        .currentStock(new BigDecimal("100000000"))
+                        .build();
+                product.setBusinessId(businessId);
+                products.add(product);
+            }
+            productIds = context.getBean(ProductRepository.class).saveAll(products).stream()
+                    .map(Product::getId)
+                    .toList();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.trikaar.module.auth.security;
+
+import com.trikaar.config.MetricsProperties;
+import com.trikaar.config.SecurityProperties;
+import com.trikaar.shared.enums.Role;
+import com.trikaar.shared.metrics.BusinessMeters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT issue and verification: the full HMAC check and parse versus the
+ * verified-token cache the authentication filter goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET =
+            "dGhpcyBpcyBhIHNlY3VyZSBrZXkgZm9yIGRldmVsb3BtZW50IG9ubHkgcGxlYXNlIGNoYW5nZSBpbiBwcm9kdWN0aW9u";
+
+    private JwtTokenProvider tokenProvider;
+    private UUID userId;
+    private UUID businessId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecurityProperties properties = new SecurityProperties();
+        properties.getJwt().setSecretKey(SECRET);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new JwtTokenProvider(properties, meterRegistry,
+                new BusinessMeters(meterRegistry, new MetricsProperties()));
+
+        userId = UUID.randomUUID();
+        businessId = UUID.randomUUID();
+        token = tokenProvider.generateAccessToken(userId, "cashier01", businessId, Role.WORKER);
+        tokenProvider.resolvePrincipal(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken(userId, "cashier01", businessId, Role.WORKER);
+    }
+
+    @Benchmark
+    public boolean verifyUncached() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal resolvePrincipalCached() {
+        return tokenProvider.resolvePrincipal(token);
+    }
+}
@@ -0,0 +1,62 @@
+package com.trikaar.module.loyalty.service.impl;
+
+import com.trikaar.module.customer.entity.Customer;
+import com.trikaar.module.loyalty.entity.LoyaltyConfig;
+import com.trikaar.module.loyalty.repository.LoyaltyConfigRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loyalty point and tier math, with the config lookup served from memory
+ * (as it is once the per-business config cache is warm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoyaltyBenchmark {
+
+    private LoyaltyServiceImpl loyaltyService;
+    private UUID businessId;
+    private BigDecimal saleAmount;
+    private BigDecimal totalSpent;
+
+    @Setup
+    public void setUp() {
+        businessId = UUID.randomUUID();
+        LoyaltyConfig config = LoyaltyConfig.builder().build();
+        config.setBusinessId(businessId);
+
+        LoyaltyConfigRepository repository = (LoyaltyConfigRepository) Proxy.newProxyInstance(
+                LoyaltyConfigRepository.class.getClassLoader(),
+                new Class<?>[] { LoyaltyConfigRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByBusinessIdAndDeletedFalse" -> Optional.of(config);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "LoyaltyConfigRepository(stub)";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        loyaltyService = new LoyaltyServiceImpl(new LoyaltyRulesCache(repository), null, null);
+        saleAmount = new BigDecimal("2499.75");
+        totalSpent = new BigDecimal("63250.00");
+    }
+
+    @Benchmark
+    public BigDecimal calculatePointsEarned() {
+        return loyaltyService.calculatePointsEarned(businessId, saleAmount);
+    }
+
+    @Benchmark
+    public Customer.LoyaltyTier calculateTier() {
+        return LoyaltyTiers.forTotalSpent(totalSpent);
+    }
+}
@@ -0,0 +1,74 @@
+package com.trikaar.module.reporting.service.impl;
+
+import com.trikaar.shared.util.CsvWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of a sales export once the row is read: CSV quoting, the
+ * formula guard and UTF-8 encoding into the same buffered writer the export endpoint uses. The
+ * export query itself, and the dashboard and report queries, are database
+ * bound and not covered here; the load test's dashboard mix exercises them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportCsvBenchmark {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Param({ "1000" })
+    int rows;
+
+    private List<Object[]> sales;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        sales = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            BigDecimal subtotal = BigDecimal.valueOf(100 + random.nextInt(500_000), 2);
+            BigDecimal tax = BigDecimal.valueOf(random.nextInt(50_000), 2);
+            BigDecimal total = subtotal.add(tax);
+            // As formatted by ExportServiceImpl: timestamps as text, amounts as BigDecimal
+            sales.add(new Object[] {
+                    String.format("TXN-20260101-%06d", i),
+                    "2026-01-01 10:" + String.format("%02d:%02d", i / 60 % 60, i % 60),
+                    "COMPLETED",
+                    i % 3 == 0 ? "CASH" : "UPI",
+                    "EMP-" + (i % 20),
+                    i % 4 == 0 ? null : "98450" + String.format("%05d", i),
+                    i % 4 == 0 ? null : (i % 9 == 0 ? "Rao, Asha" : "Vikram Shah"),
+                    subtotal,
+                    BigDecimal.ZERO,
+                    BigDecimal.ZERO,
+                    tax,
+                    total,
+                    total,
+                    BigDecimal.ZERO });
+        }
+    }
+
+    @Benchmark
+    public void writeSales() throws IOException {
+        try (CsvWriter csv = new CsvWriter(new BufferedWriter(
+                new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8), BUFFER_SIZE))) {
+            for (Object[] sale : sales) {
+                csv.writeRow(sale);
+            }
+        }
+    }
+}
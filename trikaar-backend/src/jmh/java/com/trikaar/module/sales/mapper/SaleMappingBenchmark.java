@@ -0,0 +1,72 @@
+package com.trikaar.module.sales.mapper;
+
+import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.entity.Sale;
+import com.trikaar.module.sales.entity.SaleItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sale entity → {@link SaleResponse} mapping ({@link SaleMapper}) without I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaleMappingBenchmark {
+
+    @Param({ "5", "50", "200" })
+    int lines;
+
+    private SaleMapper saleMapper;
+    private Sale sale;
+
+    @Setup
+    public void setUp() {
+        saleMapper = new SaleMapper();
+
+        sale = Sale.builder()
+                .transactionNumber("TXN-20260101-000001")
+                .employeeId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .saleDate(LocalDateTime.now())
+                .paymentMethod(Sale.PaymentMethod.UPI)
+                .status(Sale.SaleStatus.COMPLETED)
+                .locked(true)
+                .build();
+        sale.setId(UUID.randomUUID());
+
+        List<SaleItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            SaleItem item = SaleItem.builder()
+                    .sale(sale)
+                    .productId(UUID.randomUUID())
+                    .productName("Product " + i)
+                    .sku("SKU-" + i)
+                    .quantity(BigDecimal.valueOf(2))
+                    .unitPrice(new BigDecimal("149.50"))
+                    .costPrice(new BigDecimal("99.00"))
+                    .discountAmount(BigDecimal.ZERO)
+                    .taxAmount(new BigDecimal("53.82"))
+                    .taxPercentage(BigDecimal.valueOf(18))
+                    .lineTotal(new BigDecimal("352.82"))
+                    .build();
+            item.setId(UUID.randomUUID());
+            items.add(item);
+        }
+        sale.setItems(items);
+    }
+
+    @Benchmark
+    public SaleResponse toResponse() {
+        return saleMapper.toResponse(sale, "Asha Rao", "Vikram Shah");
+    }
+}
@@ -0,0 +1,68 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.module.inventory.entity.Product;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BigDecimal pricing and tax math of {@code createSale} for one basket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalePricingBenchmark {
+
+    @Param({ "5", "50", "200" })
+    int lines;
+
+    private List<Product> products;
+    private List<BigDecimal> quantities;
+    private List<BigDecimal> discounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        products = new ArrayList<>(lines);
+        quantities = new ArrayList<>(lines);
+        discounts = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Product product = Product.builder()
+                    .sku("SKU-" + i)
+                    .productName("Product " + i)
+                    .unit("PCS")
+                    .costPrice(BigDecimal.valueOf(random.nextInt(50_000), 2))
+                    .sellingPrice(BigDecimal.valueOf(100 + random.nextInt(90_000), 2))
+                    .taxPercentage(BigDecimal.valueOf(new int[] { 0, 5, 12, 18, 28 }[i % 5]))
+                    .taxable(i % 7 != 0)
+                    .build();
+            product.setId(UUID.randomUUID());
+            products.add(product);
+            quantities.add(BigDecimal.valueOf(1 + random.nextInt(5_000), 3));
+            discounts.add(i % 3 == 0 ? BigDecimal.valueOf(random.nextInt(500), 2) : null);
+        }
+    }
+
+    @Benchmark
+    public void priceBasket(Blackhole blackhole) {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal totalTax = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            SalePricing.LineAmounts line = SalePricing.priceLine(
+                    products.get(i), quantities.get(i), discounts.get(i));
+            subtotal = subtotal.add(line.subtotal());
+            totalTax = totalTax.add(line.tax());
+            blackhole.consume(line);
+        }
+        blackhole.consume(subtotal.add(totalTax));
+    }
+}
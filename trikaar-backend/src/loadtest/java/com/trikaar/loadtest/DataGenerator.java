@@ -0,0 +1,309 @@
+package com.trikaar.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.trikaar.module.auth.dto.RegisterBusinessRequest;
+import com.trikaar.module.sales.dto.SaleSyncRequest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Seeds synthetic tenants and reloads them for later runs.
+ *
+ * Businesses, employees and customers are created through the public API.
+ * Products have no create endpoint, so they are batch-inserted over JDBC.
+ * The sales history is posted through offline sync ({@code POST /sales/sync})
+ * with back-dated {@code soldAt}, so stock, loyalty, document numbers and
+ * daily roll-ups end up exactly as if the tills had rung the sales up.
+ */
+final class DataGenerator {
+
+    private static final String PASSWORD = "LoadTest#2024";
+    private static final int SYNC_BATCH_SIZE = 200;
+    private static final int[] HOUR_WEIGHTS = { 0, 0, 0, 0, 0, 0, 0, 0, 0,
+            3, 5, 7, 9, 8, 6, 5, 6, 8, 11, 12, 9, 4, 0, 0 };
+    private static final BigDecimal INITIAL_STOCK = new BigDecimal("1000000");
+
+    private final LoadTestSettings settings;
+    private final TrikaarClient client;
+    private final SyntheticRetailData data;
+
+    DataGenerator(LoadTestSettings settings, TrikaarClient client) {
+        this.settings = settings;
+        this.client = client;
+        this.data = new SyntheticRetailData(settings.maxItemsPerSale());
+    }
+
+    List<Tenant> seed() {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Tenant> tenants = new ArrayList<>();
+        for (int t = 0; t < settings.tenants(); t++) {
+            Tenant tenant = new Tenant("load-" + runId + "-" + t, "load_" + runId + "_" + t, PASSWORD);
+            register(tenant);
+            long started = System.currentTimeMillis();
+            seedProducts(tenant, new Random(settings.randomSeed() + t));
+            seedEmployees(tenant, t);
+            seedCustomers(tenant, t);
+            seedHistory(tenant, t);
+            LoadTest.log("Seeded %s in %ds", tenant.slug, (System.currentTimeMillis() - started) / 1000);
+            tenants.add(tenant);
+        }
+        writeTenantsFile(tenants);
+        return tenants;
+    }
+
+    /**
+     * Logs in to the tenants of an earlier seed run and loads their
+     * products, employees, customers and latest sales through the API.
+     */
+    List<Tenant> load() {
+        List<Tenant.Credentials> credentials;
+        try {
+            credentials = client.objectMapper().readValue(settings.tenantsFile().toFile(),
+                    new TypeReference<List<Tenant.Credentials>>() {
+                    });
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + settings.tenantsFile()
+                    + "; run the seed phase first (--phases=seed)", e);
+        }
+
+        List<Tenant> tenants = new ArrayList<>();
+        for (Tenant.Credentials credential : credentials) {
+            Tenant tenant = new Tenant(credential.slug(), credential.username(), credential.password());
+            client.login(tenant);
+            forEachPage(tenant, "/inventory/products/cursor", product -> tenant.products.add(new Tenant.ProductRef(
+                    UUID.fromString(product.path("id").asText()),
+                    product.path("sku").asText(),
+                    product.path("barcode").asText(null),
+                    product.path("productName").asText(),
+                    product.path("unit").asText(),
+                    product.path("sellingPrice").decimalValue(),
+                    product.path("taxPercentage").decimalValue())));
+            forEachPage(tenant, "/employees/cursor",
+                    employee -> tenant.employeeIds.add(UUID.fromString(employee.path("id").asText())));
+            forEachPage(tenant, "/customers/cursor",
+                    customer -> tenant.customerIds.add(UUID.fromString(customer.path("id").asText())));
+            loadRefundableSales(tenant);
+            LoadTest.log("Loaded %s: %d products, %d employees, %d customers", tenant.slug,
+                    tenant.products.size(), tenant.employeeIds.size(), tenant.customerIds.size());
+            tenants.add(tenant);
+        }
+        return tenants;
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void register(Tenant tenant) {
+        RegisterBusinessRequest request = new RegisterBusinessRequest();
+        request.setBusinessName("Load Test Mart " + tenant.slug);
+        request.setSlug(tenant.slug);
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        request.setAdminUsername(tenant.username);
+        request.setAdminEmail(tenant.username + "@example.com");
+        request.setAdminPassword(tenant.password);
+        request.setAdminFullName("Load Test Admin");
+        client.applyAuth(tenant, client.call(null, "POST", "/auth/register-business", request));
+    }
+
+    private void seedProducts(Tenant tenant, Random random) {
+        String sql = "INSERT INTO products (id, business_id, sku, barcode, product_name, category, unit, "
+                + "cost_price, selling_price, mrp, tax_percentage, current_stock, reorder_level, "
+                + "is_active, is_taxable, is_deleted, version, created_at, created_by) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, FALSE, 0, now(), NULL)";
+
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", settings.dbUser());
+        connectionProperties.setProperty("password", settings.dbPassword());
+        connectionProperties.setProperty("reWriteBatchedInserts", "true");
+
+        try (Connection connection = DriverManager.getConnection(settings.dbUrl(), connectionProperties);
+                PreparedStatement insert = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < settings.products(); i++) {
+                Tenant.ProductRef product = data.product(i, random);
+                BigDecimal costPrice = product.sellingPrice().multiply(new BigDecimal("0.78"))
+                        .setScale(2, RoundingMode.HALF_UP);
+                insert.setObject(1, product.id());
+                insert.setObject(2, tenant.businessId);
+                insert.setString(3, product.sku());
+                insert.setString(4, product.barcode());
+                insert.setString(5, product.name());
+                insert.setString(6, data.category(i));
+                insert.setString(7, product.unit());
+                insert.setBigDecimal(8, costPrice);
+                insert.setBigDecimal(9, product.sellingPrice());
+                insert.setBigDecimal(10, product.sellingPrice());
+                insert.setBigDecimal(11, product.taxPercentage());
+                insert.setBigDecimal(12, INITIAL_STOCK);
+                insert.setBigDecimal(13, BigDecimal.TEN);
+                insert.setBoolean(14, product.taxPercentage().signum() > 0);
+                insert.addBatch();
+                tenant.products.add(product);
+                if ((i + 1) % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Product seeding failed for " + tenant.slug, e);
+        }
+    }
+
+    private void seedEmployees(Tenant tenant, int tenantIndex) {
+        for (int i = 0; i < settings.employees(); i++) {
+            JsonNode employee = client.call(tenant, "POST", "/employees",
+                    data.employee(i, new Random(settings.randomSeed() * 31 + tenantIndex * 1_000L + i)));
+            tenant.employeeIds.add(UUID.fromString(employee.path("id").asText()));
+        }
+    }
+
+    private void seedCustomers(Tenant tenant, int tenantIndex) {
+        UUID[] ids = new UUID[settings.customers()];
+        inParallel(settings.customers(), i -> {
+            JsonNode customer = client.call(tenant, "POST", "/customers",
+                    data.customer(i, new Random(settings.randomSeed() * 37 + tenantIndex * 100_000L + i)));
+            ids[i] = UUID.fromString(customer.path("id").asText());
+        });
+        tenant.customerIds.addAll(List.of(ids));
+    }
+
+    /**
+     * A year (by default) of back-dated sales: busier weekends, a gentle
+     * seasonal swing, and an evening peak within each day.
+     */
+    private void seedHistory(Tenant tenant, int tenantIndex) {
+        List<SaleSyncRequest.SyncedSale> history = new ArrayList<>();
+        Random random = new Random(settings.randomSeed() * 41 + tenantIndex);
+        LocalDate today = LocalDate.now();
+
+        for (int daysAgo = settings.historyDays(); daysAgo >= 1; daysAgo--) {
+            LocalDate day = today.minusDays(daysAgo);
+            double weekday = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY
+                    ? 1.4 : 1.0;
+            double season = 1 + 0.25 * Math.sin(2 * Math.PI * day.getDayOfYear() / 365.0);
+            int sales = (int) Math.round(settings.salesPerDay() * weekday * season * (0.85 + random.nextDouble() * 0.3));
+
+            for (int n = 0; n < sales; n++) {
+                LocalDateTime soldAt = day.atTime(weightedHour(random), random.nextInt(60), random.nextInt(60));
+                history.add(new SaleSyncRequest.SyncedSale(
+                        "seed-" + tenant.slug + "-" + day + "-" + n, soldAt, data.sale(tenant, random)));
+            }
+        }
+        history.sort(Comparator.comparing(SaleSyncRequest.SyncedSale::getSoldAt));
+
+        int batches = (history.size() + SYNC_BATCH_SIZE - 1) / SYNC_BATCH_SIZE;
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger();
+        inParallel(batches, b -> {
+            List<SaleSyncRequest.SyncedSale> batch = history.subList(b * SYNC_BATCH_SIZE,
+                    Math.min((b + 1) * SYNC_BATCH_SIZE, history.size()));
+            JsonNode result = client.call(tenant, "POST", "/sales/sync", new SaleSyncRequest(batch));
+            created.addAndGet(result.path("created").asInt());
+            failed.addAndGet(result.path("failed").asInt());
+            if (done.incrementAndGet() % 50 == 0) {
+                LoadTest.log("  %s: %d/%d sync batches", tenant.slug, done.get(), batches);
+            }
+        });
+        LoadTest.log("  %s: %d historical sales created, %d failed", tenant.slug, created.get(), failed.get());
+        loadRefundableSales(tenant);
+    }
+
+    private void loadRefundableSales(Tenant tenant) {
+        JsonNode page = client.call(tenant, "GET", "/sales/cursor?size=200", null);
+        List<UUID> newestFirst = new ArrayList<>();
+        page.path("content").forEach(sale -> {
+            if ("COMPLETED".equals(sale.path("status").asText())) {
+                newestFirst.add(UUID.fromString(sale.path("id").asText()));
+            }
+        });
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            tenant.addRefundableSale(newestFirst.get(i));
+        }
+    }
+
+    private void forEachPage(Tenant tenant, String path, Consumer<JsonNode> consumer) {
+        String cursor = null;
+        do {
+            JsonNode page = client.call(tenant, "GET", path + "?size=200"
+                    + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : ""), null);
+            page.path("content").forEach(consumer);
+            cursor = page.path("hasNext").asBoolean() ? page.path("nextCursor").asText() : null;
+        } while (cursor != null);
+    }
+
+    private void writeTenantsFile(List<Tenant> tenants) {
+        try {
+            Path file = settings.tenantsFile();
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            client.objectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(),
+                    tenants.stream().map(Tenant::credentials).toList());
+            LoadTest.log("Tenant logins written to %s", file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write " + settings.tenantsFile(), e);
+        }
+    }
+
+    private void inParallel(int count, IntConsumer task) {
+        try (ExecutorService executor = Executors.newFixedThreadPool(settings.seedConcurrency())) {
+            List<Future<?>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> task.accept(index)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", e);
+        }
+    }
+
+    private static int weightedHour(Random random) {
+        int total = 0;
+        for (int weight : HOUR_WEIGHTS) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int hour = 0; hour < HOUR_WEIGHTS.length; hour++) {
+            roll -= HOUR_WEIGHTS[hour];
+            if (roll < 0) {
+                return hour;
+            }
+        }
+        return 12;
+    }
+}
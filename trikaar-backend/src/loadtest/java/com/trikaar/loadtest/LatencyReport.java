@@ -0,0 +1,95 @@
+package com.trikaar.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution, up to a minute)
+ * plus error counts by HTTP status.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    void record(String endpoint, int status, long latencyNanos) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.histogram.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (status < 200 || status >= 300) {
+            stats.errors.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    /** An arrival not sent because the client already had too many requests in flight. */
+    void dropped() {
+        dropped.increment();
+    }
+
+    /** An arrival with nothing to act on, e.g. a refund when no sale is left to refund. */
+    void skipped() {
+        skipped.increment();
+    }
+
+    void print(PrintStream out, double measuredSeconds) {
+        out.printf("%n%-44s %9s %8s %8s %9s %9s %9s %9s %9s  %s%n", "Endpoint", "Count", "Req/s",
+                "Errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "Error statuses");
+        long total = 0;
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            long count = histogram.getTotalCount();
+            total += count;
+            Map<Integer, Long> errors = new TreeMap<>();
+            entry.getValue().errors.forEach((status, counter) -> errors.put(status, counter.sum()));
+            out.printf("%-44s %9d %8.1f %8d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    entry.getKey(), count, count / measuredSeconds,
+                    errors.values().stream().mapToLong(Long::longValue).sum(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    errors.isEmpty() ? "" : errors);
+        }
+        out.printf("%nTotal: %d requests in %.0fs (%.1f req/s), %d dropped by the client, %d skipped%n",
+                total, measuredSeconds, total / measuredSeconds, dropped.sum(), skipped.sum());
+    }
+
+    /**
+     * Writes one HdrHistogram percentile distribution (.hgrm) per endpoint,
+     * in milliseconds, for plotting or comparing runs.
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            String fileName = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+                entry.getValue().histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Endpoint {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,52 @@
+package com.trikaar.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Load generator for a running Trikaar node.
+ *
+ * <pre>
+ * mvn -Ploadtest compile exec:exec -Dloadtest.args="--tenants=2 --rate=80 --duration-seconds=600"
+ * </pre>
+ *
+ * Phases: {@code seed} creates tenants with a catalogue, staff, customers
+ * and a year of sales, and records their logins in the tenants file;
+ * {@code run} replays the POS workload mix against them and prints
+ * per-endpoint latency percentiles. Run them together (the default) or
+ * seed once and run many times with {@code --phases=run}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromArgs(args);
+        TrikaarClient client = new TrikaarClient(settings.baseUrl());
+        DataGenerator generator = new DataGenerator(settings, client);
+
+        List<Tenant> tenants = settings.seed() ? generator.seed() : List.of();
+        if (!settings.run()) {
+            return;
+        }
+        if (tenants.isEmpty()) {
+            tenants = generator.load();
+        }
+
+        LatencyReport report = new WorkloadRunner(settings, client, tenants).run();
+        report.print(System.out, settings.duration().toMillis() / 1000.0);
+
+        Path histograms = Path.of("target", "loadtest",
+                "run-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        report.writeHistograms(histograms);
+        log("Latency histograms written to %s", histograms);
+    }
+
+    static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,129 @@
+package com.trikaar.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test options, parsed from {@code --key=value} program arguments.
+ * Unknown keys are rejected so a typo never silently runs the defaults.
+ */
+record LoadTestSettings(
+        String baseUrl,
+        String dbUrl,
+        String dbUser,
+        String dbPassword,
+        boolean seed,
+        boolean run,
+        Path tenantsFile,
+        int tenants,
+        int products,
+        int customers,
+        int employees,
+        int historyDays,
+        int salesPerDay,
+        int maxItemsPerSale,
+        int seedConcurrency,
+        double rate,
+        Map<Operation, Integer> mix,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        long randomSeed) {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("base-url", "http://localhost:8080/api");
+        DEFAULTS.put("db-url", "jdbc:postgresql://localhost:5432/trikaar_db");
+        DEFAULTS.put("db-user", "trikaar_user");
+        DEFAULTS.put("db-password", "trikaar_pass");
+        DEFAULTS.put("phases", "seed,run");
+        DEFAULTS.put("tenants-file", "target/loadtest/tenants.json");
+        DEFAULTS.put("tenants", "2");
+        DEFAULTS.put("products", "5000");
+        DEFAULTS.put("customers", "2000");
+        DEFAULTS.put("employees", "20");
+        DEFAULTS.put("history-days", "365");
+        DEFAULTS.put("sales-per-day", "150");
+        DEFAULTS.put("max-items-per-sale", "8");
+        DEFAULTS.put("seed-concurrency", "8");
+        DEFAULTS.put("rate", "50");
+        DEFAULTS.put("mix", "scan:55,search:15,checkout:20,refund:2,dashboard:8");
+        DEFAULTS.put("warmup-seconds", "30");
+        DEFAULTS.put("duration-seconds", "300");
+        DEFAULTS.put("max-in-flight", "2000");
+        DEFAULTS.put("random-seed", "20240401");
+    }
+
+    static LoadTestSettings fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            if (!DEFAULTS.containsKey(key)) {
+                throw new IllegalArgumentException("Unknown option --" + key + "; known: " + DEFAULTS.keySet());
+            }
+            values.put(key, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String phases = values.get("phases");
+        return new LoadTestSettings(
+                stripTrailingSlash(values.get("base-url")),
+                values.get("db-url"),
+                values.get("db-user"),
+                values.get("db-password"),
+                phases.contains("seed"),
+                phases.contains("run"),
+                Path.of(values.get("tenants-file")),
+                Integer.parseInt(values.get("tenants")),
+                Integer.parseInt(values.get("products")),
+                Integer.parseInt(values.get("customers")),
+                Integer.parseInt(values.get("employees")),
+                Integer.parseInt(values.get("history-days")),
+                Integer.parseInt(values.get("sales-per-day")),
+                Integer.parseInt(values.get("max-items-per-sale")),
+                Integer.parseInt(values.get("seed-concurrency")),
+                Double.parseDouble(values.get("rate")),
+                parseMix(values.get("mix")),
+                Duration.ofSeconds(Long.parseLong(values.get("warmup-seconds"))),
+                Duration.ofSeconds(Long.parseLong(values.get("duration-seconds"))),
+                Integer.parseInt(values.get("max-in-flight")),
+                Long.parseLong(values.get("random-seed")));
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + part + "', expected operation:weight");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix has no operation with a positive weight");
+        }
+        return mix;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * What a till (or the back office) does against the API.
+     */
+    enum Operation {
+        SCAN, SEARCH, CHECKOUT, REFUND, DASHBOARD
+    }
+}
@@ -0,0 +1,187 @@
+package com.trikaar.loadtest;
+
+import com.trikaar.module.customer.dto.CustomerRequest;
+import com.trikaar.module.employee.dto.EmployeeRequest;
+import com.trikaar.module.employee.entity.Employee;
+import com.trikaar.module.sales.dto.CreateSaleRequest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Generates plausible kirana / supermarket data: a catalogue with a few
+ * best sellers and a long tail, walk-in and registered customers, and
+ * baskets of one to a handful of lines.
+ *
+ * Every method takes its {@link Random}, so seeding is reproducible for a
+ * given random seed while the live workload can use per-thread randoms.
+ */
+final class SyntheticRetailData {
+
+    private static final List<Category> CATEGORIES = List.of(
+            new Category("Groceries", "PCS", 5, 40, 450,
+                    List.of("Basmati Rice", "Toor Dal", "Atta", "Sugar", "Rock Salt", "Poha", "Besan", "Rava")),
+            new Category("Dairy", "PCS", 0, 25, 320,
+                    List.of("Toned Milk", "Paneer", "Curd", "Butter", "Ghee", "Cheese Slices", "Buttermilk")),
+            new Category("Beverages", "PCS", 12, 20, 600,
+                    List.of("Tea", "Filter Coffee", "Mango Drink", "Soda", "Green Tea", "Energy Drink")),
+            new Category("Snacks", "PCS", 12, 10, 250,
+                    List.of("Bhujia", "Potato Chips", "Cream Biscuits", "Cookies", "Namkeen Mix", "Rusk")),
+            new Category("Personal Care", "PCS", 18, 30, 900,
+                    List.of("Bath Soap", "Shampoo", "Toothpaste", "Hair Oil", "Face Wash", "Body Lotion")),
+            new Category("Household", "PCS", 18, 25, 700,
+                    List.of("Detergent", "Dishwash Bar", "Floor Cleaner", "Agarbatti", "Garbage Bags")),
+            new Category("Fresh Produce", "KG", 0, 20, 180,
+                    List.of("Onion", "Tomato", "Potato", "Banana", "Apple", "Green Chilli", "Ginger")),
+            new Category("Stationery", "PCS", 12, 5, 350,
+                    List.of("Notebook", "Ball Pen", "Pencil Box", "Geometry Set", "Sketch Pens")));
+
+    private static final List<String> BRANDS = List.of(
+            "Amrit", "Desh", "Ganga", "Himalaya Valley", "Kaveri", "Lotus", "Maharaja", "Nilgiri",
+            "Sagar", "Surya", "Tulsi", "Vasant");
+
+    private static final List<String> SIZES = List.of("100g", "200g", "500g", "1kg", "250ml", "500ml", "1L", "Pack of 4");
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "Aarav", "Ananya", "Arjun", "Diya", "Ishaan", "Kavya", "Meera", "Nikhil", "Pooja", "Rahul",
+            "Riya", "Rohan", "Saanvi", "Sneha", "Tanvi", "Varun", "Vikram", "Yash", "Zoya", "Farhan");
+
+    private static final List<String> LAST_NAMES = List.of(
+            "Sharma", "Patel", "Iyer", "Reddy", "Nair", "Gupta", "Khan", "Das", "Joshi", "Menon",
+            "Singh", "Kulkarni", "Banerjee", "Pillai", "Chopra");
+
+    private final int maxItemsPerSale;
+
+    SyntheticRetailData(int maxItemsPerSale) {
+        this.maxItemsPerSale = maxItemsPerSale;
+    }
+
+    Tenant.ProductRef product(int index, Random random) {
+        Category category = CATEGORIES.get(index % CATEGORIES.size());
+        String brand = BRANDS.get(random.nextInt(BRANDS.size()));
+        String item = category.items().get(random.nextInt(category.items().size()));
+        String name = "KG".equals(category.unit())
+                ? item + " (" + brand + ")"
+                : brand + " " + item + " " + SIZES.get(random.nextInt(SIZES.size()));
+
+        // Log-uniform prices: many cheap items, few expensive ones
+        double logMin = Math.log(category.minPrice());
+        double logMax = Math.log(category.maxPrice());
+        BigDecimal sellingPrice = BigDecimal.valueOf(Math.exp(logMin + random.nextDouble() * (logMax - logMin)))
+                .setScale(0, RoundingMode.HALF_UP);
+
+        return new Tenant.ProductRef(UUID.randomUUID(), String.format("SKU-%06d", index),
+                ean13(String.format("890%09d", index)), name + " #" + index, category.unit(),
+                sellingPrice, BigDecimal.valueOf(category.taxPercentage()));
+    }
+
+    String category(int index) {
+        return CATEGORIES.get(index % CATEGORIES.size()).name();
+    }
+
+    CustomerRequest customer(int index, Random random) {
+        CustomerRequest request = new CustomerRequest();
+        request.setFirstName(pick(FIRST_NAMES, random));
+        request.setLastName(pick(LAST_NAMES, random));
+        request.setPhone(String.format("98%08d", index));
+        if (random.nextInt(3) == 0) {
+            request.setEmail("customer" + index + "@example.com");
+        }
+        request.setCity("Pune");
+        request.setState("Maharashtra");
+        return request;
+    }
+
+    EmployeeRequest employee(int index, Random random) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmployeeCode(String.format("EMP-%04d", index));
+        request.setFirstName(pick(FIRST_NAMES, random));
+        request.setLastName(pick(LAST_NAMES, random));
+        request.setDateOfJoining(LocalDate.now().minusDays(30 + random.nextInt(1500)));
+        request.setDesignation(index == 0 ? "Store Manager" : "Cashier");
+        request.setEmploymentType(index % 5 == 4 ? Employee.EmploymentType.PART_TIME
+                : Employee.EmploymentType.FULL_TIME);
+        request.setWageType(Employee.WageType.MONTHLY);
+        request.setBaseSalary(BigDecimal.valueOf(15_000 + random.nextInt(20) * 1_000));
+        return request;
+    }
+
+    /**
+     * A basket rung up by a random cashier. About 40% of sales are to a
+     * registered customer; the rest are walk-ins.
+     */
+    CreateSaleRequest sale(Tenant tenant, Random random) {
+        int lines = 1 + (int) Math.floor(Math.pow(random.nextDouble(), 2) * maxItemsPerSale);
+        List<CreateSaleRequest.SaleItemRequest> items = new ArrayList<>(lines);
+        Set<UUID> picked = new HashSet<>();
+        BigDecimal estimatedTotal = BigDecimal.ZERO;
+
+        for (int i = 0; i < lines; i++) {
+            Tenant.ProductRef product = tenant.products.get(popularIndex(tenant.products.size(), random));
+            if (!picked.add(product.id())) {
+                continue;
+            }
+            BigDecimal quantity = "KG".equals(product.unit())
+                    ? BigDecimal.valueOf(250 + random.nextInt(8) * 250L, 3)
+                    : BigDecimal.valueOf(1 + (random.nextInt(4) == 0 ? random.nextInt(3) : 0));
+            items.add(new CreateSaleRequest.SaleItemRequest(product.id(), quantity, null));
+            estimatedTotal = estimatedTotal.add(product.sellingPrice().multiply(quantity)
+                    .multiply(BigDecimal.ONE.add(product.taxPercentage().movePointLeft(2))));
+        }
+
+        CreateSaleRequest request = new CreateSaleRequest();
+        request.setEmployeeId(pick(tenant.employeeIds, random));
+        if (!tenant.customerIds.isEmpty() && random.nextInt(5) < 2) {
+            request.setCustomerId(pick(tenant.customerIds, random));
+        }
+        request.setItems(items);
+        int payment = random.nextInt(100);
+        request.setPaymentMethod(payment < 45 ? "CASH" : payment < 80 ? "UPI" : "CARD");
+        // Cash is rounded up to the next 100, as customers hand over notes
+        request.setAmountPaid(estimatedTotal.divide(BigDecimal.valueOf(100), 0, RoundingMode.CEILING)
+                .add(BigDecimal.ONE).movePointRight(2));
+        return request;
+    }
+
+    /** A prefix of a word from a popular product's name, as a cashier would type it. */
+    String searchTerm(Tenant tenant, Random random) {
+        String name = tenant.products.get(popularIndex(tenant.products.size(), random)).name();
+        String[] words = name.split(" ");
+        String word = words[random.nextInt(Math.max(1, words.length - 1))];
+        return word.substring(0, Math.min(word.length(), 3 + random.nextInt(3)));
+    }
+
+    /**
+     * Skewed pick: the first few percent of the catalogue take most of the
+     * volume, as best sellers do in a real store.
+     */
+    static int popularIndex(int size, Random random) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), 3)));
+    }
+
+    static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private static String ean13(String first12) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = first12.charAt(i) - '0';
+            sum += i % 2 == 0 ? digit : digit * 3;
+        }
+        return first12 + (10 - sum % 10) % 10;
+    }
+
+    private record Category(String name, String unit, int taxPercentage, int minPrice, int maxPrice,
+            List<String> items) {
+    }
+}
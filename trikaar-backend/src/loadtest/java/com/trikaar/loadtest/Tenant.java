@@ -0,0 +1,68 @@
+package com.trikaar.loadtest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One synthetic business: its admin login and the reference data the
+ * workload picks from.
+ */
+final class Tenant {
+
+    private static final int MAX_REFUNDABLE_SALES = 2_000;
+
+    final String slug;
+    final String username;
+    final String password;
+    final ReentrantLock loginLock = new ReentrantLock();
+
+    volatile UUID businessId;
+    volatile String accessToken;
+    volatile long tokenExpiresAtMs;
+
+    final List<ProductRef> products = new ArrayList<>();
+    final List<UUID> employeeIds = new ArrayList<>();
+    final List<UUID> customerIds = new ArrayList<>();
+
+    private final ConcurrentLinkedDeque<UUID> refundableSales = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger refundableCount = new AtomicInteger();
+
+    Tenant(String slug, String username, String password) {
+        this.slug = slug;
+        this.username = username;
+        this.password = password;
+    }
+
+    void addRefundableSale(UUID saleId) {
+        refundableSales.addFirst(saleId);
+        if (refundableCount.incrementAndGet() > MAX_REFUNDABLE_SALES && refundableSales.pollLast() != null) {
+            refundableCount.decrementAndGet();
+        }
+    }
+
+    /** Most recent sale not yet refunded, or null. Each sale is handed out once. */
+    UUID takeRefundableSale() {
+        UUID saleId = refundableSales.pollFirst();
+        if (saleId != null) {
+            refundableCount.decrementAndGet();
+        }
+        return saleId;
+    }
+
+    Credentials credentials() {
+        return new Credentials(slug, username, password);
+    }
+
+    record ProductRef(UUID id, String sku, String barcode, String name, String unit,
+            BigDecimal sellingPrice, BigDecimal taxPercentage) {
+    }
+
+    /** What the tenants file stores, so a later run can log in again. */
+    record Credentials(String slug, String username, String password) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.trikaar.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trikaar.module.auth.dto.LoginRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Thin JSON client for the REST API. Requests go through the full servlet
+ * stack of the node under test: security filter, controller, service.
+ */
+final class TrikaarClient {
+
+    /** Re-login this long before the access token expires. */
+    private static final long TOKEN_REFRESH_MARGIN_MS = 60_000;
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    TrikaarClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Sends one request. Transport failures come back as status 0 so the
+     * workload can count them like any other error.
+     */
+    Response send(Tenant tenant, String method, String path, Object body, Map<String, String> headers) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json");
+            if (tenant != null) {
+                request.header("Authorization", "Bearer " + accessToken(tenant));
+            }
+            headers.forEach(request::header);
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode json = response.body().length > 0 ? readTree(response.body()) : null;
+            return new Response(response.statusCode(), json);
+        } catch (IOException e) {
+            return new Response(0, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, null);
+        }
+    }
+
+    /**
+     * Sends a request that must succeed and returns its {@code data} node.
+     */
+    JsonNode call(Tenant tenant, String method, String path, Object body) {
+        Response response = send(tenant, method, path, body, Map.of());
+        if (!response.isSuccess()) {
+            throw new IllegalStateException(method + " " + path + " failed with HTTP " + response.status()
+                    + (response.body() != null ? ": " + response.body().path("message").asText() : ""));
+        }
+        return response.body().path("data");
+    }
+
+    void login(Tenant tenant) {
+        JsonNode auth = call(null, "POST", "/auth/login",
+                new LoginRequest(tenant.username, tenant.password, tenant.slug));
+        applyAuth(tenant, auth);
+    }
+
+    void applyAuth(Tenant tenant, JsonNode auth) {
+        tenant.accessToken = auth.path("accessToken").asText();
+        tenant.tokenExpiresAtMs = System.currentTimeMillis() + auth.path("expiresIn").asLong() * 1000;
+        tenant.businessId = UUID.fromString(auth.path("user").path("businessId").asText());
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private String accessToken(Tenant tenant) {
+        if (System.currentTimeMillis() < tenant.tokenExpiresAtMs - TOKEN_REFRESH_MARGIN_MS) {
+            return tenant.accessToken;
+        }
+        tenant.loginLock.lock();
+        try {
+            if (System.currentTimeMillis() >= tenant.tokenExpiresAtMs - TOKEN_REFRESH_MARGIN_MS) {
+                login(tenant);
+            }
+            return tenant.accessToken;
+        } finally {
+            tenant.loginLock.unlock();
+        }
+    }
+
+    private JsonNode readTree(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            // Not JSON (e.g. a proxy error page); keep the status, drop the body
+            return objectMapper.getNodeFactory().textNode(new String(body, StandardCharsets.UTF_8));
+        }
+    }
+
+    record Response(int status, JsonNode body) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
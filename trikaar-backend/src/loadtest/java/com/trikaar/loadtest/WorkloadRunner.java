@@ -0,0 +1,173 @@
+package com.trikaar.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.trikaar.loadtest.LoadTestSettings.Operation;
+import com.trikaar.module.sales.dto.RefundRequest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model workload: requests arrive as a Poisson process at a fixed rate,
+ * whatever the server's response times are, so a slow node builds a queue
+ * instead of quietly receiving less load. Each arrival runs on its own
+ * virtual thread, and latency is measured from the arrival's scheduled time,
+ * so client-side queueing is included rather than hidden.
+ */
+final class WorkloadRunner {
+
+    private final LoadTestSettings settings;
+    private final TrikaarClient client;
+    private final List<Tenant> tenants;
+    private final SyntheticRetailData data;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    WorkloadRunner(LoadTestSettings settings, TrikaarClient client, List<Tenant> tenants) {
+        this.settings = settings;
+        this.client = client;
+        this.tenants = tenants;
+        this.data = new SyntheticRetailData(settings.maxItemsPerSale());
+        this.operations = settings.mix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Runs the warm-up and then the measured window. Requests arriving during
+     * warm-up are sent but not recorded.
+     */
+    LatencyReport run() {
+        LatencyReport report = new LatencyReport();
+        LatencyReport warmupReport = new LatencyReport();
+        Random random = new Random(settings.randomSeed());
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        LoadTest.log("Running %.1f req/s for %ds (+%ds warm-up) across %d tenants, mix %s",
+                settings.rate(), settings.duration().toSeconds(), settings.warmup().toSeconds(),
+                tenants.size(), settings.mix());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long next = start;
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = nextOperation(random);
+                Tenant tenant = tenants.get(random.nextInt(tenants.size()));
+                LatencyReport target = next >= measureFrom ? report : warmupReport;
+                long scheduledAt = next;
+
+                if (inFlight.incrementAndGet() > settings.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    target.dropped();
+                } else {
+                    executor.execute(() -> {
+                        try {
+                            execute(operation, tenant, scheduledAt, target);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+                next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            }
+        }
+        return report;
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void execute(Operation operation, Tenant tenant, long scheduledAt, LatencyReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case SCAN -> {
+                Tenant.ProductRef product = tenant.products.get(
+                        SyntheticRetailData.popularIndex(tenant.products.size(), random));
+                if (product.barcode() != null && random.nextInt(10) > 0) {
+                    get(tenant, "GET /inventory/products/barcode/{barcode}",
+                            "/inventory/products/barcode/" + product.barcode(), scheduledAt, report);
+                } else {
+                    get(tenant, "GET /inventory/products/sku/{sku}",
+                            "/inventory/products/sku/" + encode(product.sku()), scheduledAt, report);
+                }
+            }
+            case SEARCH -> get(tenant, "GET /inventory/products/search/quick",
+                    "/inventory/products/search/quick?limit=20&q=" + encode(data.searchTerm(tenant, random)),
+                    scheduledAt, report);
+            case CHECKOUT -> {
+                TrikaarClient.Response response = client.send(tenant, "POST", "/sales", data.sale(tenant, random),
+                        Map.of("Idempotency-Key", UUID.randomUUID().toString()));
+                report.record("POST /sales", response.status(), System.nanoTime() - scheduledAt);
+                if (response.isSuccess()) {
+                    tenant.addRefundableSale(UUID.fromString(response.body().path("data").path("id").asText()));
+                }
+            }
+            case REFUND -> {
+                UUID saleId = tenant.takeRefundableSale();
+                if (saleId == null) {
+                    report.skipped();
+                    return;
+                }
+                RefundRequest request = new RefundRequest(saleId, "Customer return (load test)", null, null);
+                TrikaarClient.Response response = client.send(tenant, "POST", "/sales/refund", request,
+                        Map.of("Idempotency-Key", UUID.randomUUID().toString()));
+                report.record("POST /sales/refund", response.status(), System.nanoTime() - scheduledAt);
+            }
+            case DASHBOARD -> dashboard(tenant, random, scheduledAt, report);
+        }
+    }
+
+    /** What the back-office dashboard polls. */
+    private void dashboard(Tenant tenant, Random random, long scheduledAt, LatencyReport report) {
+        LocalDate today = LocalDate.now();
+        switch (random.nextInt(4)) {
+            case 0 -> get(tenant, "GET /reports/daily-sales", "/reports/daily-sales?date=" + today,
+                    scheduledAt, report);
+            case 1 -> get(tenant, "GET /reports/monthly-revenue", "/reports/monthly-revenue?year="
+                    + today.getYear() + "&month=" + today.getMonthValue(), scheduledAt, report);
+            case 2 -> get(tenant, "GET /inventory/stock-value", "/inventory/stock-value", scheduledAt, report);
+            default -> get(tenant, "GET /sales/cursor", "/sales/cursor?size=20", scheduledAt, report);
+        }
+    }
+
+    private void get(Tenant tenant, String endpoint, String path, long scheduledAt, LatencyReport report) {
+        TrikaarClient.Response response = client.send(tenant, "GET", path, null, Map.of());
+        report.record(endpoint, response.status(), System.nanoTime() - scheduledAt);
+    }
+
+    private Operation nextOperation(Random random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for the admin module.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.admin")
+public class AdminProperties {
+
+    private ConfigSync configSync = new ConfigSync();
+
+    @Data
+    public static class ConfigSync {
+        /** Listen for config changes made by other nodes (Postgres LISTEN/NOTIFY). */
+        private boolean enabled = true;
+
+        private String channel = "admin_config_changed";
+
+        /** How long one wait for notifications blocks before checking for shutdown. */
+        private int pollTimeoutMs = 5000;
+
+        /** Pause before reconnecting after the listener connection fails. */
+        private long reconnectBackoffMs = 5000;
+    }
+}
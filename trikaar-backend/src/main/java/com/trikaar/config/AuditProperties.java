@@ -0,0 +1,38 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for the audit log pipeline.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.audit")
+public class AuditProperties {
+
+    /**
+     * Queue audit entries and write them in batches from a background thread.
+     * false = write each entry synchronously on the calling thread.
+     */
+    private boolean async = true;
+
+    private int queueCapacity = 10_000;
+
+    private int batchSize = 100;
+
+    /** Longest an entry waits in the queue before its batch is flushed. */
+    private long flushIntervalMs = 200;
+
+    /** How long a caller may block on a full queue before the entry is spilled to disk. */
+    private long enqueueTimeoutMs = 5;
+
+    /** Local file receiving entries that could not be queued or written. Replayed when the writer is idle. */
+    private String spillFile = "./data/audit-spill.jsonl";
+
+    /** Pause before retrying the spill file after a failed replay. */
+    private long replayBackoffMs = 30_000;
+
+    private long shutdownTimeoutMs = 5_000;
+}
@@ -0,0 +1,42 @@
+package com.trikaar.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring cache setup. Caches are Caffeine-backed (see spring.cache.* properties)
+ * and keyed per business. Declaring the cache manager here turns off Spring
+ * Boot's cache auto-configuration, so spring.cache.* is bound explicitly.
+ *
+ * Caches are local to each node: an eviction on one node does not reach the
+ * others, which serve the old value until it expires.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String LOYALTY_CONFIG = "loyaltyConfig";
+
+    /**
+     * Puts and evictions are deferred until the surrounding transaction commits,
+     * so a concurrent reader cannot re-cache a value that is about to be replaced.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            caffeineCacheManager.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,69 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for database routing. The primary
+ * connection itself is configured with the standard spring.datasource.*
+ * properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.datasource")
+public class DatabaseProperties {
+
+    private Replica replica = new Replica();
+
+    private Partitions partitions = new Partitions();
+
+    /**
+     * Read-only transactions go to a streaming replica. Its pool is configured
+     * with trikaar.datasource.replica.hikari.* (same keys as spring.datasource.hikari.*).
+     */
+    @Data
+    public static class Replica {
+        private boolean enabled = false;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /** Replication lag above which reads go to the primary until the replica catches up. */
+        private long maxLagMs = 5000;
+
+        private long lagCheckIntervalMs = 1000;
+
+        /**
+         * After a user commits a write, their reads use the primary for this long,
+         * so they see their own changes. Keep it above max-lag-ms.
+         */
+        private long readYourWritesMs = 6000;
+
+        /** Users tracked for read-your-writes; the oldest are dropped first. */
+        private int maxTrackedWriters = 100_000;
+    }
+
+    /**
+     * Upkeep of the monthly partitions of stock_movements, audit_logs and
+     * loyalty_transactions, run at startup and then on the cron.
+     */
+    @Data
+    public static class Partitions {
+        private boolean enabled = true;
+
+        /** Months ahead of the current one that always have a partition. */
+        private int monthsAhead = 3;
+
+        /**
+         * Months kept attached; older partitions are moved to the archive schema
+         * and no longer show up in the application. 0 keeps everything.
+         */
+        private int retentionMonths = 0;
+
+        private String cron = "0 30 2 * * *";
+    }
+}
@@ -0,0 +1,23 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for streaming CSV exports.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.export")
+public class ExportProperties {
+
+    /** Rows fetched per round trip from the database cursor; also bounds rows held in memory. */
+    private int fetchSize = 1000;
+
+    /** Longest date range a single export may cover. */
+    private int maxRangeDays = 366;
+
+    /** Exports running at once on this node; each holds one connection for its whole duration. */
+    private int maxConcurrent = 2;
+}
@@ -0,0 +1,25 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for Idempotency-Key handling.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.idempotency")
+public class IdempotencyProperties {
+
+    /** How long a key's stored response is replayed. */
+    private long ttlMs = 86400000;
+
+    /** Completed responses kept in memory per node. */
+    private int cacheMaxEntries = 10000;
+
+    private long cleanupIntervalMs = 600000;
+
+    /** Expired rows deleted per statement. */
+    private int cleanupBatchSize = 1000;
+}
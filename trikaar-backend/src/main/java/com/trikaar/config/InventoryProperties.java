@@ -0,0 +1,52 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for the inventory module.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.inventory")
+public class InventoryProperties {
+
+    private CatalogCache catalogCache = new CatalogCache();
+    private ProductImport productImport = new ProductImport();
+
+    @Data
+    public static class CatalogCache {
+        private boolean enabled = true;
+
+        /** Products kept per business; least recently used are evicted first. */
+        private int maxEntriesPerBusiness = 5000;
+
+        /** Businesses kept in memory; the least recently active is dropped first. */
+        private int maxBusinesses = 200;
+
+        /** Upper bound on staleness for changes made by other nodes. */
+        private long ttlMs = 600000;
+    }
+
+    @Data
+    public static class ProductImport {
+        /** Uploads are spooled here until their import has run. */
+        private String workDir = "./data/imports";
+
+        /** Largest accepted upload. */
+        private long maxFileBytes = 100L * 1024 * 1024;
+
+        /** Rows upserted per transaction. */
+        private int chunkSize = 500;
+
+        /** Chunks written in parallel (shared by all running imports; one connection each). */
+        private int writerThreads = 2;
+
+        /** Row errors kept per import; later ones are only counted. */
+        private int maxStoredErrors = 10000;
+
+        /** A RUNNING import without progress for this long is treated as abandoned (e.g. node restart). */
+        private long staleAfterMs = 900000;
+    }
+}
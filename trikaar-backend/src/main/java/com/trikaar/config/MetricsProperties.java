@@ -0,0 +1,38 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Type-safe configuration properties for custom Micrometer metrics.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.metrics")
+public class MetricsProperties {
+
+    /** Businesses that get their own "business" tag value; any further ones share "other". */
+    private int maxTaggedBusinesses = 20;
+
+    /** Always tagged individually (e.g. the largest tenants), counted within the limit. */
+    private List<UUID> taggedBusinesses = new ArrayList<>();
+
+    private VirtualThreadPinning virtualThreadPinning = new VirtualThreadPinning();
+
+    @Data
+    public static class VirtualThreadPinning {
+        /** Record jdk.VirtualThreadPinned events while virtual threads are enabled. */
+        private boolean enabled = true;
+
+        /** Pins shorter than this are not recorded (JFR event threshold). */
+        private long thresholdMs = 20;
+
+        /** Distinct pinning sites whose stack trace is logged once; later sites are only counted. */
+        private int maxReportedSites = 50;
+    }
+}
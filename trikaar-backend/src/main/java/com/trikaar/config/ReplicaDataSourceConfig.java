@@ -0,0 +1,72 @@
+package com.trikaar.config;
+
+import com.trikaar.shared.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source with primary/replica routing when
+ * trikaar.datasource.replica.enabled=true; otherwise this class is inactive and
+ * Spring Boot's single pool is used as before.
+ *
+ * The pools are deliberately not beans of their own: the replica must not show
+ * up in the health check (reads fall back to the primary when it is down), and
+ * nothing else should be able to inject it by accident. They report the usual
+ * hikaricp.* metrics, tagged with their pool names.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "trikaar.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+            DatabaseProperties databaseProperties, Environment environment, MeterRegistry meterRegistry) {
+        DatabaseProperties.Replica settings = databaseProperties.getReplica();
+        if (!StringUtils.hasText(settings.getUrl())) {
+            throw new IllegalStateException("trikaar.datasource.replica.url must be set when the replica is enabled");
+        }
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setMetricRegistry(meterRegistry);
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(settings.getUrl())
+                .username(settings.getUsername())
+                .password(settings.getPassword())
+                .build();
+        binder.bind("trikaar.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setReadOnly(true);
+        replica.setMetricRegistry(meterRegistry);
+
+        return new ReplicaRoutingDataSource(primary, replica, settings, meterRegistry);
+    }
+
+    /**
+     * Defers taking a connection until the first statement, when the
+     * transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
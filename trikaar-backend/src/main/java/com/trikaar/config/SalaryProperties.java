@@ -0,0 +1,25 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for the salary module.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.salary")
+public class SalaryProperties {
+
+    private PayrollRun payrollRun = new PayrollRun();
+
+    @Data
+    public static class PayrollRun {
+        /** Payouts inserted per transaction; progress is published after each chunk. */
+        private int chunkSize = 100;
+
+        /** A RUNNING run without progress for this long is treated as abandoned (e.g. node restart). */
+        private long staleAfterMs = 900000;
+    }
+}
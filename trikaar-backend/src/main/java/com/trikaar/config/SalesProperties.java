@@ -0,0 +1,62 @@
+package com.trikaar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Type-safe configuration properties for the sales / POS module.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "trikaar.sales")
+public class SalesProperties {
+
+    private Numbering numbering = new Numbering();
+    private GroupCommit groupCommit = new GroupCommit();
+    private Sync sync = new Sync();
+
+    @Data
+    public static class Numbering {
+        /**
+         * How many document numbers a node reserves per round trip.
+         * 1 = one counter update per sale, and no gaps from unused block
+         * tails. Numbers are reserved in their own transaction, so a sale or
+         * refund that rolls back after getting its number still leaves a gap.
+         */
+        private int blockSize = 20;
+    }
+
+    @Data
+    public static class GroupCommit {
+        /**
+         * Queue POS sales per business and commit them in micro-batches.
+         * Off = one transaction per sale.
+         */
+        private boolean enabled = false;
+
+        /** Most sales applied in one transaction. */
+        private int maxBatchSize = 32;
+
+        /** How long a committer waits for more sales before committing a partial batch. */
+        private long lingerMs = 2;
+
+        /** Sales waiting per business before new ones are rejected. */
+        private int laneCapacity = 500;
+
+        /** Committer threads; each holds one connection while a batch runs. */
+        private int committerThreads = 4;
+
+        /** How long a till waits for its sale to commit. */
+        private long responseTimeoutMs = 30000;
+    }
+
+    @Data
+    public static class Sync {
+        /** Largest offline batch accepted in one request. */
+        private int maxSalesPerRequest = 500;
+
+        /** Sales committed per transaction while syncing. */
+        private int chunkSize = 50;
+    }
+}
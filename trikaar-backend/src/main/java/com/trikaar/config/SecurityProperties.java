@@ -22,6 +22,8 @@ public class SecurityProperties {
         private String secretKey;
         private long accessTokenExpirationMs = 3600000; // 1 hour
         private long refreshTokenExpirationMs = 604800000; // 7 days
+        private int cacheMaxEntries = 10000; // verified tokens kept in memory, 0 = off
+        private long cacheTtlMs = 300000; // 5 minutes, never beyond token expiry
     }
 
     @Data
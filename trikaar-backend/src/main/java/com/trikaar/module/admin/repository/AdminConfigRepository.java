@@ -2,6 +2,8 @@ package com.trikaar.module.admin.repository;
 
 import com.trikaar.module.admin.entity.AdminConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,11 @@ public interface AdminConfigRepository extends JpaRepository<AdminConfig, UUID>
     Optional<AdminConfig> findByConfigKeyAndBusinessIdAndDeletedFalse(String key, UUID businessId);
 
     boolean existsByConfigKeyAndBusinessIdAndDeletedFalse(String key, UUID businessId);
+
+    /**
+     * Queues a Postgres notification; it is delivered to listeners only when
+     * the current transaction commits.
+     */
+    @Query(value = "SELECT CAST(pg_notify(:channel, :payload) AS TEXT)", nativeQuery = true)
+    String notifyChannel(@Param("channel") String channel, @Param("payload") String payload);
 }
@@ -17,5 +17,11 @@ public interface AdminConfigService {
 
     String getConfigValue(String key, String defaultValue);
 
+    /**
+     * Typed, immutable view of the current business's configs. Cheap to call
+     * on hot paths; do not hold on to it across requests.
+     */
+    ConfigSnapshot getSnapshot();
+
     void deleteConfig(String key);
 }
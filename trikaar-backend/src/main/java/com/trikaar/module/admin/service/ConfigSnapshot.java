@@ -0,0 +1,105 @@
+package com.trikaar.module.admin.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trikaar.shared.exception.BusinessRuleException;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable view of one business's admin configs, parsed once according to
+ * each row's {@code dataType} (STRING, NUMBER, BOOLEAN, JSON).
+ *
+ * Snapshots are replaced as a whole when a config changes, never modified.
+ */
+public final class ConfigSnapshot {
+
+    private final UUID businessId;
+    private final Map<String, Entry> entries;
+
+    public ConfigSnapshot(UUID businessId, Map<String, Entry> entries) {
+        this.businessId = businessId;
+        this.entries = Map.copyOf(entries);
+    }
+
+    public UUID getBusinessId() {
+        return businessId;
+    }
+
+    public boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.raw() : defaultValue;
+    }
+
+    public BigDecimal getDecimal(String key, BigDecimal defaultValue) {
+        return typed(key, "NUMBER", BigDecimal.class).orElse(defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return typed(key, "NUMBER", BigDecimal.class).map(BigDecimal::intValueExact).orElse(defaultValue);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return typed(key, "NUMBER", BigDecimal.class).map(BigDecimal::longValueExact).orElse(defaultValue);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return typed(key, "BOOLEAN", Boolean.class).orElse(defaultValue);
+    }
+
+    public Optional<JsonNode> getJson(String key) {
+        return typed(key, "JSON", JsonNode.class);
+    }
+
+    /**
+     * Parses a raw value for the given data type.
+     *
+     * @throws IllegalArgumentException when the value does not match the type
+     */
+    public static Object parse(String dataType, String raw, ObjectMapper objectMapper) {
+        return switch (dataType) {
+            case "NUMBER" -> new BigDecimal(raw.trim());
+            case "BOOLEAN" -> {
+                if (!"true".equalsIgnoreCase(raw.trim()) && !"false".equalsIgnoreCase(raw.trim())) {
+                    throw new IllegalArgumentException("Expected true or false but was '" + raw + "'");
+                }
+                yield Boolean.valueOf(raw.trim());
+            }
+            case "JSON" -> {
+                try {
+                    yield objectMapper.readTree(raw);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage(), e);
+                }
+            }
+            default -> raw;
+        };
+    }
+
+    private <T> Optional<T> typed(String key, String dataType, Class<T> type) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.value() == null) {
+            return Optional.empty();
+        }
+        if (!dataType.equals(entry.dataType())) {
+            throw new BusinessRuleException("CONFIG_TYPE_MISMATCH",
+                    "Configuration '" + key + "' is " + entry.dataType() + ", not " + dataType);
+        }
+        return Optional.of(type.cast(entry.value()));
+    }
+
+    /**
+     * One config: the stored string, its data type and the parsed value
+     * ({@code null} when the stored string does not parse).
+     */
+    public record Entry(String raw, String dataType, Object value) {
+    }
+}
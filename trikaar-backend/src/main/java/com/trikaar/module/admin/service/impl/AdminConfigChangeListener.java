@@ -0,0 +1,141 @@
+package com.trikaar.module.admin.service.impl;
+
+import com.trikaar.config.AdminProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Keeps admin config snapshots consistent across nodes.
+ *
+ * Holds one connection that LISTENs on the config channel and drops the
+ * snapshot of every business another node reports as changed. While the
+ * connection is down notifications can be missed, so all snapshots are
+ * dropped whenever it is (re)established.
+ *
+ * The connection is opened with the primary's settings but outside the pool:
+ * it stays open for the life of the node, which in the pool would take a slot
+ * from request work and trip Hikari's leak detection.
+ */
+@Slf4j
+@Component
+class AdminConfigChangeListener {
+
+    private final DataSource dataSource;
+    private final AdminConfigSnapshotCache snapshotCache;
+    private final AdminProperties.ConfigSync settings;
+    private final Counter received;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    AdminConfigChangeListener(DataSourceProperties dataSourceProperties,
+            AdminConfigSnapshotCache snapshotCache,
+            AdminProperties adminProperties,
+            MeterRegistry meterRegistry) {
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        this.snapshotCache = snapshotCache;
+        this.settings = adminProperties.getConfigSync();
+        this.received = meterRegistry.counter("trikaar.admin.config.notifications");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (!settings.getChannel().matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid admin config channel name: " + settings.getChannel());
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("admin-config-listener").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(settings.getPollTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Admin config listener connection failed, retrying in {} ms",
+                        settings.getReconnectBackoffMs(), e);
+            }
+            try {
+                Thread.sleep(settings.getReconnectBackoffMs());
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + settings.getChannel());
+        }
+        snapshotCache.invalidateAll();
+        log.info("Listening for admin config changes on channel '{}'", settings.getChannel());
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(settings.getPollTimeoutMs());
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+
+    /** Payload is {@code <businessId>:<nodeId>}; a node's own changes are already applied. */
+    private void handle(String payload) {
+        received.increment();
+        int separator = payload.indexOf(':');
+        if (separator < 0) {
+            log.warn("Ignoring malformed admin config notification '{}'", payload);
+            return;
+        }
+        if (payload.substring(separator + 1).equals(snapshotCache.nodeId())) {
+            return;
+        }
+        try {
+            snapshotCache.invalidate(UUID.fromString(payload.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed admin config notification '{}'", payload);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.trikaar.module.admin.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trikaar.module.admin.dto.AdminConfigRequest;
 import com.trikaar.module.admin.dto.AdminConfigResponse;
 import com.trikaar.module.admin.entity.AdminConfig;
 import com.trikaar.module.admin.repository.AdminConfigRepository;
 import com.trikaar.module.admin.service.AdminConfigService;
+import com.trikaar.module.admin.service.ConfigSnapshot;
 import com.trikaar.module.audit.entity.AuditLog;
 import com.trikaar.module.audit.service.AuditService;
 import com.trikaar.shared.context.TenantContext;
@@ -25,6 +27,8 @@ public class AdminConfigServiceImpl implements AdminConfigService {
 
     private final AdminConfigRepository adminConfigRepository;
     private final AuditService auditService;
+    private final AdminConfigSnapshotCache snapshotCache;
+    private final ObjectMapper objectMapper;
 
     @Override
     @Transactional
@@ -35,6 +39,10 @@ public class AdminConfigServiceImpl implements AdminConfigService {
                 .findByConfigKeyAndBusinessIdAndDeletedFalse(request.getConfigKey(), businessId)
                 .orElse(null);
 
+        String dataType = request.getDataType() != null ? request.getDataType()
+                : config != null ? config.getDataType() : "STRING";
+        validateValue(request.getConfigKey(), dataType, request.getConfigValue());
+
         String oldValue = null;
 
         if (config != null) {
@@ -60,6 +68,7 @@ public class AdminConfigServiceImpl implements AdminConfigService {
         }
 
         config = adminConfigRepository.save(config);
+        snapshotCache.publishChange(businessId);
 
         auditService.logAction(
                 AuditLog.AuditAction.CONFIG_CHANGED,
@@ -100,12 +109,13 @@ public class AdminConfigServiceImpl implements AdminConfigService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public String getConfigValue(String key, String defaultValue) {
-        UUID businessId = TenantContext.getBusinessId();
-        return adminConfigRepository.findByConfigKeyAndBusinessIdAndDeletedFalse(key, businessId)
-                .map(AdminConfig::getConfigValue)
-                .orElse(defaultValue);
+        return getSnapshot().getString(key, defaultValue);
+    }
+
+    @Override
+    public ConfigSnapshot getSnapshot() {
+        return snapshotCache.get(TenantContext.getBusinessId());
     }
 
     @Override
@@ -116,9 +126,21 @@ public class AdminConfigServiceImpl implements AdminConfigService {
                 .orElseThrow(() -> new ResourceNotFoundException("AdminConfig", "key", key));
         config.setDeleted(true);
         adminConfigRepository.save(config);
+        snapshotCache.publishChange(businessId);
         log.info("Admin config '{}' deleted", key);
     }
 
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void validateValue(String key, String dataType, String value) {
+        try {
+            ConfigSnapshot.parse(dataType, value, objectMapper);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("INVALID_CONFIG_VALUE",
+                    "Configuration '" + key + "' must be a valid " + dataType + ": " + e.getMessage());
+        }
+    }
+
     private AdminConfigResponse mapToResponse(AdminConfig config) {
         return AdminConfigResponse.builder()
                 .id(config.getId().toString())
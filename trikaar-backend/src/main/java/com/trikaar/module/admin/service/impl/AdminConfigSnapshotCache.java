@@ -0,0 +1,146 @@
+package com.trikaar.module.admin.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trikaar.config.AdminProperties;
+import com.trikaar.module.admin.entity.AdminConfig;
+import com.trikaar.module.admin.repository.AdminConfigRepository;
+import com.trikaar.module.admin.service.ConfigSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-business {@link ConfigSnapshot}s, loaded with one query and replaced
+ * whole after a config change commits.
+ *
+ * Every invalidation bumps a generation counter; a load that overlapped an
+ * invalidation is returned to its caller but not cached, so a snapshot read
+ * before a change can never overwrite the one read after it.
+ */
+@Slf4j
+@Component
+class AdminConfigSnapshotCache {
+
+    private final AdminConfigRepository adminConfigRepository;
+    private final ObjectMapper objectMapper;
+    private final AdminProperties.ConfigSync syncSettings;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<UUID, ConfigSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter loads;
+
+    AdminConfigSnapshotCache(AdminConfigRepository adminConfigRepository,
+            ObjectMapper objectMapper,
+            AdminProperties adminProperties,
+            MeterRegistry meterRegistry) {
+        this.adminConfigRepository = adminConfigRepository;
+        this.objectMapper = objectMapper;
+        this.syncSettings = adminProperties.getConfigSync();
+        this.loads = meterRegistry.counter("trikaar.admin.config.snapshot.loads");
+
+        Gauge.builder("trikaar.admin.config.snapshots", snapshots, Map::size)
+                .description("Businesses with an admin config snapshot in memory")
+                .register(meterRegistry);
+    }
+
+    ConfigSnapshot get(UUID businessId) {
+        ConfigSnapshot snapshot = snapshots.get(businessId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long seen = generation.get();
+        snapshot = load(businessId);
+        if (generation.get() == seen) {
+            snapshots.putIfAbsent(businessId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Called inside the transaction that changed a config. Tells the other
+     * nodes (Postgres delivers the notification only if the transaction
+     * commits) and swaps in a fresh local snapshot after commit.
+     */
+    void publishChange(UUID businessId) {
+        if (syncSettings.isEnabled()) {
+            adminConfigRepository.notifyChannel(syncSettings.getChannel(), businessId + ":" + nodeId);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(businessId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    refresh(businessId);
+                }
+            }
+        });
+    }
+
+    void invalidate(UUID businessId) {
+        generation.incrementAndGet();
+        snapshots.remove(businessId);
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    /** Identifies this node in notification payloads, so it can skip its own changes. */
+    String nodeId() {
+        return nodeId;
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void refresh(UUID businessId) {
+        long seen = generation.incrementAndGet();
+        ConfigSnapshot snapshot;
+        try {
+            snapshot = load(businessId);
+        } catch (RuntimeException e) {
+            snapshots.remove(businessId);
+            log.warn("Reloading admin configs for business {} failed; dropped the snapshot", businessId, e);
+            return;
+        }
+        if (generation.get() == seen) {
+            snapshots.put(businessId, snapshot);
+        } else {
+            snapshots.remove(businessId);
+        }
+    }
+
+    private ConfigSnapshot load(UUID businessId) {
+        List<AdminConfig> configs = adminConfigRepository.findAllByBusinessIdAndDeletedFalse(businessId);
+        Map<String, ConfigSnapshot.Entry> entries = new HashMap<>(configs.size() * 2);
+        for (AdminConfig config : configs) {
+            Object value = null;
+            try {
+                value = ConfigSnapshot.parse(config.getDataType(), config.getConfigValue(), objectMapper);
+            } catch (IllegalArgumentException e) {
+                log.warn("Admin config '{}' of business {} is not a valid {}: {}",
+                        config.getConfigKey(), businessId, config.getDataType(), e.getMessage());
+            }
+            entries.put(config.getConfigKey(),
+                    new ConfigSnapshot.Entry(config.getConfigValue(), config.getDataType(), value));
+        }
+        loads.increment();
+        return new ConfigSnapshot(businessId, entries);
+    }
+}
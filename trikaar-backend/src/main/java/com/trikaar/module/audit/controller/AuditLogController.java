@@ -4,7 +4,9 @@ import com.trikaar.module.audit.entity.AuditLog;
 import com.trikaar.module.audit.repository.AuditLogRepository;
 import com.trikaar.shared.context.TenantContext;
 import com.trikaar.shared.dto.ApiResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
+import com.trikaar.shared.util.CursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -39,6 +42,24 @@ public class AuditLogController {
         return ResponseEntity.ok(ApiResponse.success(buildPagedResponse(logPage)));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "List audit logs, newest first (cursor paged, no totals)")
+    public ResponseEntity<ApiResponse<CursorResponse<AuditLog>>> getAuditLogsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        int pageSize = CursorResponse.clampPageSize(size);
+        CursorCodec.Position after = CursorCodec.decodePosition(cursor);
+
+        List<AuditLog> logs = auditLogRepository.findPageAfter(businessId,
+                after != null ? after.sortKeyAsDateTime() : CursorCodec.MAX_DATE_TIME,
+                after != null ? after.id() : CursorCodec.MAX_ID,
+                PageRequest.of(0, pageSize + 1));
+        return ResponseEntity.ok(ApiResponse.success(CursorResponse.of(logs, pageSize,
+                entry -> CursorCodec.encode(entry.getCreatedAt(), entry.getId()),
+                page -> page)));
+    }
+
     @GetMapping("/by-action/{action}")
     @Operation(summary = "Get audit logs by action type")
     public ResponseEntity<ApiResponse<PagedResponse<AuditLog>>> getByAction(
@@ -65,10 +65,12 @@ public class AuditLog extends BaseEntity {
 
         // Salary
         SALARY_PAYOUT,
+        PAYROLL_RUN_COMPLETED,
 
         // Inventory
         STOCK_ADJUSTED,
         PURCHASE_RECEIVED,
+        PRODUCT_IMPORT_COMPLETED,
 
         // Config
         CONFIG_CHANGED,
@@ -4,9 +4,12 @@ import com.trikaar.module.audit.entity.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -25,4 +28,16 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
 
     Page<AuditLog> findAllByBusinessIdAndPerformedByAndDeletedFalse(
             UUID businessId, UUID performedBy, Pageable pageable);
+
+    /**
+     * Keyset page ordered by createdAt DESC, id DESC: rows strictly after the given position.
+     * The row comparison is the range start of a scan on idx_audit_logs_keyset.
+     */
+    @Query("SELECT a FROM AuditLog a WHERE a.businessId = :businessId AND a.deleted = false " +
+            "AND (a.createdAt, a.id) < (:afterDate, :afterId) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLog> findPageAfter(@Param("businessId") UUID businessId,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 }
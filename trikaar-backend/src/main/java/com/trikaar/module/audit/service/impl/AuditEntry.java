@@ -0,0 +1,32 @@
+package com.trikaar.module.audit.service.impl;
+
+import com.trikaar.module.audit.entity.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Audit event captured on the request thread, including the tenant and user
+ * from {@code TenantContext}, which is cleared before the writer sees it.
+ * Also the line format of the spill file.
+ *
+ * {@code occurredAt} becomes the row's created_at, however late the row is
+ * written, so it lands in the monthly partition of the event itself. It is
+ * null only on lines spilled before it was recorded.
+ *
+ * {@code id} is assigned at capture too, so writing the same entry twice
+ * (a replay after a commit whose acknowledgement was lost) hits the existing
+ * row instead of adding a second one. Also null only on older spill lines.
+ */
+public record AuditEntry(
+        UUID id,
+        UUID businessId,
+        UUID userId,
+        AuditLog.AuditAction action,
+        String entityType,
+        UUID entityId,
+        String description,
+        String oldValue,
+        String newValue,
+        LocalDateTime occurredAt) {
+}
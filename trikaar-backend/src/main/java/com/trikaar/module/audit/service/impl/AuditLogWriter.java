@@ -0,0 +1,364 @@
+package com.trikaar.module.audit.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trikaar.config.AuditProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Background writer for audit entries.
+ *
+ * Callers enqueue into a bounded queue; a single thread drains it and inserts
+ * each batch in one transaction, so business transactions no longer hold a
+ * second pooled connection for their audit row. When the queue stays full or
+ * a batch cannot be written, the entries are appended to a local spill file
+ * and replayed once the writer is idle again.
+ *
+ * Rows are inserted with JDBC rather than through the entity, whose auditing
+ * listener would stamp created_at with the write time. created_at is the
+ * event's own time instead, so a row replayed after midnight on the 1st still
+ * lands in the previous month's partition. The id is the one assigned at
+ * capture and conflicting rows are skipped, so writing an entry twice is harmless.
+ *
+ * When a batch fails its entries are retried one at a time. An entry the
+ * database rejects outright is dropped and logged, since replaying it would
+ * fail forever; only entries that could not be attempted are spilled.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_AUDIT_LOG = "INSERT INTO audit_logs (id, business_id, action, " +
+            "entity_type, entity_id, description, performed_by, old_value, new_value, is_deleted, version, " +
+            "created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, 0, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditProperties properties;
+
+    private final BlockingQueue<AuditEntry> queue;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private final Counter enqueued;
+    private final Counter backpressure;
+    private final Counter written;
+    private final Counter spilled;
+    private final Counter replayed;
+    private final Counter dropped;
+    private final Counter writeFailures;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long nextReplayAt;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            AuditProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.spillFile = Paths.get(properties.getSpillFile());
+        this.replayFile = Paths.get(properties.getSpillFile() + ".replay");
+
+        Gauge.builder("trikaar.audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        this.enqueued = meterRegistry.counter("trikaar.audit.enqueued");
+        this.backpressure = meterRegistry.counter("trikaar.audit.backpressure");
+        this.written = meterRegistry.counter("trikaar.audit.written");
+        this.spilled = meterRegistry.counter("trikaar.audit.spilled");
+        this.replayed = meterRegistry.counter("trikaar.audit.replayed");
+        this.dropped = meterRegistry.counter("trikaar.audit.dropped");
+        this.writeFailures = meterRegistry.counter("trikaar.audit.write.failures");
+        this.batchTimer = meterRegistry.timer("trikaar.audit.batch.write");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isAsync()) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("audit-writer").daemon().start(this::run);
+    }
+
+    /**
+     * Queues an entry. Blocks for at most {@code enqueueTimeoutMs} when the
+     * queue is full, then spills the entry to disk instead.
+     */
+    public void submit(AuditEntry entry) {
+        if (!properties.isAsync()) {
+            List<AuditEntry> unwritten = persist(List.of(entry));
+            if (!unwritten.isEmpty()) {
+                spill(unwritten);
+            }
+            return;
+        }
+        if (queue.offer(entry)) {
+            enqueued.increment();
+            return;
+        }
+
+        backpressure.increment();
+        try {
+            if (queue.offer(entry, properties.getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                enqueued.increment();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        spill(List.of(entry));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<AuditEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("Audit writer stopped with {} queued entries, spilling to {}", remaining.size(), spillFile);
+            spill(remaining);
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void run() {
+        int batchSize = properties.getBatchSize();
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEntry first = queue.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                List<AuditEntry> unwritten = persist(batch);
+                if (!unwritten.isEmpty()) {
+                    spill(unwritten);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Audit writer loop failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch and returns the entries still to be written. A failed
+     * batch is retried entry by entry: data and constraint errors drop the
+     * entry, any other failure stops there and returns the rest for spilling.
+     */
+    private List<AuditEntry> persist(List<AuditEntry> batch) {
+        if (batch.size() > 1) {
+            try {
+                write(batch);
+                return List.of();
+            } catch (Exception e) {
+                writeFailures.increment();
+                log.error("Failed to write {} audit entries, retrying one at a time", batch.size(), e);
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEntry entry = batch.get(i);
+            try {
+                write(List.of(entry));
+            } catch (DataIntegrityViolationException e) {
+                writeFailures.increment();
+                dropped.increment();
+                log.error("Dropping audit entry rejected by the database: [{}] {}:{} - {}",
+                        entry.action(), entry.entityType(), entry.entityId(), entry.description(), e);
+            } catch (Exception e) {
+                writeFailures.increment();
+                log.error("Failed to write audit entries, {} left unwritten", batch.size() - i, e);
+                return batch.subList(i, batch.size());
+            }
+        }
+        return List.of();
+    }
+
+    private void write(List<AuditEntry> batch) {
+        batchTimer.record(() -> transactionTemplate.executeWithoutResult(status -> insert(batch)));
+        written.increment(batch.size());
+    }
+
+    private void insert(List<AuditEntry> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG, batch, batch.size(), (ps, entry) -> {
+            ps.setObject(1, entry.id() != null ? entry.id() : UUID.randomUUID());
+            ps.setObject(2, entry.businessId());
+            ps.setString(3, entry.action().name());
+            ps.setString(4, entry.entityType());
+            ps.setObject(5, entry.entityId());
+            ps.setString(6, entry.description());
+            ps.setObject(7, entry.userId());
+            ps.setObject(8, entry.oldValue(), Types.VARCHAR);
+            ps.setObject(9, entry.newValue(), Types.VARCHAR);
+            ps.setObject(10, entry.occurredAt() != null ? entry.occurredAt() : now);
+            ps.setObject(11, entry.userId());
+        });
+    }
+
+    /**
+     * Appends entries to the spill file. Drops them (and says so) only when
+     * the file itself cannot be written.
+     */
+    private void spill(List<AuditEntry> entries) {
+        StringBuilder lines = new StringBuilder();
+        for (AuditEntry entry : entries) {
+            try {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            } catch (IOException e) {
+                dropped.increment();
+                log.error("Dropping unserializable audit entry: {} - {}", entry.action(), entry.description(), e);
+            }
+        }
+
+        spillLock.lock();
+        try {
+            Path parent = spillFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(spillFile, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+            spilled.increment(entries.size());
+        } catch (IOException e) {
+            dropped.increment(entries.size());
+            for (AuditEntry entry : entries) {
+                log.error("Dropping audit entry: [{}] {}:{} - {}",
+                        entry.action(), entry.entityType(), entry.entityId(), entry.description());
+            }
+            log.error("Audit spill file {} is not writable", spillFile, e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * Moves the spill file aside and writes it back in batches. When a write
+     * fails the unwritten tail is spilled again and replay backs off; entries
+     * the database rejected are dropped by {@link #persist} rather than respilled.
+     */
+    private void replaySpill() {
+        if (System.currentTimeMillis() < nextReplayAt) {
+            return;
+        }
+
+        spillLock.lock();
+        try {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile) || Files.size(spillFile) == 0) {
+                    return;
+                }
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.error("Cannot move audit spill file {} for replay", spillFile, e);
+            nextReplayAt = System.currentTimeMillis() + properties.getReplayBackoffMs();
+            return;
+        } finally {
+            spillLock.unlock();
+        }
+
+        List<AuditEntry> pending = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    pending.add(objectMapper.readValue(line, AuditEntry.class));
+                } catch (IOException e) {
+                    dropped.increment();
+                    log.error("Skipping malformed audit spill line: {}", line, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Cannot read audit spill file {}", replayFile, e);
+            nextReplayAt = System.currentTimeMillis() + properties.getReplayBackoffMs();
+            return;
+        }
+
+        int batchSize = properties.getBatchSize();
+        int replayedCount = 0;
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<AuditEntry> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            List<AuditEntry> unwritten = persist(chunk);
+            int done = chunk.size() - unwritten.size();
+            replayed.increment(done);
+            replayedCount += done;
+            if (!unwritten.isEmpty()) {
+                List<AuditEntry> tail = new ArrayList<>(unwritten);
+                tail.addAll(pending.subList(from + chunk.size(), pending.size()));
+                spill(tail);
+                nextReplayAt = System.currentTimeMillis() + properties.getReplayBackoffMs();
+                break;
+            }
+        }
+
+        try {
+            Files.deleteIfExists(replayFile);
+        } catch (IOException e) {
+            log.error("Cannot delete replayed audit spill file {}", replayFile, e);
+        }
+        log.info("Replayed {} of {} spilled audit entries", replayedCount, pending.size());
+    }
+}
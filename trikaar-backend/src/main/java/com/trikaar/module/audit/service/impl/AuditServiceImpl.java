@@ -1,59 +1,63 @@
 package com.trikaar.module.audit.service.impl;
 
 import com.trikaar.module.audit.entity.AuditLog;
-import com.trikaar.module.audit.repository.AuditLogRepository;
 import com.trikaar.module.audit.service.AuditService;
 import com.trikaar.shared.context.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Captures audit events on the calling thread and hands them to
+ * {@link AuditLogWriter}, which persists them in batches off the request path.
+ * Inside a transaction the event is handed over only once it commits, so a
+ * rolled-back (or retried) operation is never audited as done.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuditServiceImpl implements AuditService {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAction(AuditLog.AuditAction action, String entityType,
             UUID entityId, String description) {
         logAction(action, entityType, entityId, description, null, null);
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAction(AuditLog.AuditAction action, String entityType,
             UUID entityId, String description,
             String oldValue, String newValue) {
         try {
+            // Tenant and user must be read here: TenantContext is cleared when the request ends
             UUID businessId = TenantContext.getBusinessId();
             UUID userId = TenantContext.getUserId();
 
-            AuditLog auditLog = AuditLog.builder()
-                    .action(action)
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .description(description)
-                    .performedBy(userId)
-                    .oldValue(oldValue)
-                    .newValue(newValue)
-                    .build();
-            auditLog.setBusinessId(businessId);
-
-            auditLogRepository.save(auditLog);
-
-            log.debug("Audit logged: [{}] {} on {}:{} - {}",
+            AuditEntry entry = new AuditEntry(UUID.randomUUID(), businessId, userId, action,
+                    entityType, entityId, description, oldValue, newValue, LocalDateTime.now());
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        auditLogWriter.submit(entry);
+                    }
+                });
+            } else {
+                auditLogWriter.submit(entry);
+            }
+
+            log.debug("Audit queued: [{}] {} on {}:{} - {}",
                     action, entityType, entityId, businessId, description);
         } catch (Exception e) {
             // Audit logging should NEVER break business operations
-            log.error("Failed to write audit log: {} - {}", action, description, e);
+            log.error("Failed to queue audit log: {} - {}", action, description, e);
         }
     }
 }
@@ -23,7 +23,7 @@ import java.util.UUID;
 /**
  * JWT authentication filter that:
  * 1. Extracts Bearer token from Authorization header
- * 2. Validates the token
+ * 2. Validates the token (verified once, then served from the token cache)
  * 3. Sets SecurityContext authentication
  * 4. Populates TenantContext with businessId and userId
  *
@@ -45,11 +45,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.extractUsername(jwt);
-                UUID businessId = jwtTokenProvider.extractBusinessId(jwt);
-                UUID userId = jwtTokenProvider.extractUserId(jwt);
-                String role = jwtTokenProvider.extractRole(jwt);
+            JwtPrincipal principal = StringUtils.hasText(jwt) ? jwtTokenProvider.resolvePrincipal(jwt) : null;
+
+            if (principal != null) {
+                String username = principal.username();
+                UUID businessId = principal.businessId();
+                UUID userId = principal.userId();
+                String role = principal.role();
 
                 // Set tenant context for downstream services and repositories
                 TenantContext.setBusinessId(businessId);
@@ -0,0 +1,19 @@
+package com.trikaar.module.auth.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Identity carried by a verified JWT, extracted from a single parse.
+ */
+public record JwtPrincipal(
+        String username,
+        UUID userId,
+        UUID businessId,
+        String role,
+        Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
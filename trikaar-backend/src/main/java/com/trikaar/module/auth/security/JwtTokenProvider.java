@@ -2,34 +2,61 @@ package com.trikaar.module.auth.security;
 
 import com.trikaar.config.SecurityProperties;
 import com.trikaar.shared.enums.Role;
+import com.trikaar.shared.metrics.BusinessMeters;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT token provider handling token generation, validation, and claim
  * extraction.
  * Tokens include businessId as a custom claim for multi-tenant enforcement.
+ *
+ * Verified tokens are cached (by hash) so repeat requests with the same
+ * bearer token skip signature verification and parsing.
  */
 @Slf4j
 @Service
 public class JwtTokenProvider {
 
     private final SecretKey signingKey;
+    private final JwtParser jwtParser;
     private final SecurityProperties securityProperties;
+    private final VerifiedTokenCache tokenCache;
 
-    public JwtTokenProvider(SecurityProperties securityProperties) {
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final BusinessMeters businessMeters;
+
+    public JwtTokenProvider(SecurityProperties securityProperties, MeterRegistry meterRegistry,
+            BusinessMeters businessMeters) {
         this.securityProperties = securityProperties;
         byte[] keyBytes = Decoders.BASE64.decode(securityProperties.getJwt().getSecretKey());
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.tokenCache = new VerifiedTokenCache(
+                securityProperties.getJwt().getCacheMaxEntries(),
+                securityProperties.getJwt().getCacheTtlMs());
+
+        this.cacheHits = meterRegistry.counter("trikaar.jwt.cache", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("trikaar.jwt.cache", "result", "miss");
+        this.businessMeters = businessMeters;
+        Gauge.builder("trikaar.jwt.cache.size", tokenCache, VerifiedTokenCache::size)
+                .register(meterRegistry);
     }
 
     /**
@@ -70,6 +97,39 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Verifies the token once and returns everything the request needs from it,
+     * or null when the token is invalid or expired.
+     */
+    public JwtPrincipal resolvePrincipal(String token) {
+        Instant now = Instant.now();
+        String key = VerifiedTokenCache.keyOf(token);
+
+        JwtPrincipal cached = tokenCache.get(key, now);
+        if (cached != null && !cached.isExpired(now)) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+
+        Claims claims = verifyAndParse(token);
+        if (claims == null) {
+            return null;
+        }
+
+        String businessId = claims.get("businessId", String.class);
+        String userId = claims.get("userId", String.class);
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                businessId != null ? UUID.fromString(businessId) : null,
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+
+        tokenCache.put(key, principal, now);
+        return principal;
+    }
+
     public String extractUsername(String token) {
         return extractAllClaims(token).getSubject();
     }
@@ -89,10 +149,23 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return verifyAndParse(token) != null;
+    }
+
+    /**
+     * Single signature check + parse. Returns null (after logging why) when the
+     * token is not acceptable.
+     */
+    private Claims verifyAndParse(String token) {
+        long started = System.nanoTime();
+        Claims claims = null;
+        String result = "invalid";
         try {
-            extractAllClaims(token);
-            return true;
+            claims = extractAllClaims(token);
+            result = "valid";
+            return claims;
         } catch (ExpiredJwtException ex) {
+            result = "expired";
             log.warn("JWT token expired: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             log.warn("Unsupported JWT token: {}", ex.getMessage());
@@ -102,15 +175,23 @@ public class JwtTokenProvider {
             log.warn("Invalid JWT signature: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.warn("JWT claims string is empty: {}", ex.getMessage());
+        } finally {
+            businessMeters.timer("trikaar.jwt.verification", businessIdOf(claims), "result", result)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         }
-        return false;
+        return null;
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private static UUID businessIdOf(Claims claims) {
+        String businessId = claims != null ? claims.get("businessId", String.class) : null;
+        try {
+            return businessId != null ? UUID.fromString(businessId) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
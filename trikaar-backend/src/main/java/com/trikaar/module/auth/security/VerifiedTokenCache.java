@@ -0,0 +1,84 @@
+package com.trikaar.module.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already-verified tokens, keyed by SHA-256 of the token so
+ * raw bearer tokens are never held in memory.
+ *
+ * An entry lives until the earlier of the token's own expiry and the cache TTL.
+ * When full, expired entries are purged first, then arbitrary ones.
+ */
+class VerifiedTokenCache {
+
+    private record Entry(JwtPrincipal principal, Instant evictAt) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMs;
+
+    VerifiedTokenCache(int maxEntries, long ttlMs) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+    }
+
+    JwtPrincipal get(String key, Instant now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!now.isBefore(entry.evictAt())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    void put(String key, JwtPrincipal principal, Instant now) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        Instant evictAt = now.plusMillis(ttlMs);
+        if (principal.expiresAt() != null && principal.expiresAt().isBefore(evictAt)) {
+            evictAt = principal.expiresAt();
+        }
+        if (entries.size() >= maxEntries) {
+            shrink(now);
+        }
+        entries.put(key, new Entry(principal, evictAt));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void shrink(Instant now) {
+        entries.entrySet().removeIf(e -> !now.isBefore(e.getValue().evictAt()));
+
+        // Still full: drop arbitrary entries down to 90% of capacity
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
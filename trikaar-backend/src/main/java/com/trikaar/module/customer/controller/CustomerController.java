@@ -4,6 +4,7 @@ import com.trikaar.module.customer.dto.CustomerRequest;
 import com.trikaar.module.customer.dto.CustomerResponse;
 import com.trikaar.module.customer.service.CustomerService;
 import com.trikaar.shared.dto.ApiResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,6 +35,16 @@ public class CustomerController {
                 .body(ApiResponse.success(customerService.createCustomer(request), "Customer created"));
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WORKER', 'ANALYST')")
+    @Operation(summary = "List customers by first name (cursor paged, no totals)")
+    public ResponseEntity<ApiResponse<CursorResponse<CustomerResponse>>> getCustomersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                customerService.getAllCustomersByCursor(cursor, size)));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'WORKER', 'ANALYST')")
     @Operation(summary = "Get customer by ID")
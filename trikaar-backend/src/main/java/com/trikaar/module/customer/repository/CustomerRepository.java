@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,8 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID> {
 
     Optional<Customer> findByIdAndBusinessIdAndDeletedFalse(UUID id, UUID businessId);
 
+    List<Customer> findAllByIdInAndBusinessIdAndDeletedFalse(Collection<UUID> ids, UUID businessId);
+
     Optional<Customer> findByPhoneAndBusinessIdAndDeletedFalse(String phone, UUID businessId);
 
     boolean existsByPhoneAndBusinessIdAndDeletedFalse(String phone, UUID businessId);
@@ -38,4 +41,16 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID> {
     List<Customer> findTopCustomers(@Param("businessId") UUID businessId, Pageable pageable);
 
     long countByBusinessIdAndActiveAndDeletedFalse(UUID businessId, boolean active);
+
+    /**
+     * Keyset page ordered by firstName, id: rows strictly after the given position.
+     * The row comparison is the range start of a scan on idx_customers_keyset.
+     */
+    @Query("SELECT c FROM Customer c WHERE c.businessId = :businessId AND c.deleted = false " +
+            "AND (c.firstName, c.id) > (:afterName, :afterId) " +
+            "ORDER BY c.firstName, c.id")
+    List<Customer> findPageAfter(@Param("businessId") UUID businessId,
+            @Param("afterName") String afterName,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 }
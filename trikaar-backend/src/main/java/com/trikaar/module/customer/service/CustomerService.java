@@ -2,6 +2,7 @@ package com.trikaar.module.customer.service;
 
 import com.trikaar.module.customer.dto.CustomerRequest;
 import com.trikaar.module.customer.dto.CustomerResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 
 import java.util.List;
@@ -17,6 +18,8 @@ public interface CustomerService {
 
     PagedResponse<CustomerResponse> getAllCustomers(int page, int size, String sortBy, String sortDir);
 
+    CursorResponse<CustomerResponse> getAllCustomersByCursor(String cursor, int size);
+
     PagedResponse<CustomerResponse> searchCustomers(String search, int page, int size);
 
     CustomerResponse updateCustomer(UUID customerId, CustomerRequest request);
@@ -7,9 +7,11 @@ import com.trikaar.module.customer.mapper.CustomerMapper;
 import com.trikaar.module.customer.repository.CustomerRepository;
 import com.trikaar.module.customer.service.CustomerService;
 import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import com.trikaar.shared.exception.DuplicateResourceException;
 import com.trikaar.shared.exception.ResourceNotFoundException;
+import com.trikaar.shared.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -81,6 +83,22 @@ public class CustomerServiceImpl implements CustomerService {
         return buildPagedResponse(customerPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<CustomerResponse> getAllCustomersByCursor(String cursor, int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        int pageSize = CursorResponse.clampPageSize(size);
+        CursorCodec.Position after = CursorCodec.decodePosition(cursor);
+
+        List<Customer> customers = customerRepository.findPageAfter(businessId,
+                after != null ? after.sortKey() : "",
+                after != null ? after.id() : CursorCodec.MIN_ID,
+                PageRequest.of(0, pageSize + 1));
+        return CursorResponse.of(customers, pageSize,
+                customer -> CursorCodec.encode(customer.getFirstName(), customer.getId()),
+                page -> page.stream().map(customerMapper::toResponse).toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<CustomerResponse> searchCustomers(String search, int page, int size) {
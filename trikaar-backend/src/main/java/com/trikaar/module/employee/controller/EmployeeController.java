@@ -4,6 +4,7 @@ import com.trikaar.module.employee.dto.EmployeeRequest;
 import com.trikaar.module.employee.dto.EmployeeResponse;
 import com.trikaar.module.employee.service.EmployeeService;
 import com.trikaar.shared.dto.ApiResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,6 +35,16 @@ public class EmployeeController {
                 .body(ApiResponse.success(response, "Employee created successfully"));
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT', 'ANALYST')")
+    @Operation(summary = "List employees by first name (cursor paged, no totals)")
+    public ResponseEntity<ApiResponse<CursorResponse<EmployeeResponse>>> getEmployeesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                employeeService.getAllEmployeesByCursor(cursor, size)));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT', 'ANALYST')")
     @Operation(summary = "Get employee by ID")
@@ -36,4 +36,41 @@ public interface AttendanceRepository extends JpaRepository<Attendance, UUID> {
             @Param("businessId") UUID businessId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
+
+    /**
+     * {@link #countPresentDays} for every employee of the business at once.
+     * Employees without a present day have no row.
+     */
+    @Query("SELECT a.employeeId AS employeeId, COUNT(a) AS presentDays FROM Attendance a " +
+            "WHERE a.businessId = :businessId AND a.attendanceDate BETWEEN :startDate AND :endDate " +
+            "AND a.status = 'PRESENT' AND a.deleted = false " +
+            "GROUP BY a.employeeId")
+    List<PresentDays> countPresentDaysByEmployee(@Param("businessId") UUID businessId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * {@link #sumOvertimeHours} for every employee of the business at once.
+     * Employees without attendance have no row.
+     */
+    @Query("SELECT a.employeeId AS employeeId, COALESCE(SUM(a.overtimeHours), 0) AS overtimeHours " +
+            "FROM Attendance a " +
+            "WHERE a.businessId = :businessId AND a.attendanceDate BETWEEN :startDate AND :endDate " +
+            "AND a.deleted = false " +
+            "GROUP BY a.employeeId")
+    List<OvertimeHours> sumOvertimeHoursByEmployee(@Param("businessId") UUID businessId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    interface PresentDays {
+        UUID getEmployeeId();
+
+        Long getPresentDays();
+    }
+
+    interface OvertimeHours {
+        UUID getEmployeeId();
+
+        Double getOvertimeHours();
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +20,8 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     Optional<Employee> findByIdAndBusinessIdAndDeletedFalse(UUID id, UUID businessId);
 
+    List<Employee> findAllByIdInAndBusinessIdAndDeletedFalse(Collection<UUID> ids, UUID businessId);
+
     Optional<Employee> findByEmployeeCodeAndBusinessIdAndDeletedFalse(String employeeCode, UUID businessId);
 
     boolean existsByEmployeeCodeAndBusinessIdAndDeletedFalse(String employeeCode, UUID businessId);
@@ -32,5 +36,19 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
             @Param("search") String search,
             Pageable pageable);
 
+    List<Employee> findAllByBusinessIdAndStatusAndDeletedFalse(UUID businessId, Employee.EmployeeStatus status);
+
     long countByBusinessIdAndStatusAndDeletedFalse(UUID businessId, Employee.EmployeeStatus status);
+
+    /**
+     * Keyset page ordered by firstName, id: rows strictly after the given position.
+     * The row comparison is the range start of a scan on idx_employees_keyset.
+     */
+    @Query("SELECT e FROM Employee e WHERE e.businessId = :businessId AND e.deleted = false " +
+            "AND (e.firstName, e.id) > (:afterName, :afterId) " +
+            "ORDER BY e.firstName, e.id")
+    List<Employee> findPageAfter(@Param("businessId") UUID businessId,
+            @Param("afterName") String afterName,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 }
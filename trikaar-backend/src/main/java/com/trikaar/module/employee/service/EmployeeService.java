@@ -2,6 +2,7 @@ package com.trikaar.module.employee.service;
 
 import com.trikaar.module.employee.dto.EmployeeRequest;
 import com.trikaar.module.employee.dto.EmployeeResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 
 import java.util.UUID;
@@ -16,6 +17,8 @@ public interface EmployeeService {
 
     PagedResponse<EmployeeResponse> getAllEmployees(int page, int size, String sortBy, String sortDir);
 
+    CursorResponse<EmployeeResponse> getAllEmployeesByCursor(String cursor, int size);
+
     PagedResponse<EmployeeResponse> searchEmployees(String search, int page, int size);
 
     EmployeeResponse updateEmployee(UUID employeeId, EmployeeRequest request);
@@ -7,9 +7,11 @@ import com.trikaar.module.employee.mapper.EmployeeMapper;
 import com.trikaar.module.employee.repository.EmployeeRepository;
 import com.trikaar.module.employee.service.EmployeeService;
 import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import com.trikaar.shared.exception.DuplicateResourceException;
 import com.trikaar.shared.exception.ResourceNotFoundException;
+import com.trikaar.shared.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,6 +20,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -84,6 +87,22 @@ public class EmployeeServiceImpl implements EmployeeService {
         return buildPagedResponse(employeePage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<EmployeeResponse> getAllEmployeesByCursor(String cursor, int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        int pageSize = CursorResponse.clampPageSize(size);
+        CursorCodec.Position after = CursorCodec.decodePosition(cursor);
+
+        List<Employee> employees = employeeRepository.findPageAfter(businessId,
+                after != null ? after.sortKey() : "",
+                after != null ? after.id() : CursorCodec.MIN_ID,
+                PageRequest.of(0, pageSize + 1));
+        return CursorResponse.of(employees, pageSize,
+                employee -> CursorCodec.encode(employee.getFirstName(), employee.getId()),
+                page -> page.stream().map(employeeMapper::toResponse).toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<EmployeeResponse> searchEmployees(String search, int page, int size) {
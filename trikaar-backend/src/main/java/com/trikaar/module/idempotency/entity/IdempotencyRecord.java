@@ -0,0 +1,42 @@
+package com.trikaar.module.idempotency.entity;
+
+import com.trikaar.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a request sent with an Idempotency-Key header.
+ * A retry with the same key and an identical body gets {@code responseBody}
+ * back instead of running the operation again.
+ */
+@Entity
+@Table(name = "idempotency_records", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_idempotency_business_operation_key", columnNames = { "business_id",
+                "operation", "idempotency_key" })
+}, indexes = {
+        @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord extends BaseEntity {
+
+    @Column(name = "operation", nullable = false, length = 30)
+    private String operation; // e.g. SALE, REFUND
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash; // SHA-256 of the request body, hex
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody; // JSON
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,50 @@
+package com.trikaar.module.idempotency.repository;
+
+import com.trikaar.module.idempotency.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    Optional<IdempotencyRecord> findByBusinessIdAndOperationAndIdempotencyKey(
+            UUID businessId, String operation, String idempotencyKey);
+
+    /**
+     * Claims a key for the current transaction, taking over an expired record.
+     * Returns empty when a live record exists. If another transaction holds an
+     * uncommitted claim, this waits for it to commit or roll back.
+     */
+    @Query(value = "INSERT INTO idempotency_records (business_id, operation, idempotency_key, " +
+            "request_hash, expires_at, created_by) " +
+            "VALUES (:businessId, :operation, :key, :requestHash, :expiresAt, :userId) " +
+            "ON CONFLICT (business_id, operation, idempotency_key) DO UPDATE SET " +
+            "request_hash = EXCLUDED.request_hash, response_body = NULL, " +
+            "expires_at = EXCLUDED.expires_at, created_at = CURRENT_TIMESTAMP, " +
+            "created_by = EXCLUDED.created_by, updated_at = NULL " +
+            "WHERE idempotency_records.expires_at < CURRENT_TIMESTAMP " +
+            "RETURNING id", nativeQuery = true)
+    Optional<UUID> claim(@Param("businessId") UUID businessId,
+            @Param("operation") String operation,
+            @Param("key") String key,
+            @Param("requestHash") String requestHash,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "UPDATE idempotency_records SET response_body = :responseBody, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id = :id", nativeQuery = true)
+    int complete(@Param("id") UUID id, @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_records WHERE id IN (" +
+            "SELECT id FROM idempotency_records WHERE expires_at < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,17 @@
+package com.trikaar.module.idempotency.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs an operation at most once per Idempotency-Key (per business and operation).
+ *
+ * The first request runs {@code action} and stores its response in the same
+ * transaction. Retries with the same key and an identical request body get
+ * that response back without running the action. Reusing a key for a
+ * different body is rejected.
+ */
+public interface IdempotencyService {
+
+    <T> T execute(String operation, String idempotencyKey, Object request,
+            Class<T> responseType, Supplier<T> action);
+}
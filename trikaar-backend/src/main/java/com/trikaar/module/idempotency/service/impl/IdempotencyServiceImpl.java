@@ -0,0 +1,179 @@
+package com.trikaar.module.idempotency.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trikaar.config.IdempotencyProperties;
+import com.trikaar.module.idempotency.entity.IdempotencyRecord;
+import com.trikaar.module.idempotency.repository.IdempotencyRecordRepository;
+import com.trikaar.module.idempotency.service.IdempotencyService;
+import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.exception.BusinessRuleException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Database-backed idempotency with an in-memory front cache.
+ *
+ * The key is claimed with an INSERT in the operation's own transaction, so
+ * the record and the operation commit or roll back together: a failed
+ * request leaves no record and can simply be retried. A concurrent request
+ * with the same key blocks on the claim until the first one finishes, then
+ * replays its response. Completed responses are cached per node, so most
+ * retries never reach the database.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, StoredResponse> completed;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository,
+            ObjectMapper objectMapper,
+            IdempotencyProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxEntries())
+                .expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency");
+    }
+
+    @Override
+    public <T> T execute(String operation, String idempotencyKey, Object request,
+            Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        UUID businessId = TenantContext.getBusinessId();
+        String requestHash = fingerprint(request);
+        String cacheKey = businessId + ":" + operation + ":" + idempotencyKey;
+
+        StoredResponse cached = completed.getIfPresent(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash, idempotencyKey, responseType, "memory");
+        }
+
+        return transactionTemplate.execute(status -> {
+            LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(properties.getTtlMs()));
+            Optional<UUID> claimed = idempotencyRecordRepository.claim(businessId, operation,
+                    idempotencyKey, requestHash, expiresAt, TenantContext.getUserId());
+
+            if (claimed.isEmpty()) {
+                IdempotencyRecord record = idempotencyRecordRepository
+                        .findByBusinessIdAndOperationAndIdempotencyKey(businessId, operation, idempotencyKey)
+                        .orElseThrow(() -> new BusinessRuleException("IDEMPOTENCY_CONFLICT",
+                                "Request with Idempotency-Key '" + idempotencyKey + "' is being processed"));
+                StoredResponse stored = new StoredResponse(record.getRequestHash(),
+                        deserialize(record.getResponseBody(), responseType));
+                completed.put(cacheKey, stored);
+                return replay(stored, requestHash, idempotencyKey, responseType, "database");
+            }
+
+            T response = action.get();
+            idempotencyRecordRepository.complete(claimed.get(), serialize(response));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    completed.put(cacheKey, new StoredResponse(requestHash, response));
+                }
+            });
+            return response;
+        });
+    }
+
+    /**
+     * Purges expired records in small batches so the delete never holds many locks.
+     */
+    @Scheduled(fixedDelayString = "${trikaar.idempotency.cleanup-interval-ms:600000}",
+            initialDelayString = "${trikaar.idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        int batchSize = properties.getCleanupBatchSize();
+        int total = 0;
+        int deleted;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            deleted = transactionTemplate.execute(
+                    status -> idempotencyRecordRepository.deleteExpired(now, batchSize));
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("Purged {} expired idempotency records", total);
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private <T> T replay(StoredResponse stored, String requestHash, String idempotencyKey,
+            Class<T> responseType, String source) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new BusinessRuleException("IDEMPOTENCY_KEY_REUSED",
+                    "Idempotency-Key '" + idempotencyKey + "' was already used for a different request");
+        }
+        meterRegistry.counter("trikaar.idempotency.replays", "source", source).increment();
+        return responseType.cast(stored.response());
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request cannot be fingerprinted", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response cannot be stored for replay", e);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, Object response) {
+    }
+}
@@ -1,24 +1,35 @@
 package com.trikaar.module.inventory.controller;
 
+import com.trikaar.module.inventory.dto.ProductImportResponse;
 import com.trikaar.module.inventory.entity.Product;
 import com.trikaar.module.inventory.repository.ProductRepository;
+import com.trikaar.module.inventory.service.ProductCatalogService;
+import com.trikaar.module.inventory.service.ProductImportService;
+import com.trikaar.module.inventory.service.ProductSearchService;
 import com.trikaar.shared.context.TenantContext;
 import com.trikaar.shared.dto.ApiResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import com.trikaar.shared.exception.DuplicateResourceException;
 import com.trikaar.shared.exception.ResourceNotFoundException;
+import com.trikaar.shared.util.CursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +40,9 @@ import java.util.UUID;
 public class InventoryController {
 
     private final ProductRepository productRepository;
+    private final ProductCatalogService productCatalogService;
+    private final ProductSearchService productSearchService;
+    private final ProductImportService productImportService;
 
     @GetMapping("/products")
     @PreAuthorize("hasAnyRole('ADMIN', 'WORKER', 'ACCOUNTANT', 'ANALYST')")
@@ -57,12 +71,31 @@ public class InventoryController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/products/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WORKER', 'ACCOUNTANT', 'ANALYST')")
+    @Operation(summary = "List products by name (cursor paged, no totals)")
+    public ResponseEntity<ApiResponse<CursorResponse<Product>>> getProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        int pageSize = CursorResponse.clampPageSize(size);
+        CursorCodec.Position after = CursorCodec.decodePosition(cursor);
+
+        List<Product> products = productRepository.findPageAfter(businessId,
+                after != null ? after.sortKey() : "",
+                after != null ? after.id() : CursorCodec.MIN_ID,
+                PageRequest.of(0, pageSize + 1));
+        return ResponseEntity.ok(ApiResponse.success(CursorResponse.of(products, pageSize,
+                product -> CursorCodec.encode(product.getProductName(), product.getId()),
+                page -> page)));
+    }
+
     @GetMapping("/products/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'WORKER', 'ACCOUNTANT', 'ANALYST')")
     @Operation(summary = "Get product by ID")
     public ResponseEntity<ApiResponse<Product>> getProduct(@PathVariable UUID id) {
         UUID businessId = TenantContext.getBusinessId();
-        Product product = productRepository.findByIdAndBusinessIdAndDeletedFalse(id, businessId)
+        Product product = productCatalogService.findById(businessId, id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", id));
         return ResponseEntity.ok(ApiResponse.success(product));
     }
@@ -72,7 +105,7 @@ public class InventoryController {
     @Operation(summary = "Get product by SKU")
     public ResponseEntity<ApiResponse<Product>> getProductBySku(@PathVariable String sku) {
         UUID businessId = TenantContext.getBusinessId();
-        Product product = productRepository.findBySkuAndBusinessIdAndDeletedFalse(sku, businessId)
+        Product product = productCatalogService.findBySku(businessId, sku)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
         return ResponseEntity.ok(ApiResponse.success(product));
     }
@@ -82,7 +115,7 @@ public class InventoryController {
     @Operation(summary = "Get product by barcode (POS scan)")
     public ResponseEntity<ApiResponse<Product>> getProductByBarcode(@PathVariable String barcode) {
         UUID businessId = TenantContext.getBusinessId();
-        Product product = productRepository.findByBarcodeAndBusinessIdAndDeletedFalse(barcode, businessId)
+        Product product = productCatalogService.findByBarcode(businessId, barcode)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "barcode", barcode));
         return ResponseEntity.ok(ApiResponse.success(product));
     }
@@ -109,6 +142,18 @@ public class InventoryController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/products/search/quick")
+    @PreAuthorize("hasAnyRole('ADMIN', 'WORKER')")
+    @Operation(summary = "Ranked POS search by barcode, SKU prefix or name (keyset paged)")
+    public ResponseEntity<ApiResponse<CursorResponse<Product>>> quickSearchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
+        UUID businessId = TenantContext.getBusinessId();
+        CursorResponse<Product> response = productSearchService.quickSearch(businessId, q, limit, cursor);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/products/low-stock")
     @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
     @Operation(summary = "Get products with low stock")
@@ -119,6 +164,46 @@ public class InventoryController {
                 "Found " + lowStockProducts.size() + " low stock products"));
     }
 
+    @PostMapping(value = "/products/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create or update products and opening stock from a CSV upload (runs in the background)")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(
+            @RequestParam(required = false) String fileName,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(productImportService.startImport(request.getInputStream(), fileName),
+                        "Product import started"));
+    }
+
+    @GetMapping("/products/imports/{importId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get a product import's progress")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> getProductImport(@PathVariable UUID importId) {
+        return ResponseEntity.ok(ApiResponse.success(productImportService.getImport(importId)));
+    }
+
+    @GetMapping("/products/imports")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List product imports, latest first")
+    public ResponseEntity<ApiResponse<PagedResponse<ProductImportResponse>>> getProductImports(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(productImportService.getImports(page, size)));
+    }
+
+    @GetMapping("/products/imports/{importId}/errors")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Download the rows a product import rejected, as CSV")
+    public void downloadProductImportErrors(@PathVariable UUID importId, HttpServletResponse response)
+            throws IOException {
+        productImportService.getImport(importId); // 404 before the response turns into a CSV download
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"product-import-" + importId + "-errors.csv\"");
+        productImportService.writeErrors(importId, response.getWriter());
+    }
+
     @GetMapping("/stock-value")
     @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT', 'ANALYST')")
     @Operation(summary = "Get total stock valuation")
@@ -0,0 +1,27 @@
+package com.trikaar.module.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponse {
+
+    private String id;
+    private String fileName;
+    private String status;
+    private int totalRows; // Estimated from the line count while RUNNING
+    private int processedRows;
+    private int createdProducts;
+    private int updatedProducts;
+    private int failedRows; // Listed in the error file
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String failureMessage;
+}
@@ -0,0 +1,61 @@
+package com.trikaar.module.inventory.entity;
+
+import com.trikaar.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A bulk product upload and its progress. Counters are advanced as chunks of
+ * rows commit; rows that could not be imported are kept as
+ * {@link ProductImportError}.
+ */
+@Entity
+@Table(name = "product_imports", indexes = {
+        @Index(name = "idx_product_import_business", columnList = "business_id, started_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImport extends BaseEntity {
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    @Builder.Default
+    private ImportStatus status = ImportStatus.RUNNING;
+
+    // ── Progress ───────────────────────────────────────────────
+    @Column(name = "total_rows", nullable = false)
+    private int totalRows; // Estimated from line count until the import finishes
+
+    @Column(name = "processed_rows", nullable = false)
+    private int processedRows;
+
+    @Column(name = "created_products", nullable = false)
+    private int createdProducts;
+
+    @Column(name = "updated_products", nullable = false)
+    private int updatedProducts;
+
+    @Column(name = "failed_rows", nullable = false)
+    private int failedRows;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "failure_message", length = 1000)
+    private String failureMessage;
+
+    public enum ImportStatus {
+        RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED
+    }
+}
@@ -0,0 +1,37 @@
+package com.trikaar.module.inventory.entity;
+
+import com.trikaar.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * A row of a product upload that was not imported, and why.
+ */
+@Entity
+@Table(name = "product_import_errors", indexes = {
+        @Index(name = "idx_product_import_error_import", columnList = "import_id, row_number")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportError extends BaseEntity {
+
+    @Column(name = "import_id", nullable = false)
+    private UUID importId;
+
+    @Column(name = "row_number", nullable = false)
+    private int rowNumber; // 1 = first line after the header
+
+    @Column(name = "sku", length = 100)
+    private String sku;
+
+    @Column(name = "error_code", nullable = false, length = 50)
+    private String errorCode;
+
+    @Column(name = "message", length = 500)
+    private String message;
+}
@@ -0,0 +1,15 @@
+package com.trikaar.module.inventory.repository;
+
+import com.trikaar.module.inventory.entity.ProductImportError;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProductImportErrorRepository extends JpaRepository<ProductImportError, UUID> {
+
+    List<ProductImportError> findAllByImportIdAndBusinessIdAndDeletedFalseOrderByRowNumber(
+            UUID importId, UUID businessId);
+}
@@ -0,0 +1,55 @@
+package com.trikaar.module.inventory.repository;
+
+import com.trikaar.module.inventory.entity.ProductImport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProductImportRepository extends JpaRepository<ProductImport, UUID> {
+
+    Optional<ProductImport> findByIdAndBusinessIdAndDeletedFalse(UUID id, UUID businessId);
+
+    Page<ProductImport> findAllByBusinessIdAndDeletedFalse(UUID businessId, Pageable pageable);
+
+    boolean existsByBusinessIdAndStatusAndDeletedFalse(UUID businessId, ProductImport.ImportStatus status);
+
+    /**
+     * Adds one chunk's outcome. Chunks commit in parallel, so counters are
+     * incremented in place rather than read, modified and saved.
+     */
+    @Modifying
+    @Query("UPDATE ProductImport i SET i.processedRows = i.processedRows + :processed, " +
+            "i.createdProducts = i.createdProducts + :created, " +
+            "i.updatedProducts = i.updatedProducts + :updated, " +
+            "i.failedRows = i.failedRows + :failed, " +
+            "i.updatedAt = :now, i.version = i.version + 1 " +
+            "WHERE i.id = :id")
+    int recordProgress(@Param("id") UUID id,
+            @Param("processed") int processed,
+            @Param("created") int created,
+            @Param("updated") int updated,
+            @Param("failed") int failed,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Fails RUNNING imports that have made no progress since {@code staleBefore},
+     * e.g. because the node executing them was restarted.
+     */
+    @Modifying
+    @Query("UPDATE ProductImport i SET i.status = 'FAILED', i.completedAt = :now, " +
+            "i.failureMessage = 'Import was abandoned without progress', i.version = i.version + 1 " +
+            "WHERE i.businessId = :businessId AND i.status = 'RUNNING' AND i.deleted = false " +
+            "AND COALESCE(i.updatedAt, i.startedAt) < :staleBefore")
+    int failAbandonedImports(@Param("businessId") UUID businessId,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("now") LocalDateTime now);
+}
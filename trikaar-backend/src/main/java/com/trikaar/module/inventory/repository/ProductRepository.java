@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,12 +21,20 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 
     Optional<Product> findByIdAndBusinessIdAndDeletedFalse(UUID id, UUID businessId);
 
+    List<Product> findAllByIdInAndBusinessIdAndDeletedFalse(Collection<UUID> ids, UUID businessId);
+
     Optional<Product> findBySkuAndBusinessIdAndDeletedFalse(String sku, UUID businessId);
 
     Optional<Product> findByBarcodeAndBusinessIdAndDeletedFalse(String barcode, UUID businessId);
 
     boolean existsBySkuAndBusinessIdAndDeletedFalse(String sku, UUID businessId);
 
+    /** Includes deleted products: their SKU and barcode still hold the unique constraints. */
+    List<Product> findAllBySkuInAndBusinessId(Collection<String> skus, UUID businessId);
+
+    /** Includes deleted products: their SKU and barcode still hold the unique constraints. */
+    List<Product> findAllByBarcodeInAndBusinessId(Collection<String> barcodes, UUID businessId);
+
     boolean existsByBarcodeAndBusinessIdAndDeletedFalse(String barcode, UUID businessId);
 
     @Query("SELECT p FROM Product p WHERE p.businessId = :businessId AND p.deleted = false " +
@@ -47,5 +57,138 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 
     @Query("SELECT COALESCE(SUM(p.currentStock * p.costPrice), 0) FROM Product p " +
             "WHERE p.businessId = :businessId AND p.deleted = false AND p.active = true")
-    java.math.BigDecimal calculateTotalStockValue(@Param("businessId") UUID businessId);
+    BigDecimal calculateTotalStockValue(@Param("businessId") UUID businessId);
+
+    /**
+     * Atomic "decrement if sufficient": subtracts {@code quantity} only when the
+     * product still holds at least that much and returns the new balance and version.
+     * Empty means the product is missing or would go negative. No read-modify-write,
+     * so concurrent tills never trip the optimistic lock on hot SKUs.
+     */
+    @Query(value = "UPDATE products SET current_stock = current_stock - :quantity, " +
+            "version = COALESCE(version, 0) + 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = :id AND business_id = :businessId AND is_deleted = false " +
+            "AND current_stock >= :quantity " +
+            "RETURNING id AS id, current_stock AS \"currentStock\", version AS version", nativeQuery = true)
+    Optional<StockBalance> decrementStockIfSufficient(@Param("id") UUID id,
+            @Param("businessId") UUID businessId,
+            @Param("quantity") BigDecimal quantity);
+
+    /**
+     * Set-based variant of {@link #decrementStockIfSufficient} for a whole basket
+     * in one statement. Product ids and quantities are passed as parallel
+     * comma-separated lists and unnested server-side. Only rows that still hold
+     * enough stock are updated and returned with their new balance, so a
+     * missing row means a concurrent sell-out.
+     * <p>
+     * The rows are locked first, in id order, so two baskets sharing products
+     * always queue on the same row instead of deadlocking on each other.
+     */
+    @Query(value = "WITH locked AS MATERIALIZED (SELECT p.id FROM products p " +
+            "WHERE p.id = ANY(CAST(string_to_array(:productIds, ',') AS uuid[])) " +
+            "AND p.business_id = :businessId AND p.is_deleted = false " +
+            "ORDER BY p.id FOR UPDATE) " +
+            "UPDATE products p SET current_stock = p.current_stock - d.qty, " +
+            "version = COALESCE(p.version, 0) + 1, updated_at = CURRENT_TIMESTAMP " +
+            "FROM locked l JOIN unnest(CAST(string_to_array(:productIds, ',') AS uuid[]), " +
+            "CAST(string_to_array(:quantities, ',') AS numeric[])) AS d(id, qty) ON d.id = l.id " +
+            "WHERE p.id = l.id AND p.current_stock >= d.qty " +
+            "RETURNING p.id AS id, p.current_stock AS \"currentStock\", p.version AS version", nativeQuery = true)
+    List<StockBalance> deductStockBatch(@Param("businessId") UUID businessId,
+            @Param("productIds") String productIds,
+            @Param("quantities") String quantities);
+
+    /**
+     * Atomic stock increment for many products in one statement (refunds,
+     * bulk returns), returning the new balances. Same parallel-list convention as
+     * {@link #deductStockBatch}; a missing row means the product no longer exists.
+     * Rows are locked in id order first, as in {@link #deductStockBatch}, so a
+     * refund and a sale over the same products cannot deadlock.
+     */
+    @Query(value = "WITH locked AS MATERIALIZED (SELECT p.id FROM products p " +
+            "WHERE p.id = ANY(CAST(string_to_array(:productIds, ',') AS uuid[])) " +
+            "AND p.business_id = :businessId AND p.is_deleted = false " +
+            "ORDER BY p.id FOR UPDATE) " +
+            "UPDATE products p SET current_stock = p.current_stock + d.qty, " +
+            "version = COALESCE(p.version, 0) + 1, updated_at = CURRENT_TIMESTAMP " +
+            "FROM locked l JOIN unnest(CAST(string_to_array(:productIds, ',') AS uuid[]), " +
+            "CAST(string_to_array(:quantities, ',') AS numeric[])) AS d(id, qty) ON d.id = l.id " +
+            "WHERE p.id = l.id " +
+            "RETURNING p.id AS id, p.current_stock AS \"currentStock\", p.version AS version", nativeQuery = true)
+    List<StockBalance> incrementStockBatch(@Param("businessId") UUID businessId,
+            @Param("productIds") String productIds,
+            @Param("quantities") String quantities);
+
+    /**
+     * Projection of a product's balance after an atomic stock update, with the
+     * row version it produced.
+     */
+    interface StockBalance {
+        UUID getId();
+
+        BigDecimal getCurrentStock();
+
+        Long getVersion();
+    }
+
+    /**
+     * Ranked keyset search for the POS search box. Match ranks: 0 exact barcode,
+     * 1 exact SKU, 2 SKU/barcode prefix, 3 name prefix, 4 name substring.
+     * Served by the trigram and prefix indexes from V4; returns one page of
+     * positions after ({@code afterRank}, {@code afterName}, {@code afterId}).
+     *
+     * @param lowerTerm lower-cased search term
+     * @param prefix    lower-cased, LIKE-escaped term + '%'
+     * @param rawPrefix LIKE-escaped term + '%' (barcodes are matched case-sensitively)
+     * @param contains  '%' + lower-cased, LIKE-escaped term + '%'
+     */
+    @Query(value = "SELECT m.id AS id, m.match_rank AS \"matchRank\", m.sort_name AS \"sortName\" FROM (" +
+            "SELECT p.id, lower(p.product_name) AS sort_name, " +
+            "CASE WHEN p.barcode = :term THEN 0 " +
+            "WHEN lower(p.sku) = :lowerTerm THEN 1 " +
+            "WHEN lower(p.sku) LIKE :prefix OR p.barcode LIKE :rawPrefix THEN 2 " +
+            "WHEN lower(p.product_name) LIKE :prefix THEN 3 " +
+            "ELSE 4 END AS match_rank " +
+            "FROM products p " +
+            "WHERE p.business_id = :businessId AND p.is_deleted = false " +
+            "AND (lower(p.product_name) LIKE :contains " +
+            "OR lower(p.sku) LIKE :prefix " +
+            "OR p.barcode LIKE :rawPrefix)" +
+            ") m " +
+            "WHERE (m.match_rank, m.sort_name, m.id) > (:afterRank, :afterName, :afterId) " +
+            "ORDER BY m.match_rank, m.sort_name, m.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<SearchHit> quickSearch(@Param("businessId") UUID businessId,
+            @Param("term") String term,
+            @Param("lowerTerm") String lowerTerm,
+            @Param("prefix") String prefix,
+            @Param("rawPrefix") String rawPrefix,
+            @Param("contains") String contains,
+            @Param("afterRank") int afterRank,
+            @Param("afterName") String afterName,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    /**
+     * Keyset position of a product in {@link #quickSearch} order.
+     */
+    interface SearchHit {
+        UUID getId();
+
+        Integer getMatchRank();
+
+        String getSortName();
+    }
+
+    /**
+     * Keyset page ordered by productName, id: rows strictly after the given position.
+     * The row comparison is the range start of a scan on idx_products_keyset.
+     */
+    @Query("SELECT p FROM Product p WHERE p.businessId = :businessId AND p.deleted = false " +
+            "AND (p.productName, p.id) > (:afterName, :afterId) " +
+            "ORDER BY p.productName, p.id")
+    List<Product> findPageAfter(@Param("businessId") UUID businessId,
+            @Param("afterName") String afterName,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 }
@@ -0,0 +1,43 @@
+package com.trikaar.module.inventory.service;
+
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.module.inventory.repository.ProductRepository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through product lookups for the POS (scan, SKU entry, basket pricing),
+ * served from a per-business in-memory catalogue.
+ *
+ * A cache hit returns a fresh detached copy and a miss the entity just loaded,
+ * so no two calls share an instance. Read them, never modify or save them:
+ * a cached copy may be stale.
+ */
+public interface ProductCatalogService {
+
+    Optional<Product> findById(UUID businessId, UUID productId);
+
+    Optional<Product> findBySku(UUID businessId, String sku);
+
+    Optional<Product> findByBarcode(UUID businessId, String barcode);
+
+    /**
+     * Products found among {@code productIds}, keyed by id. Missing ids are absent.
+     */
+    Map<UUID, Product> findAllByIds(UUID businessId, Collection<UUID> productIds);
+
+    /**
+     * Records new stock balances once the current transaction commits
+     * (evicts the products instead if it rolls back). A balance is only
+     * applied over a cached product with an older row version.
+     */
+    void applyStockBalances(UUID businessId, Collection<ProductRepository.StockBalance> balances);
+
+    /**
+     * Drops the product from this node's catalogue only.
+     */
+    void evict(UUID businessId, UUID productId);
+}
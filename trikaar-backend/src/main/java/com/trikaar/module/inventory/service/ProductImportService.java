@@ -0,0 +1,34 @@
+package com.trikaar.module.inventory.service;
+
+import com.trikaar.module.inventory.dto.ProductImportResponse;
+import com.trikaar.shared.dto.PagedResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.UUID;
+
+/**
+ * Bulk product uploads: creates or updates products from a CSV file and sets
+ * the opening stock of the ones it creates.
+ */
+public interface ProductImportService {
+
+    /**
+     * Spools the upload to disk, checks its header and starts a background
+     * import. Returns the RUNNING import; poll it for progress.
+     *
+     * @throws com.trikaar.shared.exception.BusinessRuleException
+     *         IMPORT_IN_PROGRESS, IMPORT_TOO_LARGE or INVALID_IMPORT_HEADER
+     */
+    ProductImportResponse startImport(InputStream content, String fileName) throws IOException;
+
+    ProductImportResponse getImport(UUID importId);
+
+    PagedResponse<ProductImportResponse> getImports(int page, int size);
+
+    /**
+     * Writes the import's rejected rows as CSV: row_number, sku, error_code, message.
+     */
+    void writeErrors(UUID importId, Writer out) throws IOException;
+}
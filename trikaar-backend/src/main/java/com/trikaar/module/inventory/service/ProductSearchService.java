@@ -0,0 +1,19 @@
+package com.trikaar.module.inventory.service;
+
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.shared.dto.CursorResponse;
+
+import java.util.UUID;
+
+/**
+ * Index-backed product search for the POS search box.
+ */
+public interface ProductSearchService {
+
+    /**
+     * Ranked search by barcode, SKU and name, paged by keyset.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     */
+    CursorResponse<Product> quickSearch(UUID businessId, String query, int limit, String cursor);
+}
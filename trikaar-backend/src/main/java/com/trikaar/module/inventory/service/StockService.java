@@ -0,0 +1,51 @@
+package com.trikaar.module.inventory.service;
+
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.module.inventory.entity.StockMovement;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batched stock operations shared by the sales and refund flows.
+ * Works on whole baskets so a checkout costs a constant number of
+ * round trips regardless of how many lines it carries.
+ */
+public interface StockService {
+
+    /**
+     * Loads all requested products with a single IN query.
+     *
+     * @throws com.trikaar.shared.exception.ResourceNotFoundException if any id
+     *                                                                is unknown
+     */
+    Map<UUID, Product> loadProducts(UUID businessId, Collection<UUID> productIds);
+
+    /**
+     * Deducts stock for every product with an atomic conditional update
+     * (one statement for the whole basket) and bulk-inserts the matching
+     * {@link StockMovement} rows using the balances returned by the update.
+     *
+     * @param quantities productId → total quantity to deduct (positive)
+     * @throws com.trikaar.shared.exception.BusinessRuleException
+     *         INSUFFICIENT_STOCK if any product would go negative
+     */
+    List<StockMovement> deductStock(UUID businessId, Map<UUID, Product> products,
+            Map<UUID, BigDecimal> quantities, UUID referenceId,
+            String referenceType, String notes);
+
+    /**
+     * Adds stock back for every product with one set-based update and
+     * bulk-inserts one {@link StockMovement} per product (bulk returns).
+     *
+     * @param quantities productId → total quantity to add (positive)
+     * @throws com.trikaar.shared.exception.ResourceNotFoundException if any
+     *                                                                product is gone
+     */
+    List<StockMovement> addStock(UUID businessId, Map<UUID, BigDecimal> quantities,
+            StockMovement.MovementType movementType, UUID referenceId,
+            String referenceType, String notes);
+}
@@ -0,0 +1,357 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.config.InventoryProperties;
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.module.inventory.repository.ProductRepository;
+import com.trikaar.module.inventory.service.ProductCatalogService;
+import com.trikaar.shared.metrics.BusinessMeters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-business LRU product catalogue indexed by id, SKU and barcode.
+ *
+ * Each business has its own bounded map and lock, so tenants never contend
+ * with each other. Entries are immutable {@link ProductSnapshot}s and every
+ * hit returns a fresh copy, so callers never see each other's changes.
+ *
+ * The catalogue is local to this node. Stock balances are written through
+ * from the atomic stock updates after commit, and imports evict the products
+ * they change, but only here: other nodes keep serving their entry until it
+ * expires after the TTL, which is what bounds staleness across nodes.
+ *
+ * Commits finish in any order, so every write compares row versions and an
+ * entry is only ever replaced by a newer version of the product.
+ */
+@Slf4j
+@Service
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+
+    private final ProductRepository productRepository;
+    private final InventoryProperties.CatalogCache settings;
+    private final Map<UUID, TenantCatalog> catalogs = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final BusinessMeters businessMeters;
+
+    public ProductCatalogServiceImpl(ProductRepository productRepository,
+            InventoryProperties inventoryProperties,
+            MeterRegistry meterRegistry,
+            BusinessMeters businessMeters) {
+        this.productRepository = productRepository;
+        this.settings = inventoryProperties.getCatalogCache();
+        this.meterRegistry = meterRegistry;
+        this.businessMeters = businessMeters;
+
+        Gauge.builder("trikaar.product.cache.size", catalogs,
+                map -> map.values().stream().mapToInt(TenantCatalog::size).sum())
+                .description("Products held in the POS catalogue cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Product> findById(UUID businessId, UUID productId) {
+        return lookupTimer(businessId, "id").record(() -> lookup(businessId, "id",
+                catalog -> productId,
+                () -> productRepository.findByIdAndBusinessIdAndDeletedFalse(productId, businessId)));
+    }
+
+    @Override
+    public Optional<Product> findBySku(UUID businessId, String sku) {
+        return lookupTimer(businessId, "sku").record(() -> lookup(businessId, "sku",
+                catalog -> catalog.bySku.get(sku),
+                () -> productRepository.findBySkuAndBusinessIdAndDeletedFalse(sku, businessId)));
+    }
+
+    @Override
+    public Optional<Product> findByBarcode(UUID businessId, String barcode) {
+        return lookupTimer(businessId, "barcode").record(() -> lookup(businessId, "barcode",
+                catalog -> catalog.byBarcode.get(barcode),
+                () -> productRepository.findByBarcodeAndBusinessIdAndDeletedFalse(barcode, businessId)));
+    }
+
+    @Override
+    public Map<UUID, Product> findAllByIds(UUID businessId, Collection<UUID> productIds) {
+        long started = System.nanoTime();
+        Map<UUID, Product> found = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+
+        if (settings.isEnabled()) {
+            TenantCatalog catalog = catalogFor(businessId);
+            long now = System.currentTimeMillis();
+            catalog.lock.lock();
+            try {
+                for (UUID productId : productIds) {
+                    ProductSnapshot snapshot = catalog.get(productId, now, settings.getTtlMs());
+                    if (snapshot != null) {
+                        found.put(productId, snapshot.toProduct());
+                    } else {
+                        misses.add(productId);
+                    }
+                }
+            } finally {
+                catalog.lock.unlock();
+            }
+            counter("id", "hit").increment(found.size());
+            counter("id", "miss").increment(misses.size());
+        } else {
+            misses.addAll(productIds);
+        }
+
+        if (!misses.isEmpty()) {
+            List<Product> loaded = productRepository.findAllByIdInAndBusinessIdAndDeletedFalse(misses, businessId);
+            for (Product product : loaded) {
+                found.put(product.getId(), product);
+            }
+            store(businessId, loaded);
+        }
+        lookupTimer(businessId, "batch").record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return found;
+    }
+
+    @Override
+    public void applyStockBalances(UUID businessId, Collection<ProductRepository.StockBalance> balances) {
+        if (!settings.isEnabled() || balances.isEmpty()) {
+            return;
+        }
+        Map<UUID, Balance> snapshot = new HashMap<>();
+        for (ProductRepository.StockBalance balance : balances) {
+            snapshot.put(balance.getId(), new Balance(balance.getCurrentStock(), balance.getVersion()));
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateStock(businessId, snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    updateStock(businessId, snapshot);
+                } else {
+                    snapshot.keySet().forEach(productId -> evict(businessId, productId));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void evict(UUID businessId, UUID productId) {
+        TenantCatalog catalog = catalogs.get(businessId);
+        if (catalog == null) {
+            return;
+        }
+        catalog.lock.lock();
+        try {
+            catalog.remove(productId);
+        } finally {
+            catalog.lock.unlock();
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private Optional<Product> lookup(UUID businessId, String keyType,
+            Function<TenantCatalog, UUID> index, Supplier<Optional<Product>> loader) {
+        if (!settings.isEnabled()) {
+            return loader.get();
+        }
+
+        TenantCatalog catalog = catalogFor(businessId);
+        catalog.lock.lock();
+        try {
+            UUID productId = index.apply(catalog);
+            ProductSnapshot snapshot = productId != null
+                    ? catalog.get(productId, System.currentTimeMillis(), settings.getTtlMs())
+                    : null;
+            if (snapshot != null) {
+                counter(keyType, "hit").increment();
+                return Optional.of(snapshot.toProduct());
+            }
+        } finally {
+            catalog.lock.unlock();
+        }
+
+        counter(keyType, "miss").increment();
+        Optional<Product> loaded = loader.get();
+        loaded.ifPresent(product -> store(businessId, List.of(product)));
+        return loaded;
+    }
+
+    private void store(UUID businessId, Collection<Product> products) {
+        if (!settings.isEnabled() || products.isEmpty()) {
+            return;
+        }
+        TenantCatalog catalog = catalogFor(businessId);
+        long now = System.currentTimeMillis();
+        catalog.lock.lock();
+        try {
+            for (Product product : products) {
+                catalog.put(ProductSnapshot.from(product), now, settings.getMaxEntriesPerBusiness());
+            }
+        } finally {
+            catalog.lock.unlock();
+        }
+    }
+
+    private void updateStock(UUID businessId, Map<UUID, Balance> balances) {
+        TenantCatalog catalog = catalogs.get(businessId);
+        if (catalog == null) {
+            return;
+        }
+        catalog.lock.lock();
+        try {
+            for (Map.Entry<UUID, Balance> entry : balances.entrySet()) {
+                Balance balance = entry.getValue();
+                catalog.byId.computeIfPresent(entry.getKey(), (productId, cached) ->
+                        isNewer(balance.version(), cached.snapshot().version())
+                                ? new CachedProduct(cached.snapshot().withCurrentStock(
+                                        balance.stock(), balance.version()), cached.loadedAt())
+                                : cached);
+            }
+        } finally {
+            catalog.lock.unlock();
+        }
+    }
+
+    private TenantCatalog catalogFor(UUID businessId) {
+        TenantCatalog catalog = catalogs.get(businessId);
+        if (catalog == null) {
+            catalog = catalogs.computeIfAbsent(businessId, id -> new TenantCatalog());
+            if (catalogs.size() > settings.getMaxBusinesses()) {
+                evictLeastActiveBusiness(businessId);
+            }
+        }
+        catalog.lastAccess = System.currentTimeMillis();
+        return catalog;
+    }
+
+    private void evictLeastActiveBusiness(UUID keep) {
+        UUID oldest = null;
+        long oldestAccess = Long.MAX_VALUE;
+        for (Map.Entry<UUID, TenantCatalog> entry : catalogs.entrySet()) {
+            if (!entry.getKey().equals(keep) && entry.getValue().lastAccess < oldestAccess) {
+                oldest = entry.getKey();
+                oldestAccess = entry.getValue().lastAccess;
+            }
+        }
+        if (oldest != null) {
+            catalogs.remove(oldest);
+            log.debug("Product catalogue for business {} evicted", oldest);
+        }
+    }
+
+    private Timer lookupTimer(UUID businessId, String keyType) {
+        return businessMeters.timer("trikaar.product.lookup", businessId, "lookup", keyType);
+    }
+
+    private Counter counter(String keyType, String result) {
+        return counters.computeIfAbsent(keyType + ":" + result,
+                k -> meterRegistry.counter("trikaar.product.cache", "lookup", keyType, "result", result));
+    }
+
+    /** A null version (a row written before versioning) counts as the oldest. */
+    private static boolean isNewer(Long candidate, Long current) {
+        return candidate != null && (current == null || candidate > current);
+    }
+
+    private record CachedProduct(ProductSnapshot snapshot, long loadedAt) {
+    }
+
+    private record Balance(BigDecimal stock, Long version) {
+    }
+
+    /**
+     * One business's products. All access goes through {@code lock}.
+     */
+    private static final class TenantCatalog {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<UUID, CachedProduct> byId = new LinkedHashMap<>(64, 0.75f, true);
+        private final Map<String, UUID> bySku = new HashMap<>();
+        private final Map<String, UUID> byBarcode = new HashMap<>();
+        private volatile long lastAccess;
+
+        ProductSnapshot get(UUID productId, long now, long ttlMs) {
+            CachedProduct cached = byId.get(productId);
+            if (cached == null) {
+                return null;
+            }
+            if (now - cached.loadedAt() > ttlMs) {
+                remove(productId);
+                return null;
+            }
+            return cached.snapshot();
+        }
+
+        /** Keeps the cached entry if it is already a newer version than {@code product}. */
+        void put(ProductSnapshot product, long now, int maxEntries) {
+            CachedProduct existing = byId.get(product.id());
+            if (existing != null && isNewer(existing.snapshot().version(), product.version())) {
+                return;
+            }
+            remove(product.id());
+            byId.put(product.id(), new CachedProduct(product, now));
+            if (product.sku() != null) {
+                bySku.put(product.sku(), product.id());
+            }
+            if (product.barcode() != null) {
+                byBarcode.put(product.barcode(), product.id());
+            }
+
+            Iterator<Map.Entry<UUID, CachedProduct>> eldest = byId.entrySet().iterator();
+            while (byId.size() > maxEntries && eldest.hasNext()) {
+                ProductSnapshot evicted = eldest.next().getValue().snapshot();
+                eldest.remove();
+                unindex(evicted);
+            }
+        }
+
+        void remove(UUID productId) {
+            CachedProduct cached = byId.remove(productId);
+            if (cached != null) {
+                unindex(cached.snapshot());
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return byId.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void unindex(ProductSnapshot product) {
+            if (product.sku() != null) {
+                bySku.remove(product.sku(), product.id());
+            }
+            if (product.barcode() != null) {
+                byBarcode.remove(product.barcode(), product.id());
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.module.inventory.entity.ProductImportError;
+import com.trikaar.module.inventory.entity.StockMovement;
+import com.trikaar.module.inventory.repository.ProductImportErrorRepository;
+import com.trikaar.module.inventory.repository.ProductImportRepository;
+import com.trikaar.module.inventory.repository.ProductRepository;
+import com.trikaar.module.inventory.repository.StockMovementRepository;
+import com.trikaar.module.inventory.service.ProductCatalogService;
+import com.trikaar.shared.context.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores one chunk of a product import in one transaction.
+ *
+ * Existing products (by SKU, deleted ones included) are looked up with one
+ * query, then new products are inserted and existing ones updated with JDBC
+ * batches. Updates never touch current_stock or go through the entity, so
+ * tills selling the same products meanwhile neither lose stock nor trip the
+ * optimistic lock. Opening stock of new products is recorded as
+ * ADJUSTMENT_IN movements in the same transaction.
+ */
+@Slf4j
+@Component
+class ProductImportChunkWriter {
+
+    static final String REFERENCE_TYPE = "PRODUCT_IMPORT";
+
+    private static final String INSERT_PRODUCT = "INSERT INTO products (id, business_id, sku, barcode, " +
+            "product_name, description, category, sub_category, brand, unit, cost_price, selling_price, mrp, " +
+            "tax_percentage, hsn_code, current_stock, reorder_level, max_stock_level, is_active, is_taxable, " +
+            "is_deleted, version, created_at, created_by) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, 0, ?, ?)";
+
+    // Empty optional cells keep the stored value; a deleted product is restored
+    private static final String UPDATE_PRODUCT = "UPDATE products SET product_name = ?, unit = ?, " +
+            "cost_price = ?, selling_price = ?, barcode = COALESCE(?, barcode), " +
+            "description = COALESCE(?, description), category = COALESCE(?, category), " +
+            "sub_category = COALESCE(?, sub_category), brand = COALESCE(?, brand), mrp = COALESCE(?, mrp), " +
+            "tax_percentage = COALESCE(?, tax_percentage), hsn_code = COALESCE(?, hsn_code), " +
+            "reorder_level = COALESCE(?, reorder_level), max_stock_level = COALESCE(?, max_stock_level), " +
+            "is_taxable = COALESCE(?, is_taxable), is_active = COALESCE(?, is_active), is_deleted = false, " +
+            "version = COALESCE(version, 0) + 1, updated_at = ?, updated_by = ? " +
+            "WHERE id = ? AND business_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final ProductImportRepository productImportRepository;
+    private final ProductImportErrorRepository productImportErrorRepository;
+    private final ProductCatalogService productCatalogService;
+    private final TransactionTemplate transaction;
+
+    ProductImportChunkWriter(JdbcTemplate jdbcTemplate,
+            ProductRepository productRepository,
+            StockMovementRepository stockMovementRepository,
+            ProductImportRepository productImportRepository,
+            ProductImportErrorRepository productImportErrorRepository,
+            ProductCatalogService productCatalogService,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.productImportRepository = productImportRepository;
+        this.productImportErrorRepository = productImportErrorRepository;
+        this.productCatalogService = productCatalogService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Stores the chunk and advances the import's counters. If the chunk cannot
+     * be committed, none of its rows are stored and all of them are recorded
+     * as failed.
+     *
+     * @param storedErrors error rows the import may still store; decremented here
+     */
+    void write(UUID importId, UUID businessId, Chunk chunk, AtomicInteger storedErrors) {
+        List<UUID> updatedIds;
+        try {
+            updatedIds = transaction.execute(status -> upsert(importId, businessId, chunk, storedErrors));
+        } catch (RuntimeException e) {
+            log.warn("Product import '{}' could not store rows {} to {}", importId,
+                    chunk.firstRow(), chunk.lastRow(), e);
+            List<ProductImportError> errors = new ArrayList<>(chunk.errors());
+            for (ProductImportRow row : chunk.rows()) {
+                errors.add(error(importId, businessId, row.rowNumber(), row.sku(), "ROW_NOT_SAVED",
+                        "Row could not be stored, import the file again to retry"));
+            }
+            transaction.executeWithoutResult(status -> {
+                productImportErrorRepository.saveAll(withinLimit(errors, storedErrors));
+                productImportRepository.recordProgress(importId, chunk.size(), 0, 0, errors.size(),
+                        LocalDateTime.now());
+            });
+            return;
+        }
+        updatedIds.forEach(productId -> productCatalogService.evict(businessId, productId));
+    }
+
+    static ProductImportError error(UUID importId, UUID businessId, int rowNumber, String sku,
+            String errorCode, String message) {
+        ProductImportError error = ProductImportError.builder()
+                .importId(importId)
+                .rowNumber(rowNumber)
+                .sku(sku != null && sku.length() > 100 ? sku.substring(0, 100) : sku)
+                .errorCode(errorCode)
+                .message(message != null && message.length() > 500 ? message.substring(0, 500) : message)
+                .build();
+        error.setBusinessId(businessId);
+        return error;
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    /** Returns the ids of the products that were updated. */
+    private List<UUID> upsert(UUID importId, UUID businessId, Chunk chunk, AtomicInteger storedErrors) {
+        List<ProductImportError> errors = new ArrayList<>(chunk.errors());
+
+        List<String> skus = new ArrayList<>(chunk.rows().size());
+        List<String> barcodes = new ArrayList<>();
+        for (ProductImportRow row : chunk.rows()) {
+            skus.add(row.sku());
+            if (row.barcode() != null) {
+                barcodes.add(row.barcode());
+            }
+        }
+        Map<String, Product> bySku = new HashMap<>();
+        if (!skus.isEmpty()) {
+            productRepository.findAllBySkuInAndBusinessId(skus, businessId)
+                    .forEach(product -> bySku.put(product.getSku(), product));
+        }
+        Map<String, Product> byBarcode = new HashMap<>();
+        if (!barcodes.isEmpty()) {
+            productRepository.findAllByBarcodeInAndBusinessId(barcodes, businessId)
+                    .forEach(product -> byBarcode.put(product.getBarcode(), product));
+        }
+
+        List<Product> created = new ArrayList<>();
+        List<Update> updated = new ArrayList<>();
+        for (ProductImportRow row : chunk.rows()) {
+            Product existing = bySku.get(row.sku());
+            Product barcodeOwner = row.barcode() != null ? byBarcode.get(row.barcode()) : null;
+            if (barcodeOwner != null && (existing == null || !barcodeOwner.getId().equals(existing.getId()))) {
+                errors.add(error(importId, businessId, row.rowNumber(), row.sku(), "BARCODE_IN_USE",
+                        "Barcode " + row.barcode() + " already belongs to SKU " + barcodeOwner.getSku()));
+            } else if (existing == null) {
+                Product product = row.toNewProduct(businessId);
+                product.setId(UUID.randomUUID());
+                created.add(product);
+            } else {
+                updated.add(new Update(existing.getId(), row));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UUID userId = TenantContext.getUserId();
+        insertProducts(created, now, userId);
+        updateProducts(updated, businessId, now, userId);
+
+        List<StockMovement> movements = new ArrayList<>();
+        for (Product product : created) {
+            if (product.getCurrentStock().signum() > 0) {
+                StockMovement movement = StockMovement.builder()
+                        .productId(product.getId())
+                        .movementType(StockMovement.MovementType.ADJUSTMENT_IN)
+                        .quantity(product.getCurrentStock())
+                        .stockBefore(BigDecimal.ZERO)
+                        .stockAfter(product.getCurrentStock())
+                        .referenceId(importId)
+                        .referenceType(REFERENCE_TYPE)
+                        .notes("Opening stock")
+                        .build();
+                movement.setBusinessId(businessId);
+                movements.add(movement);
+            }
+        }
+        stockMovementRepository.saveAll(movements);
+
+        productImportErrorRepository.saveAll(withinLimit(errors, storedErrors));
+        productImportRepository.recordProgress(importId, chunk.size(), created.size(), updated.size(),
+                errors.size(), now);
+        return updated.stream().map(Update::productId).toList();
+    }
+
+    private void insertProducts(List<Product> products, LocalDateTime now, UUID userId) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, products, products.size(), (ps, p) -> {
+            ps.setObject(1, p.getId());
+            ps.setObject(2, p.getBusinessId());
+            ps.setString(3, p.getSku());
+            ps.setObject(4, p.getBarcode(), Types.VARCHAR);
+            ps.setString(5, p.getProductName());
+            ps.setObject(6, p.getDescription(), Types.VARCHAR);
+            ps.setObject(7, p.getCategory(), Types.VARCHAR);
+            ps.setObject(8, p.getSubCategory(), Types.VARCHAR);
+            ps.setObject(9, p.getBrand(), Types.VARCHAR);
+            ps.setString(10, p.getUnit());
+            ps.setBigDecimal(11, p.getCostPrice());
+            ps.setBigDecimal(12, p.getSellingPrice());
+            ps.setObject(13, p.getMrp(), Types.NUMERIC);
+            ps.setBigDecimal(14, p.getTaxPercentage());
+            ps.setObject(15, p.getHsnCode(), Types.VARCHAR);
+            ps.setBigDecimal(16, p.getCurrentStock());
+            ps.setBigDecimal(17, p.getReorderLevel());
+            ps.setObject(18, p.getMaxStockLevel(), Types.NUMERIC);
+            ps.setBoolean(19, p.isActive());
+            ps.setBoolean(20, p.isTaxable());
+            ps.setObject(21, now);
+            ps.setObject(22, userId);
+        });
+    }
+
+    private void updateProducts(List<Update> updates, UUID businessId, LocalDateTime now, UUID userId) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_PRODUCT, updates, updates.size(), (ps, update) -> {
+            ProductImportRow row = update.row();
+            ps.setString(1, row.productName());
+            ps.setString(2, row.unit());
+            ps.setBigDecimal(3, row.costPrice());
+            ps.setBigDecimal(4, row.sellingPrice());
+            ps.setObject(5, row.barcode(), Types.VARCHAR);
+            ps.setObject(6, row.description(), Types.VARCHAR);
+            ps.setObject(7, row.category(), Types.VARCHAR);
+            ps.setObject(8, row.subCategory(), Types.VARCHAR);
+            ps.setObject(9, row.brand(), Types.VARCHAR);
+            ps.setObject(10, row.mrp(), Types.NUMERIC);
+            ps.setObject(11, row.taxPercentage(), Types.NUMERIC);
+            ps.setObject(12, row.hsnCode(), Types.VARCHAR);
+            ps.setObject(13, row.reorderLevel(), Types.NUMERIC);
+            ps.setObject(14, row.maxStockLevel(), Types.NUMERIC);
+            ps.setObject(15, row.taxable(), Types.BOOLEAN);
+            ps.setObject(16, row.active(), Types.BOOLEAN);
+            ps.setObject(17, now);
+            ps.setObject(18, userId);
+            ps.setObject(19, update.productId());
+            ps.setObject(20, businessId);
+        });
+    }
+
+    private static List<ProductImportError> withinLimit(List<ProductImportError> errors, AtomicInteger storedErrors) {
+        if (errors.isEmpty()) {
+            return errors;
+        }
+        int allowed = storedErrors.getAndUpdate(left -> Math.max(0, left - errors.size()));
+        return allowed >= errors.size() ? errors : errors.subList(0, Math.max(0, allowed));
+    }
+
+    private record Update(UUID productId, ProductImportRow row) {
+    }
+
+    /**
+     * Consecutive rows of the file: the valid ones and the errors of the
+     * invalid ones, which are stored along with the chunk.
+     */
+    record Chunk(List<ProductImportRow> rows, List<ProductImportError> errors) {
+
+        Chunk() {
+            this(new ArrayList<>(), new ArrayList<>());
+        }
+
+        int size() {
+            return rows.size() + errors.size();
+        }
+
+        int firstRow() {
+            int first = Integer.MAX_VALUE;
+            for (ProductImportRow row : rows) {
+                first = Math.min(first, row.rowNumber());
+            }
+            for (ProductImportError error : errors) {
+                first = Math.min(first, error.getRowNumber());
+            }
+            return first;
+        }
+
+        int lastRow() {
+            int last = 0;
+            for (ProductImportRow row : rows) {
+                last = Math.max(last, row.rowNumber());
+            }
+            for (ProductImportError error : errors) {
+                last = Math.max(last, error.getRowNumber());
+            }
+            return last;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.config.InventoryProperties;
+import com.trikaar.module.audit.entity.AuditLog;
+import com.trikaar.module.audit.service.AuditService;
+import com.trikaar.module.inventory.entity.ProductImport;
+import com.trikaar.module.inventory.repository.ProductImportRepository;
+import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.exception.ResourceNotFoundException;
+import com.trikaar.shared.util.CsvReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes a product import in the background.
+ *
+ * The spooled file is read by a single reader, one record at a time, and
+ * handed to a small pool of writers in chunks; at most one chunk per writer is
+ * buffered, so memory stays flat however large the file is. SKUs and barcodes
+ * are checked for duplicates across the whole file before a row is queued,
+ * which also keeps parallel chunks from competing for the same product.
+ * Invalid rows are recorded as {@link com.trikaar.module.inventory.entity.ProductImportError}
+ * and do not stop the import.
+ */
+@Slf4j
+@Component
+class ProductImportExecutor {
+
+    static final int MAX_FIELD_LENGTH = 10000;
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final ProductImportRepository productImportRepository;
+    private final ProductImportChunkWriter chunkWriter;
+    private final AuditService auditService;
+    private final InventoryProperties.ProductImport settings;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService writers;
+
+    ProductImportExecutor(ProductImportRepository productImportRepository,
+            ProductImportChunkWriter chunkWriter,
+            AuditService auditService,
+            InventoryProperties inventoryProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.productImportRepository = productImportRepository;
+        this.chunkWriter = chunkWriter;
+        this.auditService = auditService;
+        this.settings = inventoryProperties.getProductImport();
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        writers = Executors.newFixedThreadPool(Math.max(1, settings.getWriterThreads()),
+                Thread.ofPlatform().name("product-import-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void stop() {
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Product import writers did not finish within 30 s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the application task executor; the caller's tenant is carried
+     * over by the task decorator. Must only be called once the import is
+     * committed. Deletes the file when done.
+     */
+    @Async
+    public void execute(UUID importId, UUID businessId, Path file) {
+        long started = System.nanoTime();
+        ProductImport.ImportStatus outcome = ProductImport.ImportStatus.FAILED;
+        try {
+            outcome = run(importId, businessId, file);
+        } catch (IOException | RuntimeException e) {
+            log.error("Product import '{}' failed", importId, e);
+            markFailed(importId, businessId, e);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+            meterRegistry.timer("trikaar.inventory.import", "outcome", outcome.name().toLowerCase())
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private ProductImport.ImportStatus run(UUID importId, UUID businessId, Path file) throws IOException {
+        UUID userId = TenantContext.getUserId();
+        int chunkSize = Math.max(1, settings.getChunkSize());
+        AtomicInteger storedErrors = new AtomicInteger(settings.getMaxStoredErrors());
+        Semaphore inFlight = new Semaphore(Math.max(1, settings.getWriterThreads()) + 1);
+        List<Future<?>> writes = new ArrayList<>();
+
+        Set<String> skus = new HashSet<>();
+        Set<String> barcodes = new HashSet<>();
+        int rowNumber = 0;
+        int rows = 0;
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), MAX_FIELD_LENGTH)) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new BusinessRuleException("INVALID_IMPORT_HEADER", "The file is empty");
+            }
+            ProductImportRow.Columns columns = ProductImportRow.Columns.of(header);
+            ProductImportChunkWriter.Chunk chunk = new ProductImportChunkWriter.Chunk();
+            while (true) {
+                List<String> fields;
+                try {
+                    fields = reader.next();
+                } catch (IOException e) {
+                    throw new IOException("Row " + (rowNumber + 1) + ": " + e.getMessage(), e);
+                }
+                if (fields == null) {
+                    break;
+                }
+                rowNumber++;
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                rows++;
+                addRow(importId, businessId, rowNumber, fields, columns, chunk, skus, barcodes);
+                if (chunk.size() >= chunkSize) {
+                    submit(importId, businessId, userId, chunk, storedErrors, inFlight, writes);
+                    chunk = new ProductImportChunkWriter.Chunk();
+                }
+            }
+            if (chunk.size() > 0) {
+                submit(importId, businessId, userId, chunk, storedErrors, inFlight, writes);
+            }
+        } finally {
+            awaitAll(importId, writes);
+        }
+
+        int totalRows = rows;
+        ProductImport finished = transaction.execute(status -> {
+            ProductImport productImport = findImport(importId, businessId);
+            productImport.setTotalRows(totalRows);
+            productImport.setStatus(productImport.getFailedRows() > 0
+                    ? ProductImport.ImportStatus.COMPLETED_WITH_ERRORS
+                    : ProductImport.ImportStatus.COMPLETED);
+            productImport.setCompletedAt(LocalDateTime.now());
+            auditService.logAction(
+                    AuditLog.AuditAction.PRODUCT_IMPORT_COMPLETED,
+                    "ProductImport",
+                    importId,
+                    "Product import " + productImport.getFileName()
+                            + " | Rows=" + totalRows
+                            + " | Created=" + productImport.getCreatedProducts()
+                            + " | Updated=" + productImport.getUpdatedProducts()
+                            + " | Failed=" + productImport.getFailedRows());
+            return productImportRepository.save(productImport);
+        });
+
+        log.info("Product import '{}' finished: {} rows, {} created, {} updated, {} failed",
+                importId, totalRows, finished.getCreatedProducts(), finished.getUpdatedProducts(),
+                finished.getFailedRows());
+        return finished.getStatus();
+    }
+
+    private void addRow(UUID importId, UUID businessId, int rowNumber, List<String> fields,
+            ProductImportRow.Columns columns, ProductImportChunkWriter.Chunk chunk,
+            Set<String> skus, Set<String> barcodes) {
+        String sku = columns.value(fields, "sku");
+        try {
+            ProductImportRow row = columns.parse(rowNumber, fields);
+            if (skus.contains(row.sku())) {
+                throw new BusinessRuleException("DUPLICATE_SKU", "SKU appears more than once in the file");
+            }
+            if (row.barcode() != null && barcodes.contains(row.barcode())) {
+                throw new BusinessRuleException("DUPLICATE_BARCODE",
+                        "Barcode " + row.barcode() + " appears more than once in the file");
+            }
+            skus.add(row.sku());
+            if (row.barcode() != null) {
+                barcodes.add(row.barcode());
+            }
+            chunk.rows().add(row);
+        } catch (BusinessRuleException e) {
+            chunk.errors().add(ProductImportChunkWriter.error(importId, businessId, rowNumber, sku,
+                    e.getRuleCode(), e.getMessage()));
+        }
+    }
+
+    /** Blocks while every writer is busy and one more chunk is already queued. */
+    private void submit(UUID importId, UUID businessId, UUID userId, ProductImportChunkWriter.Chunk chunk,
+            AtomicInteger storedErrors, Semaphore inFlight, List<Future<?>> writes) {
+        inFlight.acquireUninterruptibly();
+        try {
+            writes.add(writers.submit(() -> {
+                try {
+                    TenantContext.runAs(businessId, userId,
+                            () -> chunkWriter.write(importId, businessId, chunk, storedErrors));
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void awaitAll(UUID importId, List<Future<?>> writes) {
+        RuntimeException failure = null;
+        boolean interrupted = false;
+        for (Future<?> write : writes) {
+            while (true) {
+                try {
+                    write.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    log.error("Product import '{}' could not record a chunk", importId, e.getCause());
+                    if (failure == null) {
+                        failure = new IllegalStateException("Some rows could not be recorded", e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void markFailed(UUID importId, UUID businessId, Exception failure) {
+        String message = failure.getMessage();
+        try {
+            transaction.executeWithoutResult(status -> {
+                ProductImport productImport = findImport(importId, businessId);
+                productImport.setStatus(ProductImport.ImportStatus.FAILED);
+                productImport.setCompletedAt(LocalDateTime.now());
+                productImport.setFailureMessage(message != null && message.length() > MAX_MESSAGE_LENGTH
+                        ? message.substring(0, MAX_MESSAGE_LENGTH)
+                        : message);
+                productImportRepository.save(productImport);
+            });
+        } catch (RuntimeException e) {
+            log.error("Could not mark product import '{}' as failed", importId, e);
+        }
+    }
+
+    private ProductImport findImport(UUID importId, UUID businessId) {
+        return productImportRepository.findByIdAndBusinessIdAndDeletedFalse(importId, businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("ProductImport", "id", importId));
+    }
+}
@@ -0,0 +1,229 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.shared.exception.BusinessRuleException;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One validated data row of a product upload.
+ *
+ * Optional columns that are missing from the file or empty in a row leave an
+ * existing product's value unchanged (see {@link ProductImportChunkWriter})
+ * and take the entity default on a new product. Opening stock only applies
+ * when the row creates the product, so re-importing a file never adds stock
+ * twice.
+ */
+record ProductImportRow(
+        int rowNumber,
+        String sku,
+        String barcode,
+        String productName,
+        String description,
+        String category,
+        String subCategory,
+        String brand,
+        String unit,
+        BigDecimal costPrice,
+        BigDecimal sellingPrice,
+        BigDecimal mrp,
+        BigDecimal taxPercentage,
+        String hsnCode,
+        BigDecimal openingStock,
+        BigDecimal reorderLevel,
+        BigDecimal maxStockLevel,
+        Boolean taxable,
+        Boolean active) {
+
+    static final Set<String> REQUIRED_COLUMNS = Set.of("sku", "product_name", "unit", "cost_price", "selling_price");
+
+    static final List<String> COLUMNS = List.of("sku", "barcode", "product_name", "description", "category",
+            "sub_category", "brand", "unit", "cost_price", "selling_price", "mrp", "tax_percentage", "hsn_code",
+            "opening_stock", "reorder_level", "max_stock_level", "taxable", "active");
+
+    private static final BigDecimal MAX_PRICE = new BigDecimal("9999999999.99");
+    private static final BigDecimal MAX_QUANTITY = new BigDecimal("999999999.999");
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    Product toNewProduct(UUID businessId) {
+        Product product = Product.builder()
+                .sku(sku)
+                .productName(productName)
+                .unit(unit)
+                .costPrice(costPrice)
+                .sellingPrice(sellingPrice)
+                .currentStock(openingStock != null ? openingStock : BigDecimal.ZERO)
+                .build();
+        applyOptional(product);
+        product.setBusinessId(businessId);
+        return product;
+    }
+
+    private void applyOptional(Product product) {
+        if (barcode != null) {
+            product.setBarcode(barcode);
+        }
+        if (description != null) {
+            product.setDescription(description);
+        }
+        if (category != null) {
+            product.setCategory(category);
+        }
+        if (subCategory != null) {
+            product.setSubCategory(subCategory);
+        }
+        if (brand != null) {
+            product.setBrand(brand);
+        }
+        if (mrp != null) {
+            product.setMrp(mrp);
+        }
+        if (taxPercentage != null) {
+            product.setTaxPercentage(taxPercentage);
+        }
+        if (hsnCode != null) {
+            product.setHsnCode(hsnCode);
+        }
+        if (reorderLevel != null) {
+            product.setReorderLevel(reorderLevel);
+        }
+        if (maxStockLevel != null) {
+            product.setMaxStockLevel(maxStockLevel);
+        }
+        if (taxable != null) {
+            product.setTaxable(taxable);
+        }
+        if (active != null) {
+            product.setActive(active);
+        }
+    }
+
+    /**
+     * Maps header names to positions. Names are matched case-insensitively,
+     * with spaces and dashes read as underscores.
+     */
+    static final class Columns {
+
+        private final Map<String, Integer> positions;
+
+        private Columns(Map<String, Integer> positions) {
+            this.positions = positions;
+        }
+
+        /**
+         * @throws BusinessRuleException INVALID_IMPORT_HEADER on unknown, duplicate or missing required columns
+         */
+        static Columns of(List<String> header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim().toLowerCase(Locale.ROOT).replace(' ', '_').replace('-', '_');
+                if (!COLUMNS.contains(name)) {
+                    throw new BusinessRuleException("INVALID_IMPORT_HEADER",
+                            "Unknown column '" + header.get(i) + "'. Supported columns: " + String.join(", ", COLUMNS));
+                }
+                if (positions.put(name, i) != null) {
+                    throw new BusinessRuleException("INVALID_IMPORT_HEADER", "Column '" + name + "' appears twice");
+                }
+            }
+            for (String required : REQUIRED_COLUMNS) {
+                if (!positions.containsKey(required)) {
+                    throw new BusinessRuleException("INVALID_IMPORT_HEADER",
+                            "Missing required column '" + required + "'");
+                }
+            }
+            return new Columns(positions);
+        }
+
+        /**
+         * @throws BusinessRuleException with the row's error code
+         */
+        ProductImportRow parse(int rowNumber, List<String> fields) {
+            if (fields.size() > positions.size()) {
+                throw new BusinessRuleException("INVALID_ROW",
+                        "Row has " + fields.size() + " fields, the header has " + positions.size());
+            }
+            return new ProductImportRow(
+                    rowNumber,
+                    text(fields, "sku", 100, true),
+                    text(fields, "barcode", 100, false),
+                    text(fields, "product_name", 255, true),
+                    text(fields, "description", 1000, false),
+                    text(fields, "category", 100, false),
+                    text(fields, "sub_category", 100, false),
+                    text(fields, "brand", 100, false),
+                    text(fields, "unit", 30, true),
+                    decimal(fields, "cost_price", 2, MAX_PRICE, true),
+                    decimal(fields, "selling_price", 2, MAX_PRICE, true),
+                    decimal(fields, "mrp", 2, MAX_PRICE, false),
+                    decimal(fields, "tax_percentage", 2, HUNDRED, false),
+                    text(fields, "hsn_code", 20, false),
+                    decimal(fields, "opening_stock", 3, MAX_QUANTITY, false),
+                    decimal(fields, "reorder_level", 3, MAX_QUANTITY, false),
+                    decimal(fields, "max_stock_level", 3, MAX_QUANTITY, false),
+                    bool(fields, "taxable"),
+                    bool(fields, "active"));
+        }
+
+        /** Trimmed value, or null when the column is absent or the cell empty. */
+        String value(List<String> fields, String column) {
+            Integer position = positions.get(column);
+            if (position == null || position >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(position).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private String text(List<String> fields, String column, int maxLength, boolean required) {
+            String value = value(fields, column);
+            if (value == null && required) {
+                throw new BusinessRuleException("MISSING_VALUE", column + " is required");
+            }
+            if (value != null && value.length() > maxLength) {
+                throw new BusinessRuleException("VALUE_TOO_LONG",
+                        column + " is longer than " + maxLength + " characters");
+            }
+            return value;
+        }
+
+        private BigDecimal decimal(List<String> fields, String column, int scale, BigDecimal max, boolean required) {
+            String value = text(fields, column, 30, required);
+            if (value == null) {
+                return null;
+            }
+            BigDecimal number;
+            try {
+                number = new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                throw new BusinessRuleException("INVALID_NUMBER", column + " is not a number: '" + value + "'");
+            }
+            if (number.signum() < 0 || number.compareTo(max) > 0) {
+                throw new BusinessRuleException("INVALID_NUMBER", column + " must be between 0 and " + max.toPlainString());
+            }
+            if (number.stripTrailingZeros().scale() > scale) {
+                throw new BusinessRuleException("INVALID_NUMBER",
+                        column + " has more than " + scale + " decimal places");
+            }
+            return number;
+        }
+
+        private Boolean bool(List<String> fields, String column) {
+            String value = value(fields, column);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "yes", "y", "1" -> true;
+                case "false", "no", "n", "0" -> false;
+                default -> throw new BusinessRuleException("INVALID_BOOLEAN",
+                        column + " must be true or false: '" + value + "'");
+            };
+        }
+    }
+}
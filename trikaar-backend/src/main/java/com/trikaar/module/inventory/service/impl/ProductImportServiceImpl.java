@@ -0,0 +1,233 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.config.InventoryProperties;
+import com.trikaar.module.inventory.dto.ProductImportResponse;
+import com.trikaar.module.inventory.entity.ProductImport;
+import com.trikaar.module.inventory.entity.ProductImportError;
+import com.trikaar.module.inventory.repository.ProductImportErrorRepository;
+import com.trikaar.module.inventory.repository.ProductImportRepository;
+import com.trikaar.module.inventory.service.ProductImportService;
+import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.dto.PagedResponse;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.exception.ResourceNotFoundException;
+import com.trikaar.shared.util.CsvReader;
+import com.trikaar.shared.util.CsvWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Accepts product uploads. The request body is copied to a file before
+ * anything touches the database, so a slow upload never holds a connection,
+ * and the rows are then processed by {@link ProductImportExecutor}. One import
+ * runs per business at a time.
+ */
+@Slf4j
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final ProductImportRepository productImportRepository;
+    private final ProductImportErrorRepository productImportErrorRepository;
+    private final ProductImportExecutor productImportExecutor;
+    private final InventoryProperties.ProductImport settings;
+    private final TransactionTemplate transaction;
+
+    public ProductImportServiceImpl(ProductImportRepository productImportRepository,
+            ProductImportErrorRepository productImportErrorRepository,
+            ProductImportExecutor productImportExecutor,
+            InventoryProperties inventoryProperties,
+            PlatformTransactionManager transactionManager) {
+        this.productImportRepository = productImportRepository;
+        this.productImportErrorRepository = productImportErrorRepository;
+        this.productImportExecutor = productImportExecutor;
+        this.settings = inventoryProperties.getProductImport();
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ProductImportResponse startImport(InputStream content, String fileName) throws IOException {
+        UUID businessId = TenantContext.getBusinessId();
+        transaction.executeWithoutResult(status -> ensureNoImportRunning(businessId));
+
+        Path file = spool(content);
+        ProductImport productImport;
+        try {
+            int lines = checkHeader(file);
+            productImport = ProductImport.builder()
+                    .fileName(fileName != null && fileName.length() > 255 ? fileName.substring(0, 255) : fileName)
+                    .totalRows(lines)
+                    .startedAt(LocalDateTime.now())
+                    .build();
+            productImport.setBusinessId(businessId);
+            ProductImport unsaved = productImport;
+            productImport = transaction.execute(status -> productImportRepository.saveAndFlush(unsaved));
+        } catch (DataIntegrityViolationException e) {
+            Files.deleteIfExists(file);
+            // uk_product_import_running: another upload was accepted meanwhile
+            throw new BusinessRuleException("IMPORT_IN_PROGRESS",
+                    "A product import is already in progress");
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        productImportExecutor.execute(productImport.getId(), businessId, file);
+        log.info("Product import '{}' started for file {} (~{} rows)",
+                productImport.getId(), fileName, productImport.getTotalRows());
+        return mapToResponse(productImport);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductImportResponse getImport(UUID importId) {
+        return mapToResponse(findImport(importId, TenantContext.getBusinessId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<ProductImportResponse> getImports(int page, int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        Page<ProductImport> importPage = productImportRepository.findAllByBusinessIdAndDeletedFalse(businessId,
+                PageRequest.of(page, size, Sort.by("startedAt").descending()));
+        return PagedResponse.<ProductImportResponse>builder()
+                .content(importPage.getContent().stream().map(this::mapToResponse).toList())
+                .pageNumber(importPage.getNumber())
+                .pageSize(importPage.getSize())
+                .totalElements(importPage.getTotalElements())
+                .totalPages(importPage.getTotalPages())
+                .last(importPage.isLast())
+                .first(importPage.isFirst())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeErrors(UUID importId, Writer out) throws IOException {
+        UUID businessId = TenantContext.getBusinessId();
+        findImport(importId, businessId);
+        List<ProductImportError> errors = productImportErrorRepository
+                .findAllByImportIdAndBusinessIdAndDeletedFalseOrderByRowNumber(importId, businessId);
+
+        CsvWriter csv = new CsvWriter(out);
+        csv.writeRow("row_number", "sku", "error_code", "message");
+        for (ProductImportError error : errors) {
+            csv.writeRow(error.getRowNumber(), error.getSku(), error.getErrorCode(), error.getMessage());
+        }
+        csv.flush();
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void ensureNoImportRunning(UUID businessId) {
+        LocalDateTime now = LocalDateTime.now();
+        productImportRepository.failAbandonedImports(businessId,
+                now.minusNanos(settings.getStaleAfterMs() * 1_000_000), now);
+        if (productImportRepository.existsByBusinessIdAndStatusAndDeletedFalse(
+                businessId, ProductImport.ImportStatus.RUNNING)) {
+            throw new BusinessRuleException("IMPORT_IN_PROGRESS", "A product import is already in progress");
+        }
+    }
+
+    /** Copies the upload into the work directory, enforcing the size limit. */
+    private Path spool(InputStream content) throws IOException {
+        Path workDir = Path.of(settings.getWorkDir());
+        Files.createDirectories(workDir);
+        Path file = Files.createTempFile(workDir, "product-import-", ".csv");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                size += read;
+                if (size > settings.getMaxFileBytes()) {
+                    throw new BusinessRuleException("IMPORT_TOO_LARGE",
+                            "File is larger than " + settings.getMaxFileBytes() + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Rejects files the import would fail on straight away.
+     *
+     * @return the number of lines after the header, the progress estimate until
+     *         the import has counted the actual rows
+     */
+    private int checkHeader(Path file) throws IOException {
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8),
+                ProductImportExecutor.MAX_FIELD_LENGTH)) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new BusinessRuleException("INVALID_IMPORT_HEADER", "The file is empty");
+            }
+            ProductImportRow.Columns.of(header);
+        } catch (IOException e) {
+            throw new BusinessRuleException("INVALID_IMPORT_HEADER", "Header could not be read: " + e.getMessage());
+        }
+
+        int lines = 0;
+        byte last = '\n';
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+                last = buffer[read - 1];
+            }
+        }
+        if (last != '\n') {
+            lines++;
+        }
+        return Math.max(0, lines - 1);
+    }
+
+    private ProductImport findImport(UUID importId, UUID businessId) {
+        return productImportRepository.findByIdAndBusinessIdAndDeletedFalse(importId, businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("ProductImport", "id", importId));
+    }
+
+    private ProductImportResponse mapToResponse(ProductImport productImport) {
+        return ProductImportResponse.builder()
+                .id(productImport.getId().toString())
+                .fileName(productImport.getFileName())
+                .status(productImport.getStatus().name())
+                .totalRows(productImport.getTotalRows())
+                .processedRows(productImport.getProcessedRows())
+                .createdProducts(productImport.getCreatedProducts())
+                .updatedProducts(productImport.getUpdatedProducts())
+                .failedRows(productImport.getFailedRows())
+                .startedAt(productImport.getStartedAt())
+                .completedAt(productImport.getCompletedAt())
+                .failureMessage(productImport.getFailureMessage())
+                .build();
+    }
+}
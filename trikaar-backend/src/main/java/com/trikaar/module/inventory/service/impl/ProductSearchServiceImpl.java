@@ -0,0 +1,102 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.module.inventory.repository.ProductRepository;
+import com.trikaar.module.inventory.service.ProductCatalogService;
+import com.trikaar.module.inventory.service.ProductSearchService;
+import com.trikaar.shared.dto.CursorResponse;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.metrics.BusinessMeters;
+import com.trikaar.shared.util.CursorCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchServiceImpl implements ProductSearchService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogService productCatalogService;
+    private final BusinessMeters businessMeters;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<Product> quickSearch(UUID businessId, String query, int limit, String cursor) {
+        String term = query != null ? query.trim() : "";
+        if (term.isEmpty()) {
+            return CursorResponse.<Product>builder().content(List.of()).build();
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        // Start before the first row: rank -1 sorts ahead of every real match
+        int afterRank = -1;
+        String afterName = "";
+        UUID afterId = CursorCodec.MIN_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = CursorCodec.decode(cursor, 3);
+            try {
+                afterRank = Integer.parseInt(position[0]);
+                afterId = UUID.fromString(position[1]);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessRuleException("INVALID_CURSOR", "Malformed pagination cursor");
+            }
+            afterName = position[2];
+        }
+
+        String lowerTerm = term.toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(lowerTerm);
+        long started = System.nanoTime();
+        List<ProductRepository.SearchHit> hits = productRepository.quickSearch(businessId,
+                term, lowerTerm, escaped + "%", escapeLike(term) + "%", "%" + escaped + "%",
+                afterRank, afterName, afterId, pageSize + 1);
+        businessMeters.timer("trikaar.product.search", businessId)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext) {
+            hits = hits.subList(0, pageSize);
+        }
+
+        Map<UUID, Product> products = productCatalogService.findAllByIds(businessId,
+                hits.stream().map(ProductRepository.SearchHit::getId).toList());
+        List<Product> content = new ArrayList<>(hits.size());
+        for (ProductRepository.SearchHit hit : hits) {
+            Product product = products.get(hit.getId());
+            if (product != null) {
+                content.add(product);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductRepository.SearchHit last = hits.get(hits.size() - 1);
+            nextCursor = CursorCodec.encode(String.valueOf(last.getMatchRank()),
+                    last.getId().toString(), last.getSortName());
+        }
+
+        return CursorResponse.<Product>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,107 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.module.inventory.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a product as held by the POS catalogue. Readers get a
+ * fresh detached {@link Product} from {@link #toProduct()}, and a new stock
+ * balance (with the row version it came with) replaces the snapshot instead
+ * of changing it, so no instance is ever shared between threads or
+ * persistence contexts.
+ */
+record ProductSnapshot(UUID id,
+        UUID businessId,
+        String sku,
+        String barcode,
+        String productName,
+        String description,
+        String category,
+        String subCategory,
+        String brand,
+        String unit,
+        BigDecimal costPrice,
+        BigDecimal sellingPrice,
+        BigDecimal mrp,
+        BigDecimal taxPercentage,
+        String hsnCode,
+        BigDecimal currentStock,
+        BigDecimal reorderLevel,
+        BigDecimal maxStockLevel,
+        boolean active,
+        boolean taxable,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID createdBy,
+        UUID updatedBy,
+        Long version) {
+
+    static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(product.getId(),
+                product.getBusinessId(),
+                product.getSku(),
+                product.getBarcode(),
+                product.getProductName(),
+                product.getDescription(),
+                product.getCategory(),
+                product.getSubCategory(),
+                product.getBrand(),
+                product.getUnit(),
+                product.getCostPrice(),
+                product.getSellingPrice(),
+                product.getMrp(),
+                product.getTaxPercentage(),
+                product.getHsnCode(),
+                product.getCurrentStock(),
+                product.getReorderLevel(),
+                product.getMaxStockLevel(),
+                product.isActive(),
+                product.isTaxable(),
+                product.getCreatedAt(),
+                product.getUpdatedAt(),
+                product.getCreatedBy(),
+                product.getUpdatedBy(),
+                product.getVersion());
+    }
+
+    ProductSnapshot withCurrentStock(BigDecimal stock, Long newVersion) {
+        return new ProductSnapshot(id, businessId, sku, barcode, productName, description, category,
+                subCategory, brand, unit, costPrice, sellingPrice, mrp, taxPercentage, hsnCode, stock,
+                reorderLevel, maxStockLevel, active, taxable, createdAt, updatedAt, createdBy, updatedBy,
+                newVersion);
+    }
+
+    Product toProduct() {
+        Product product = Product.builder()
+                .sku(sku)
+                .barcode(barcode)
+                .productName(productName)
+                .description(description)
+                .category(category)
+                .subCategory(subCategory)
+                .brand(brand)
+                .unit(unit)
+                .costPrice(costPrice)
+                .sellingPrice(sellingPrice)
+                .mrp(mrp)
+                .taxPercentage(taxPercentage)
+                .hsnCode(hsnCode)
+                .currentStock(currentStock)
+                .reorderLevel(reorderLevel)
+                .maxStockLevel(maxStockLevel)
+                .active(active)
+                .taxable(taxable)
+                .build();
+        product.setId(id);
+        product.setBusinessId(businessId);
+        product.setCreatedAt(createdAt);
+        product.setUpdatedAt(updatedAt);
+        product.setCreatedBy(createdBy);
+        product.setUpdatedBy(updatedBy);
+        product.setVersion(version);
+        return product;
+    }
+}
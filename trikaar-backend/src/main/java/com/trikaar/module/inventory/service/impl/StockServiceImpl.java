@@ -0,0 +1,189 @@
+package com.trikaar.module.inventory.service.impl;
+
+import com.trikaar.module.inventory.entity.Product;
+import com.trikaar.module.inventory.entity.StockMovement;
+import com.trikaar.module.inventory.repository.ProductRepository;
+import com.trikaar.module.inventory.repository.StockMovementRepository;
+import com.trikaar.module.inventory.service.ProductCatalogService;
+import com.trikaar.module.inventory.service.StockService;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockServiceImpl implements StockService {
+
+    private final ProductRepository productRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final ProductCatalogService productCatalogService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Product> loadProducts(UUID businessId, Collection<UUID> productIds) {
+        Map<UUID, Product> products = productCatalogService.findAllByIds(businessId, productIds);
+
+        for (UUID productId : productIds) {
+            if (!products.containsKey(productId)) {
+                throw new ResourceNotFoundException("Product", "id", productId);
+            }
+        }
+        return products;
+    }
+
+    @Override
+    @Transactional
+    public List<StockMovement> deductStock(UUID businessId, Map<UUID, Product> products,
+            Map<UUID, BigDecimal> quantities, UUID referenceId,
+            String referenceType, String notes) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. Atomic conditional decrement — single statement for the whole basket
+        Map<UUID, ProductRepository.StockBalance> balances = quantities.size() == 1
+                ? decrementSingle(businessId, quantities)
+                : decrementBatch(businessId, quantities);
+
+        for (UUID productId : quantities.keySet()) {
+            if (!balances.containsKey(productId)) {
+                // Another till sold the remaining units between our read and this update
+                Product product = products.get(productId);
+                throw new BusinessRuleException("INSUFFICIENT_STOCK",
+                        "Insufficient stock for '" + product.getProductName()
+                                + "'. Requested: " + quantities.get(productId));
+            }
+        }
+
+        productCatalogService.applyStockBalances(businessId, balances.values());
+
+        // 2. Bulk insert the ledger rows (JDBC-batched via hibernate.jdbc.batch_size)
+        List<StockMovement> movements = new ArrayList<>(quantities.size());
+        for (Map.Entry<UUID, BigDecimal> entry : quantities.entrySet()) {
+            BigDecimal stockAfter = balances.get(entry.getKey()).getCurrentStock();
+            movements.add(buildMovement(businessId, entry.getKey(),
+                    StockMovement.MovementType.SALE_OUT, entry.getValue().negate(),
+                    stockAfter.add(entry.getValue()), stockAfter,
+                    referenceId, referenceType, notes));
+        }
+
+        log.debug("Deducted stock for {} products in one batch ({})", quantities.size(), notes);
+        return stockMovementRepository.saveAll(movements);
+    }
+
+    @Override
+    @Transactional
+    public List<StockMovement> addStock(UUID businessId, Map<UUID, BigDecimal> quantities,
+            StockMovement.MovementType movementType, UUID referenceId,
+            String referenceType, String notes) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. One increment statement for every product
+        List<UUID> productIds = sortedIds(quantities);
+        Map<UUID, ProductRepository.StockBalance> balances = new HashMap<>();
+        for (ProductRepository.StockBalance balance : productRepository.incrementStockBatch(businessId,
+                joinIds(productIds), joinQuantities(productIds, quantities))) {
+            balances.put(balance.getId(), balance);
+        }
+        for (UUID productId : productIds) {
+            if (!balances.containsKey(productId)) {
+                throw new ResourceNotFoundException("Product", "id", productId);
+            }
+        }
+
+        productCatalogService.applyStockBalances(businessId, balances.values());
+
+        // 2. Bulk insert the ledger rows
+        List<StockMovement> movements = new ArrayList<>(productIds.size());
+        for (UUID productId : productIds) {
+            BigDecimal quantity = quantities.get(productId);
+            BigDecimal stockAfter = balances.get(productId).getCurrentStock();
+            movements.add(buildMovement(businessId, productId, movementType, quantity,
+                    stockAfter.subtract(quantity), stockAfter,
+                    referenceId, referenceType, notes));
+        }
+
+        log.debug("Added stock for {} products in one batch ({})", productIds.size(), notes);
+        return stockMovementRepository.saveAll(movements);
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private Map<UUID, ProductRepository.StockBalance> decrementSingle(UUID businessId,
+            Map<UUID, BigDecimal> quantities) {
+        Map.Entry<UUID, BigDecimal> entry = quantities.entrySet().iterator().next();
+        Map<UUID, ProductRepository.StockBalance> balances = new HashMap<>();
+        productRepository.decrementStockIfSufficient(entry.getKey(), businessId, entry.getValue())
+                .ifPresent(balance -> balances.put(entry.getKey(), balance));
+        return balances;
+    }
+
+    private Map<UUID, ProductRepository.StockBalance> decrementBatch(UUID businessId,
+            Map<UUID, BigDecimal> quantities) {
+        List<UUID> productIds = sortedIds(quantities);
+        Map<UUID, ProductRepository.StockBalance> balances = new HashMap<>();
+        for (ProductRepository.StockBalance balance : productRepository.deductStockBatch(
+                businessId, joinIds(productIds), joinQuantities(productIds, quantities))) {
+            balances.put(balance.getId(), balance);
+        }
+        return balances;
+    }
+
+    /**
+     * Product ids in the order Postgres sorts uuids (unsigned bytes, which is
+     * the order of their hex strings), the order the batch statements lock rows in.
+     */
+    private List<UUID> sortedIds(Map<UUID, BigDecimal> quantities) {
+        return quantities.keySet().stream()
+                .sorted(Comparator.comparing(UUID::toString))
+                .toList();
+    }
+
+    /** Comma-separated list for the unnest-based batch statements. */
+    private String joinIds(List<UUID> productIds) {
+        return productIds.stream()
+                .map(UUID::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    /** Quantities in the same order as {@link #joinIds}. */
+    private String joinQuantities(List<UUID> productIds, Map<UUID, BigDecimal> quantities) {
+        return productIds.stream()
+                .map(id -> quantities.get(id).toPlainString())
+                .collect(Collectors.joining(","));
+    }
+
+    private StockMovement buildMovement(UUID businessId, UUID productId,
+            StockMovement.MovementType movementType, BigDecimal quantity,
+            BigDecimal stockBefore, BigDecimal stockAfter,
+            UUID referenceId, String referenceType, String notes) {
+        StockMovement movement = StockMovement.builder()
+                .productId(productId)
+                .movementType(movementType)
+                .quantity(quantity)
+                .stockBefore(stockBefore)
+                .stockAfter(stockAfter)
+                .referenceId(referenceId)
+                .referenceType(referenceType)
+                .notes(notes)
+                .build();
+        movement.setBusinessId(businessId);
+        return movement;
+    }
+}
@@ -1,6 +1,8 @@
 package com.trikaar.module.loyalty.repository;
 
+import com.trikaar.config.CacheConfig;
 import com.trikaar.module.loyalty.entity.LoyaltyConfig;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +13,9 @@ import java.util.UUID;
 public interface LoyaltyConfigRepository extends JpaRepository<LoyaltyConfig, UUID> {
 
     Optional<LoyaltyConfig> findByBusinessIdAndDeletedFalse(UUID businessId);
+
+    /** Evicts the business's cached rules on this node once the transaction commits. */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.LOYALTY_CONFIG, key = "#p0.businessId")
+    <S extends LoyaltyConfig> S save(S entity);
 }
@@ -0,0 +1,27 @@
+package com.trikaar.module.loyalty.service.impl;
+
+import com.trikaar.module.loyalty.entity.LoyaltyConfig;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable copy of a business's active loyalty config. This is what the
+ * config cache holds, so no entity instance is shared between sessions.
+ */
+record LoyaltyRules(BigDecimal pointsPerCurrencyUnit,
+        BigDecimal currencyUnitsPerPoint,
+        BigDecimal minimumPurchaseForPoints,
+        BigDecimal minimumPointsForRedemption,
+        BigDecimal maxRedemptionPercentage) {
+
+    /** The built-in rules, used when a business has no active config. */
+    static final LoyaltyRules DEFAULTS = from(LoyaltyConfig.builder().build());
+
+    static LoyaltyRules from(LoyaltyConfig config) {
+        return new LoyaltyRules(config.getPointsPerCurrencyUnit(),
+                config.getCurrencyUnitsPerPoint(),
+                config.getMinimumPurchaseForPoints(),
+                config.getMinimumPointsForRedemption(),
+                config.getMaxRedemptionPercentage());
+    }
+}
@@ -0,0 +1,37 @@
+package com.trikaar.module.loyalty.service.impl;
+
+import com.trikaar.config.CacheConfig;
+import com.trikaar.module.loyalty.entity.LoyaltyConfig;
+import com.trikaar.module.loyalty.repository.LoyaltyConfigRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Per-business {@link LoyaltyRules}, served from the {@code loyaltyConfig}
+ * cache.
+ *
+ * Saving a config through {@link LoyaltyConfigRepository} evicts the entry on
+ * this node only. Other nodes keep serving the old rules until their entry
+ * expires (expireAfterWrite in spring.cache.caffeine.spec).
+ */
+@Component
+@RequiredArgsConstructor
+class LoyaltyRulesCache {
+
+    private final LoyaltyConfigRepository loyaltyConfigRepository;
+
+    /**
+     * Falls back to the built-in defaults without persisting them, so reads
+     * never write.
+     */
+    @Cacheable(cacheNames = CacheConfig.LOYALTY_CONFIG, key = "#p0")
+    public LoyaltyRules get(UUID businessId) {
+        return loyaltyConfigRepository.findByBusinessIdAndDeletedFalse(businessId)
+                .filter(LoyaltyConfig::isActive)
+                .map(LoyaltyRules::from)
+                .orElse(LoyaltyRules.DEFAULTS);
+    }
+}
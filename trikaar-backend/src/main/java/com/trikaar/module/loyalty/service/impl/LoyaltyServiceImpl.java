@@ -2,9 +2,7 @@ package com.trikaar.module.loyalty.service.impl;
 
 import com.trikaar.module.customer.entity.Customer;
 import com.trikaar.module.customer.repository.CustomerRepository;
-import com.trikaar.module.loyalty.entity.LoyaltyConfig;
 import com.trikaar.module.loyalty.entity.LoyaltyTransaction;
-import com.trikaar.module.loyalty.repository.LoyaltyConfigRepository;
 import com.trikaar.module.loyalty.repository.LoyaltyTransactionRepository;
 import com.trikaar.module.loyalty.service.LoyaltyService;
 import com.trikaar.shared.exception.BusinessRuleException;
@@ -23,34 +21,34 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class LoyaltyServiceImpl implements LoyaltyService {
 
-    private final LoyaltyConfigRepository loyaltyConfigRepository;
+    private final LoyaltyRulesCache loyaltyRulesCache;
     private final LoyaltyTransactionRepository loyaltyTransactionRepository;
     private final CustomerRepository customerRepository;
 
     @Override
     public BigDecimal calculatePointsEarned(UUID businessId, BigDecimal saleAmount) {
-        LoyaltyConfig config = getActiveConfig(businessId);
+        LoyaltyRules rules = loyaltyRulesCache.get(businessId);
 
-        if (saleAmount.compareTo(config.getMinimumPurchaseForPoints()) < 0) {
+        if (saleAmount.compareTo(rules.minimumPurchaseForPoints()) < 0) {
             return BigDecimal.ZERO;
         }
 
         // Example: ₹500 sale * 0.01 pointsPerCurrencyUnit = 5 points
-        return saleAmount.multiply(config.getPointsPerCurrencyUnit())
+        return saleAmount.multiply(rules.pointsPerCurrencyUnit())
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
     @Override
     public BigDecimal calculateRedemptionValue(UUID businessId, BigDecimal pointsToRedeem) {
-        LoyaltyConfig config = getActiveConfig(businessId);
+        LoyaltyRules rules = loyaltyRulesCache.get(businessId);
 
-        if (pointsToRedeem.compareTo(config.getMinimumPointsForRedemption()) < 0) {
+        if (pointsToRedeem.compareTo(rules.minimumPointsForRedemption()) < 0) {
             throw new BusinessRuleException("INSUFFICIENT_LOYALTY_POINTS",
-                    "Minimum " + config.getMinimumPointsForRedemption() + " points required for redemption");
+                    "Minimum " + rules.minimumPointsForRedemption() + " points required for redemption");
         }
 
         // Example: 10 points * ₹1 currencyUnitsPerPoint = ₹10 discount
-        return pointsToRedeem.multiply(config.getCurrencyUnitsPerPoint())
+        return pointsToRedeem.multiply(rules.currencyUnitsPerPoint())
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
@@ -113,28 +111,7 @@ public class LoyaltyServiceImpl implements LoyaltyService {
         customer.setTotalVisits(customer.getTotalVisits() + 1);
 
         // Update tier based on total spent
-        customer.setLoyaltyTier(calculateTier(customer.getTotalSpent()));
+        customer.setLoyaltyTier(LoyaltyTiers.forTotalSpent(customer.getTotalSpent()));
         customerRepository.save(customer);
     }
-
-    private LoyaltyConfig getActiveConfig(UUID businessId) {
-        return loyaltyConfigRepository.findByBusinessIdAndDeletedFalse(businessId)
-                .filter(LoyaltyConfig::isActive)
-                .orElseGet(() -> {
-                    // Create default config if none exists
-                    LoyaltyConfig defaultConfig = LoyaltyConfig.builder().build();
-                    defaultConfig.setBusinessId(businessId);
-                    return loyaltyConfigRepository.save(defaultConfig);
-                });
-    }
-
-    private Customer.LoyaltyTier calculateTier(BigDecimal totalSpent) {
-        if (totalSpent.compareTo(new BigDecimal("100000")) >= 0)
-            return Customer.LoyaltyTier.PLATINUM;
-        if (totalSpent.compareTo(new BigDecimal("50000")) >= 0)
-            return Customer.LoyaltyTier.GOLD;
-        if (totalSpent.compareTo(new BigDecimal("20000")) >= 0)
-            return Customer.LoyaltyTier.SILVER;
-        return Customer.LoyaltyTier.BRONZE;
-    }
 }
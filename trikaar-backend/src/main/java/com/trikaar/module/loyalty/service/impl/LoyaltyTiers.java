@@ -0,0 +1,29 @@
+package com.trikaar.module.loyalty.service.impl;
+
+import com.trikaar.module.customer.entity.Customer;
+
+import java.math.BigDecimal;
+
+/**
+ * Tier thresholds on a customer's lifetime spend, free of I/O so they can be
+ * benchmarked on their own.
+ */
+final class LoyaltyTiers {
+
+    private static final BigDecimal PLATINUM_FROM = new BigDecimal("100000");
+    private static final BigDecimal GOLD_FROM = new BigDecimal("50000");
+    private static final BigDecimal SILVER_FROM = new BigDecimal("20000");
+
+    private LoyaltyTiers() {
+    }
+
+    static Customer.LoyaltyTier forTotalSpent(BigDecimal totalSpent) {
+        if (totalSpent.compareTo(PLATINUM_FROM) >= 0)
+            return Customer.LoyaltyTier.PLATINUM;
+        if (totalSpent.compareTo(GOLD_FROM) >= 0)
+            return Customer.LoyaltyTier.GOLD;
+        if (totalSpent.compareTo(SILVER_FROM) >= 0)
+            return Customer.LoyaltyTier.SILVER;
+        return Customer.LoyaltyTier.BRONZE;
+    }
+}
@@ -2,17 +2,26 @@ package com.trikaar.module.reporting.controller;
 
 import com.trikaar.module.reporting.dto.DailySalesReport;
 import com.trikaar.module.reporting.dto.MonthlyRevenueReport;
+import com.trikaar.module.reporting.service.ExportService;
 import com.trikaar.module.reporting.service.ReportingService;
 import com.trikaar.shared.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/reports")
@@ -21,7 +30,10 @@ import java.time.LocalDate;
 @Tag(name = "Reporting", description = "Business intelligence and reporting APIs")
 public class ReportingController {
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final ReportingService reportingService;
+    private final ExportService exportService;
 
     @GetMapping("/daily-sales")
     @Operation(summary = "Generate daily sales report")
@@ -39,4 +51,54 @@ public class ReportingController {
         return ResponseEntity.ok(ApiResponse.success(
                 reportingService.generateMonthlyRevenueReport(year, month)));
     }
+
+    @GetMapping("/export/sales")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Stream sales in a date range as CSV (gzip=true for .csv.gz)")
+    public void exportSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        exportService.exportSales(from, to, () -> openExport(response, "sales", from, to, gzip));
+    }
+
+    @GetMapping("/export/stock-movements")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Stream stock movements in a date range as CSV (gzip=true for .csv.gz)")
+    public void exportStockMovements(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        exportService.exportStockMovements(from, to,
+                () -> openExport(response, "stock-movements", from, to, gzip));
+    }
+
+    @GetMapping("/export/audit-logs")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream audit logs in a date range as CSV (gzip=true for .csv.gz)")
+    public void exportAuditLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        exportService.exportAuditLogs(from, to, () -> openExport(response, "audit-logs", from, to, gzip));
+    }
+
+    /**
+     * Sets the download headers and returns a buffered writer over the body.
+     * The servlet container sends the body chunked as the buffer fills.
+     */
+    private static BufferedWriter openExport(HttpServletResponse response, String name,
+            LocalDate from, LocalDate to, boolean gzip) throws IOException {
+        String fileName = name + "-" + from + "-to-" + to + (gzip ? ".csv.gz" : ".csv");
+        response.setContentType(gzip ? "application/gzip" : "text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        OutputStream body = response.getOutputStream();
+        if (gzip) {
+            body = new GZIPOutputStream(body, EXPORT_BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+    }
 }
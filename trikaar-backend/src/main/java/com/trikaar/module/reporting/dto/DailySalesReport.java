@@ -24,5 +24,7 @@ public class DailySalesReport {
     private BigDecimal cashTotal;
     private BigDecimal cardTotal;
     private BigDecimal upiTotal;
+    private BigDecimal mixedTotal;
+    private BigDecimal creditTotal;
     private BigDecimal averageTransactionValue;
 }
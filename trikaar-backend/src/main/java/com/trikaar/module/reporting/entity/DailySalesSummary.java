@@ -0,0 +1,77 @@
+package com.trikaar.module.reporting.entity;
+
+import com.trikaar.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated sales figures per business and day.
+ * Updated incrementally by the sale and refund flows so reports read
+ * O(days) rows instead of re-scanning sales and refunds.
+ *
+ * A day is split across a few slots to spread write contention;
+ * the figures for a day are the sum of its slots.
+ */
+@Entity
+@Table(name = "daily_sales_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_summary_business_date_slot", columnNames = { "business_id",
+                "summary_date", "slot" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailySalesSummary extends BaseEntity {
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Column(name = "slot", nullable = false)
+    private short slot;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "total_revenue", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal totalRevenue = BigDecimal.ZERO;
+
+    @Column(name = "total_tax", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal totalTax = BigDecimal.ZERO;
+
+    @Column(name = "total_discount", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal totalDiscount = BigDecimal.ZERO;
+
+    @Column(name = "cash_total", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal cashTotal = BigDecimal.ZERO;
+
+    @Column(name = "card_total", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal cardTotal = BigDecimal.ZERO;
+
+    @Column(name = "upi_total", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal upiTotal = BigDecimal.ZERO;
+
+    @Column(name = "mixed_total", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal mixedTotal = BigDecimal.ZERO;
+
+    @Column(name = "credit_total", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal creditTotal = BigDecimal.ZERO;
+
+    @Column(name = "refund_count", nullable = false)
+    private long refundCount;
+
+    @Column(name = "total_refunds", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal totalRefunds = BigDecimal.ZERO;
+}
@@ -0,0 +1,60 @@
+package com.trikaar.module.reporting.repository;
+
+import com.trikaar.module.reporting.entity.DailySalesSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DailySalesSummaryRepository extends JpaRepository<DailySalesSummary, UUID> {
+
+    List<DailySalesSummary> findAllByBusinessIdAndSummaryDateBetweenAndDeletedFalse(
+            UUID businessId, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_sales_summaries (business_id, summary_date, slot, transaction_count, " +
+            "total_revenue, total_tax, total_discount, cash_total, card_total, upi_total, mixed_total, credit_total) " +
+            "VALUES (:businessId, :summaryDate, :slot, 1, :revenue, :tax, :discount, " +
+            ":cash, :card, :upi, :mixed, :credit) " +
+            "ON CONFLICT (business_id, summary_date, slot) DO UPDATE SET " +
+            "transaction_count = daily_sales_summaries.transaction_count + 1, " +
+            "total_revenue = daily_sales_summaries.total_revenue + EXCLUDED.total_revenue, " +
+            "total_tax = daily_sales_summaries.total_tax + EXCLUDED.total_tax, " +
+            "total_discount = daily_sales_summaries.total_discount + EXCLUDED.total_discount, " +
+            "cash_total = daily_sales_summaries.cash_total + EXCLUDED.cash_total, " +
+            "card_total = daily_sales_summaries.card_total + EXCLUDED.card_total, " +
+            "upi_total = daily_sales_summaries.upi_total + EXCLUDED.upi_total, " +
+            "mixed_total = daily_sales_summaries.mixed_total + EXCLUDED.mixed_total, " +
+            "credit_total = daily_sales_summaries.credit_total + EXCLUDED.credit_total, " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int addSale(@Param("businessId") UUID businessId,
+            @Param("summaryDate") LocalDate summaryDate,
+            @Param("slot") short slot,
+            @Param("revenue") BigDecimal revenue,
+            @Param("tax") BigDecimal tax,
+            @Param("discount") BigDecimal discount,
+            @Param("cash") BigDecimal cash,
+            @Param("card") BigDecimal card,
+            @Param("upi") BigDecimal upi,
+            @Param("mixed") BigDecimal mixed,
+            @Param("credit") BigDecimal credit);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_sales_summaries (business_id, summary_date, slot, refund_count, total_refunds) " +
+            "VALUES (:businessId, :summaryDate, :slot, 1, :amount) " +
+            "ON CONFLICT (business_id, summary_date, slot) DO UPDATE SET " +
+            "refund_count = daily_sales_summaries.refund_count + 1, " +
+            "total_refunds = daily_sales_summaries.total_refunds + EXCLUDED.total_refunds, " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int addRefund(@Param("businessId") UUID businessId,
+            @Param("summaryDate") LocalDate summaryDate,
+            @Param("slot") short slot,
+            @Param("amount") BigDecimal amount);
+}
@@ -0,0 +1,33 @@
+package com.trikaar.module.reporting.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+/**
+ * CSV extracts streamed straight from a database cursor, so memory use does
+ * not depend on how many rows a range holds. Ranges are inclusive calendar
+ * days; rows come out oldest first.
+ */
+public interface ExportService {
+
+    /**
+     * Opens the output. Called only once the request has been validated, so
+     * a rejected export can still be answered with a regular error response.
+     */
+    @FunctionalInterface
+    interface Target {
+        Writer open() throws IOException;
+    }
+
+    /**
+     * @return rows written, header excluded
+     * @throws com.trikaar.shared.exception.BusinessRuleException
+     *         INVALID_PERIOD, EXPORT_RANGE_TOO_LARGE or EXPORT_BUSY
+     */
+    long exportSales(LocalDate from, LocalDate to, Target target) throws IOException;
+
+    long exportStockMovements(LocalDate from, LocalDate to, Target target) throws IOException;
+
+    long exportAuditLogs(LocalDate from, LocalDate to, Target target) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.trikaar.module.reporting.service;
+
+import com.trikaar.module.sales.entity.Refund;
+import com.trikaar.module.sales.entity.Sale;
+
+/**
+ * Maintains the daily sales rollup read by the reports.
+ * Must be called inside the transaction that persists the sale or refund
+ * so the rollup commits or rolls back together with it. The rollup rows are
+ * written just before that transaction commits.
+ */
+public interface SalesRollupService {
+
+    void recordSale(Sale sale);
+
+    void recordRefund(Refund refund);
+}
@@ -3,11 +3,12 @@ package com.trikaar.module.reporting.service.impl;
 import com.trikaar.module.inventory.repository.ProductRepository;
 import com.trikaar.module.reporting.dto.DailySalesReport;
 import com.trikaar.module.reporting.dto.MonthlyRevenueReport;
+import com.trikaar.module.reporting.entity.DailySalesSummary;
+import com.trikaar.module.reporting.repository.DailySalesSummaryRepository;
 import com.trikaar.module.reporting.service.ReportingService;
 import com.trikaar.module.salary.repository.SalaryPayoutRepository;
-import com.trikaar.module.sales.repository.RefundRepository;
-import com.trikaar.module.sales.repository.SaleRepository;
 import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.metrics.BusinessMeters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,30 +17,32 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReportingServiceImpl implements ReportingService {
 
-    private final SaleRepository saleRepository;
-    private final RefundRepository refundRepository;
+    private final DailySalesSummaryRepository summaryRepository;
     private final SalaryPayoutRepository salaryPayoutRepository;
     private final ProductRepository productRepository;
+    private final BusinessMeters businessMeters;
 
     @Override
     @Transactional(readOnly = true)
     public DailySalesReport generateDailySalesReport(LocalDate date) {
         UUID businessId = TenantContext.getBusinessId();
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
+        long started = System.nanoTime();
+        DailySalesSummary totals = sumSummaries(businessId, date, date);
+        recordGeneration(businessId, "daily_sales", started);
 
-        BigDecimal totalRevenue = saleRepository.calculateRevenue(businessId, startOfDay, endOfDay);
-        long totalTransactions = saleRepository.countSales(businessId, startOfDay, endOfDay);
-        BigDecimal totalRefunds = refundRepository.calculateTotalRefunds(businessId, startOfDay, endOfDay);
+        BigDecimal totalRevenue = totals.getTotalRevenue();
+        long totalTransactions = totals.getTransactionCount();
+        BigDecimal totalRefunds = totals.getTotalRefunds();
         BigDecimal netRevenue = totalRevenue.subtract(totalRefunds);
         BigDecimal averageTransactionValue = totalTransactions > 0
                 ? totalRevenue.divide(BigDecimal.valueOf(totalTransactions), 2, RoundingMode.HALF_UP)
@@ -51,6 +54,13 @@ public class ReportingServiceImpl implements ReportingService {
                 .totalRevenue(totalRevenue)
                 .totalRefunds(totalRefunds)
                 .netRevenue(netRevenue)
+                .totalTax(totals.getTotalTax())
+                .totalDiscount(totals.getTotalDiscount())
+                .cashTotal(totals.getCashTotal())
+                .cardTotal(totals.getCardTotal())
+                .upiTotal(totals.getUpiTotal())
+                .mixedTotal(totals.getMixedTotal())
+                .creditTotal(totals.getCreditTotal())
                 .averageTransactionValue(averageTransactionValue)
                 .build();
     }
@@ -59,18 +69,19 @@ public class ReportingServiceImpl implements ReportingService {
     @Transactional(readOnly = true)
     public MonthlyRevenueReport generateMonthlyRevenueReport(int year, int month) {
         UUID businessId = TenantContext.getBusinessId();
+        long started = System.nanoTime();
         YearMonth yearMonth = YearMonth.of(year, month);
-        LocalDateTime startOfMonth = yearMonth.atDay(1).atStartOfDay();
-        LocalDateTime endOfMonth = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+        DailySalesSummary totals = sumSummaries(businessId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
 
-        BigDecimal totalRevenue = saleRepository.calculateRevenue(businessId, startOfMonth, endOfMonth);
-        long totalTransactions = saleRepository.countSales(businessId, startOfMonth, endOfMonth);
-        BigDecimal totalRefunds = refundRepository.calculateTotalRefunds(businessId, startOfMonth, endOfMonth);
+        BigDecimal totalRevenue = totals.getTotalRevenue();
+        long totalTransactions = totals.getTransactionCount();
+        BigDecimal totalRefunds = totals.getTotalRefunds();
         BigDecimal netRevenue = totalRevenue.subtract(totalRefunds);
         BigDecimal totalSalaryPayouts = salaryPayoutRepository.calculateTotalPayouts(
                 businessId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
         BigDecimal stockValue = productRepository.calculateTotalStockValue(businessId);
         BigDecimal grossProfit = netRevenue.subtract(totalSalaryPayouts);
+        recordGeneration(businessId, "monthly_revenue", started);
 
         return MonthlyRevenueReport.builder()
                 .year(year)
@@ -84,4 +95,45 @@ public class ReportingServiceImpl implements ReportingService {
                 .grossProfit(grossProfit)
                 .build();
     }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void recordGeneration(UUID businessId, String report, long startedNanos) {
+        businessMeters.timer("trikaar.reports.generation", businessId, "report", report)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Folds the rollup rows (all days and slots) of a date range into one total.
+     */
+    private DailySalesSummary sumSummaries(UUID businessId, LocalDate from, LocalDate to) {
+        List<DailySalesSummary> rows = summaryRepository
+                .findAllByBusinessIdAndSummaryDateBetweenAndDeletedFalse(businessId, from, to);
+
+        DailySalesSummary total = new DailySalesSummary();
+        total.setTotalRevenue(BigDecimal.ZERO);
+        total.setTotalTax(BigDecimal.ZERO);
+        total.setTotalDiscount(BigDecimal.ZERO);
+        total.setCashTotal(BigDecimal.ZERO);
+        total.setCardTotal(BigDecimal.ZERO);
+        total.setUpiTotal(BigDecimal.ZERO);
+        total.setMixedTotal(BigDecimal.ZERO);
+        total.setCreditTotal(BigDecimal.ZERO);
+        total.setTotalRefunds(BigDecimal.ZERO);
+
+        for (DailySalesSummary row : rows) {
+            total.setTransactionCount(total.getTransactionCount() + row.getTransactionCount());
+            total.setTotalRevenue(total.getTotalRevenue().add(row.getTotalRevenue()));
+            total.setTotalTax(total.getTotalTax().add(row.getTotalTax()));
+            total.setTotalDiscount(total.getTotalDiscount().add(row.getTotalDiscount()));
+            total.setCashTotal(total.getCashTotal().add(row.getCashTotal()));
+            total.setCardTotal(total.getCardTotal().add(row.getCardTotal()));
+            total.setUpiTotal(total.getUpiTotal().add(row.getUpiTotal()));
+            total.setMixedTotal(total.getMixedTotal().add(row.getMixedTotal()));
+            total.setCreditTotal(total.getCreditTotal().add(row.getCreditTotal()));
+            total.setRefundCount(total.getRefundCount() + row.getRefundCount());
+            total.setTotalRefunds(total.getTotalRefunds().add(row.getTotalRefunds()));
+        }
+        return total;
+    }
 }
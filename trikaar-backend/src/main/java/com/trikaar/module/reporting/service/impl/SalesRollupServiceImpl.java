@@ -0,0 +1,136 @@
+package com.trikaar.module.reporting.service.impl;
+
+import com.trikaar.module.reporting.repository.DailySalesSummaryRepository;
+import com.trikaar.module.reporting.service.SalesRollupService;
+import com.trikaar.module.sales.entity.Refund;
+import com.trikaar.module.sales.entity.Sale;
+import com.trikaar.module.sales.entity.SaleItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Upserts the rollup rows when the surrounding transaction is about to
+ * commit, sorted by row key, rather than as each sale is recorded. A
+ * transaction holding several sales (a group-commit batch, a sync chunk)
+ * therefore locks its rollup rows in the same order as every other
+ * transaction, and two of them can never deadlock on the rollup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    /**
+     * Number of rows a business-day is spread over. The upsert holds a row lock
+     * until the surrounding sale commits, so a single row would serialize tills.
+     */
+    static final int SLOTS = 8;
+
+    private static final Comparator<PendingUpsert> LOCK_ORDER = Comparator
+            .comparing(PendingUpsert::businessId)
+            .thenComparing(PendingUpsert::date)
+            .thenComparing(PendingUpsert::slot);
+
+    private final DailySalesSummaryRepository summaryRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSale(Sale sale) {
+        BigDecimal total = sale.getTotalAmount();
+        BigDecimal discount = discountOf(sale);
+        BigDecimal tax = nz(sale.getTaxAmount());
+        Sale.PaymentMethod method = sale.getPaymentMethod();
+        UUID businessId = sale.getBusinessId();
+        LocalDate date = sale.getSaleDate().toLocalDate();
+        short slot = slotOf(sale.getId());
+
+        schedule(new PendingUpsert(businessId, date, slot, () -> summaryRepository.addSale(businessId, date, slot,
+                total, tax, discount,
+                amountFor(method, Sale.PaymentMethod.CASH, total),
+                amountFor(method, Sale.PaymentMethod.CARD, total),
+                amountFor(method, Sale.PaymentMethod.UPI, total),
+                amountFor(method, Sale.PaymentMethod.MIXED, total),
+                amountFor(method, Sale.PaymentMethod.CREDIT, total))));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRefund(Refund refund) {
+        UUID businessId = refund.getBusinessId();
+        LocalDate date = refund.getRefundDate().toLocalDate();
+        short slot = slotOf(refund.getId());
+        BigDecimal amount = refund.getRefundAmount();
+
+        schedule(new PendingUpsert(businessId, date, slot,
+                () -> summaryRepository.addRefund(businessId, date, slot, amount)));
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    /**
+     * Queues the upsert on the current transaction. The first one registers
+     * the synchronization that runs them all before commit.
+     */
+    @SuppressWarnings("unchecked")
+    private void schedule(PendingUpsert upsert) {
+        List<PendingUpsert> pending = (List<PendingUpsert>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<PendingUpsert> queued = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, queued);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    queued.sort(LOCK_ORDER);
+                    queued.forEach(PendingUpsert::apply);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SalesRollupServiceImpl.this);
+                }
+            });
+            pending = queued;
+        }
+        pending.add(upsert);
+    }
+
+    private BigDecimal discountOf(Sale sale) {
+        BigDecimal discount = nz(sale.getDiscountAmount()).add(nz(sale.getLoyaltyDiscount()));
+        for (SaleItem item : sale.getItems()) {
+            discount = discount.add(nz(item.getDiscountAmount()));
+        }
+        return discount;
+    }
+
+    /** Fixed per sale or refund, so a retried one lands on the same row. */
+    private short slotOf(UUID id) {
+        return (short) Math.floorMod(id.hashCode(), SLOTS);
+    }
+
+    private BigDecimal amountFor(Sale.PaymentMethod actual, Sale.PaymentMethod bucket, BigDecimal amount) {
+        return actual == bucket ? amount : BigDecimal.ZERO;
+    }
+
+    private BigDecimal nz(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private record PendingUpsert(UUID businessId, LocalDate date, short slot, Runnable upsert) {
+
+        void apply() {
+            upsert.run();
+        }
+    }
+}
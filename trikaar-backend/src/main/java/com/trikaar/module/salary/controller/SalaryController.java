@@ -1,9 +1,12 @@
 package com.trikaar.module.salary.controller;
 
 import com.trikaar.module.salary.dto.GenerateSalaryRequest;
+import com.trikaar.module.salary.dto.PayrollRunRequest;
+import com.trikaar.module.salary.dto.PayrollRunResponse;
 import com.trikaar.module.salary.dto.SalaryPayoutResponse;
 import com.trikaar.module.salary.service.SalaryService;
 import com.trikaar.shared.dto.ApiResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,6 +37,32 @@ public class SalaryController {
                         "Salary generated successfully"));
     }
 
+    @PostMapping("/runs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Start a payroll run for all active employees over a period")
+    public ResponseEntity<ApiResponse<PayrollRunResponse>> startPayrollRun(
+            @Valid @RequestBody PayrollRunRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(salaryService.startPayrollRun(request),
+                        "Payroll run started"));
+    }
+
+    @GetMapping("/runs/{runId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "Get a payroll run's progress and per-employee errors")
+    public ResponseEntity<ApiResponse<PayrollRunResponse>> getPayrollRun(@PathVariable UUID runId) {
+        return ResponseEntity.ok(ApiResponse.success(salaryService.getPayrollRun(runId)));
+    }
+
+    @GetMapping("/runs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "List payroll runs, latest first")
+    public ResponseEntity<ApiResponse<PagedResponse<PayrollRunResponse>>> getPayrollRuns(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(salaryService.getPayrollRuns(page, size)));
+    }
+
     @PatchMapping("/{id}/approve")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Approve a salary payout")
@@ -72,4 +101,14 @@ public class SalaryController {
         return ResponseEntity.ok(ApiResponse.success(
                 salaryService.getAllPayouts(page, size)));
     }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "List salary payouts, latest period first (cursor paged, no totals)")
+    public ResponseEntity<ApiResponse<CursorResponse<SalaryPayoutResponse>>> getPayoutsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                salaryService.getAllPayoutsByCursor(cursor, size)));
+    }
 }
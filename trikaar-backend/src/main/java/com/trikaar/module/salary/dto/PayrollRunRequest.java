@@ -0,0 +1,24 @@
+package com.trikaar.module.salary.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunRequest {
+
+    @NotNull(message = "Period start is required")
+    private LocalDate periodStart;
+
+    @NotNull(message = "Period end is required")
+    private LocalDate periodEnd;
+
+    @Size(max = 1000)
+    private String notes;
+}
@@ -0,0 +1,45 @@
+package com.trikaar.module.salary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunResponse {
+
+    private String id;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private String status;
+    private int totalEmployees;
+    private int processedEmployees;
+    private int createdPayouts;
+    private int skippedEmployees; // Already had a payout for the period
+    private int failedEmployees;
+    private BigDecimal totalNetSalary;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String failureMessage;
+    private String notes;
+    private List<EmployeeError> errors; // Single-run lookups only
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EmployeeError {
+        private String employeeId;
+        private String employeeName;
+        private String errorCode;
+        private String message;
+    }
+}
@@ -0,0 +1,74 @@
+package com.trikaar.module.salary.entity;
+
+import com.trikaar.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Bulk salary run for every active employee over one period.
+ * Counters are updated as chunks of payouts are committed, so a client can
+ * poll the run for progress; per-employee failures are kept as
+ * {@link PayrollRunError} rows.
+ */
+@Entity
+@Table(name = "payroll_runs", indexes = {
+        @Index(name = "idx_payroll_run_business_period", columnList = "business_id, period_start, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRun extends BaseEntity {
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    @Builder.Default
+    private RunStatus status = RunStatus.RUNNING;
+
+    // ── Progress ───────────────────────────────────────────────
+    @Column(name = "total_employees", nullable = false)
+    private int totalEmployees;
+
+    @Column(name = "processed_employees", nullable = false)
+    private int processedEmployees;
+
+    @Column(name = "created_payouts", nullable = false)
+    private int createdPayouts;
+
+    @Column(name = "skipped_employees", nullable = false)
+    private int skippedEmployees;
+
+    @Column(name = "failed_employees", nullable = false)
+    private int failedEmployees;
+
+    @Column(name = "total_net_salary", nullable = false, precision = 16, scale = 2)
+    @Builder.Default
+    private BigDecimal totalNetSalary = BigDecimal.ZERO;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "failure_message", length = 1000)
+    private String failureMessage;
+
+    @Column(name = "notes", length = 1000)
+    private String notes;
+
+    public enum RunStatus {
+        RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, FAILED
+    }
+}
@@ -0,0 +1,34 @@
+package com.trikaar.module.salary.entity;
+
+import com.trikaar.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * An employee a payroll run could not create a payout for, and why.
+ */
+@Entity
+@Table(name = "payroll_run_errors", indexes = {
+        @Index(name = "idx_payroll_error_run", columnList = "run_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRunError extends BaseEntity {
+
+    @Column(name = "run_id", nullable = false)
+    private UUID runId;
+
+    @Column(name = "employee_id", nullable = false)
+    private UUID employeeId;
+
+    @Column(name = "error_code", nullable = false, length = 50)
+    private String errorCode;
+
+    @Column(name = "message", length = 500)
+    private String message;
+}
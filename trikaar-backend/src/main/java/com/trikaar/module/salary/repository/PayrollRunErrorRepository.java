@@ -0,0 +1,14 @@
+package com.trikaar.module.salary.repository;
+
+import com.trikaar.module.salary.entity.PayrollRunError;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PayrollRunErrorRepository extends JpaRepository<PayrollRunError, UUID> {
+
+    List<PayrollRunError> findAllByRunIdAndBusinessIdAndDeletedFalse(UUID runId, UUID businessId);
+}
@@ -0,0 +1,42 @@
+package com.trikaar.module.salary.repository;
+
+import com.trikaar.module.salary.entity.PayrollRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, UUID> {
+
+    Optional<PayrollRun> findByIdAndBusinessIdAndDeletedFalse(UUID id, UUID businessId);
+
+    Page<PayrollRun> findAllByBusinessIdAndDeletedFalse(UUID businessId, Pageable pageable);
+
+    boolean existsByBusinessIdAndPeriodStartAndPeriodEndAndStatusAndDeletedFalse(
+            UUID businessId, LocalDate periodStart, LocalDate periodEnd, PayrollRun.RunStatus status);
+
+    /**
+     * Fails RUNNING runs for the period that have made no progress since {@code staleBefore},
+     * e.g. because the node executing them was restarted.
+     */
+    @Modifying
+    @Query("UPDATE PayrollRun r SET r.status = 'FAILED', r.completedAt = :now, " +
+            "r.failureMessage = 'Run was abandoned without progress', r.version = r.version + 1 " +
+            "WHERE r.businessId = :businessId AND r.periodStart = :periodStart AND r.periodEnd = :periodEnd " +
+            "AND r.status = 'RUNNING' AND r.deleted = false " +
+            "AND COALESCE(r.updatedAt, r.startedAt) < :staleBefore")
+    int failAbandonedRuns(@Param("businessId") UUID businessId,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("periodEnd") LocalDate periodEnd,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            @Param("now") LocalDateTime now);
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -24,10 +25,32 @@ public interface SalaryPayoutRepository extends JpaRepository<SalaryPayout, UUID
     List<SalaryPayout> findAllByEmployeeIdAndBusinessIdAndPeriodStartGreaterThanEqualAndPeriodEndLessThanEqualAndDeletedFalse(
             UUID employeeId, UUID businessId, LocalDate periodStart, LocalDate periodEnd);
 
+    /**
+     * Employees that already have a live payout for exactly this period.
+     */
+    @Query("SELECT DISTINCT sp.employeeId FROM SalaryPayout sp " +
+            "WHERE sp.businessId = :businessId AND sp.periodStart = :start AND sp.periodEnd = :end " +
+            "AND sp.status <> 'CANCELLED' AND sp.deleted = false")
+    Set<UUID> findPaidEmployeeIds(@Param("businessId") UUID businessId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end);
+
     @Query("SELECT COALESCE(SUM(sp.netSalary), 0) FROM SalaryPayout sp " +
             "WHERE sp.businessId = :businessId AND sp.status = 'PAID' " +
             "AND sp.periodStart >= :start AND sp.periodEnd <= :end AND sp.deleted = false")
     BigDecimal calculateTotalPayouts(@Param("businessId") UUID businessId,
             @Param("start") LocalDate start,
             @Param("end") LocalDate end);
+
+    /**
+     * Keyset page ordered by periodStart DESC, id DESC: rows strictly after the given position.
+     * The row comparison is the range start of a scan on idx_salary_payouts_keyset.
+     */
+    @Query("SELECT p FROM SalaryPayout p WHERE p.businessId = :businessId AND p.deleted = false " +
+            "AND (p.periodStart, p.id) < (:afterDate, :afterId) " +
+            "ORDER BY p.periodStart DESC, p.id DESC")
+    List<SalaryPayout> findPageAfter(@Param("businessId") UUID businessId,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 }
@@ -1,7 +1,10 @@
 package com.trikaar.module.salary.service;
 
 import com.trikaar.module.salary.dto.GenerateSalaryRequest;
+import com.trikaar.module.salary.dto.PayrollRunRequest;
+import com.trikaar.module.salary.dto.PayrollRunResponse;
 import com.trikaar.module.salary.dto.SalaryPayoutResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 
 import java.util.UUID;
@@ -10,6 +13,16 @@ public interface SalaryService {
 
     SalaryPayoutResponse generateSalary(GenerateSalaryRequest request);
 
+    /**
+     * Starts a background run that creates payouts for every active employee
+     * over the period. Returns the RUNNING run; poll it for progress.
+     */
+    PayrollRunResponse startPayrollRun(PayrollRunRequest request);
+
+    PayrollRunResponse getPayrollRun(UUID runId);
+
+    PagedResponse<PayrollRunResponse> getPayrollRuns(int page, int size);
+
     SalaryPayoutResponse approvePayout(UUID payoutId);
 
     SalaryPayoutResponse markAsPaid(UUID payoutId, String paymentReference);
@@ -17,4 +30,6 @@ public interface SalaryService {
     PagedResponse<SalaryPayoutResponse> getPayoutsByEmployee(UUID employeeId, int page, int size);
 
     PagedResponse<SalaryPayoutResponse> getAllPayouts(int page, int size);
+
+    CursorResponse<SalaryPayoutResponse> getAllPayoutsByCursor(String cursor, int size);
 }
@@ -0,0 +1,341 @@
+package com.trikaar.module.salary.service.impl;
+
+import com.trikaar.config.SalaryProperties;
+import com.trikaar.module.audit.entity.AuditLog;
+import com.trikaar.module.audit.service.AuditService;
+import com.trikaar.module.employee.entity.Employee;
+import com.trikaar.module.employee.repository.AttendanceRepository;
+import com.trikaar.module.employee.repository.EmployeeRepository;
+import com.trikaar.module.salary.entity.PayrollRun;
+import com.trikaar.module.salary.entity.PayrollRunError;
+import com.trikaar.module.salary.entity.SalaryPayout;
+import com.trikaar.module.salary.repository.PayrollRunErrorRepository;
+import com.trikaar.module.salary.repository.PayrollRunRepository;
+import com.trikaar.module.salary.repository.SalaryPayoutRepository;
+import com.trikaar.module.sales.repository.SaleRepository;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.entity.BaseEntity;
+import com.trikaar.shared.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a payroll run in the background.
+ *
+ * Attendance and sales figures for the whole business are read up front with
+ * three grouped queries, so the cost no longer grows by three queries per
+ * employee. Payouts are then calculated in memory and inserted in chunks, one
+ * transaction per chunk; the run's counters are committed with each chunk and
+ * are what clients poll for progress. A failing employee is recorded as a
+ * {@link PayrollRunError} and does not stop the run. Employees that already
+ * have a payout for the period are skipped, so a run can simply be started
+ * again after a failure.
+ *
+ * Who is already paid is read on the primary, not the read-only replica, and
+ * uk_salary_payout_period rejects a payout created for the same employee and
+ * period after that read; the chunk is then stored again without it.
+ */
+@Slf4j
+@Component
+class PayrollRunExecutor {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollRunErrorRepository payrollRunErrorRepository;
+    private final SalaryPayoutRepository salaryPayoutRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final SaleRepository saleRepository;
+    private final AuditService auditService;
+    private final SalaryProperties.PayrollRun settings;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+
+    PayrollRunExecutor(PayrollRunRepository payrollRunRepository,
+            PayrollRunErrorRepository payrollRunErrorRepository,
+            SalaryPayoutRepository salaryPayoutRepository,
+            EmployeeRepository employeeRepository,
+            AttendanceRepository attendanceRepository,
+            SaleRepository saleRepository,
+            AuditService auditService,
+            SalaryProperties salaryProperties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.payrollRunRepository = payrollRunRepository;
+        this.payrollRunErrorRepository = payrollRunErrorRepository;
+        this.salaryPayoutRepository = salaryPayoutRepository;
+        this.employeeRepository = employeeRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.saleRepository = saleRepository;
+        this.auditService = auditService;
+        this.settings = salaryProperties.getPayrollRun();
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs on the application task executor; the caller's tenant is carried
+     * over by the task decorator. Must only be called once the run is committed.
+     */
+    @Async
+    public void execute(UUID runId, UUID businessId) {
+        long started = System.nanoTime();
+        PayrollRun.RunStatus outcome = PayrollRun.RunStatus.FAILED;
+        try {
+            outcome = run(runId, businessId);
+        } catch (RuntimeException e) {
+            log.error("Payroll run '{}' failed", runId, e);
+            markFailed(runId, businessId, e);
+        } finally {
+            meterRegistry.timer("trikaar.salary.payroll.run", "outcome", outcome.name().toLowerCase())
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private PayrollRun.RunStatus run(UUID runId, UUID businessId) {
+        PayrollRun run = readOnlyTransaction.execute(status -> findRun(runId, businessId));
+        Set<UUID> alreadyPaid = transaction.execute(status -> findPaidEmployeeIds(run));
+        Inputs inputs = readOnlyTransaction.execute(status -> loadInputs(run, businessId, alreadyPaid));
+
+        run.setTotalEmployees(inputs.employees().size());
+        PayrollRun current = transaction.execute(status -> payrollRunRepository.save(run));
+
+        int chunkSize = Math.max(1, settings.getChunkSize());
+        List<Employee> employees = inputs.employees();
+        for (int from = 0; from < employees.size(); from += chunkSize) {
+            current = processChunk(current, employees.subList(from, Math.min(from + chunkSize, employees.size())),
+                    inputs);
+        }
+
+        PayrollRun finished = current;
+        finished.setStatus(finished.getFailedEmployees() > 0
+                ? PayrollRun.RunStatus.COMPLETED_WITH_ERRORS
+                : PayrollRun.RunStatus.COMPLETED);
+        finished.setCompletedAt(LocalDateTime.now());
+        transaction.executeWithoutResult(status -> {
+            payrollRunRepository.save(finished);
+            auditService.logAction(
+                    AuditLog.AuditAction.PAYROLL_RUN_COMPLETED,
+                    "PayrollRun",
+                    runId,
+                    "Payroll run " + finished.getPeriodStart() + " to " + finished.getPeriodEnd()
+                            + " | Payouts=" + finished.getCreatedPayouts()
+                            + " | Skipped=" + finished.getSkippedEmployees()
+                            + " | Failed=" + finished.getFailedEmployees()
+                            + " | Net=" + finished.getTotalNetSalary());
+        });
+
+        log.info("Payroll run '{}' for {} to {} finished: {} payouts, {} skipped, {} failed",
+                runId, finished.getPeriodStart(), finished.getPeriodEnd(),
+                finished.getCreatedPayouts(), finished.getSkippedEmployees(), finished.getFailedEmployees());
+        return finished.getStatus();
+    }
+
+    private Inputs loadInputs(PayrollRun run, UUID businessId, Set<UUID> alreadyPaid) {
+        List<Employee> employees = employeeRepository.findAllByBusinessIdAndStatusAndDeletedFalse(
+                businessId, Employee.EmployeeStatus.ACTIVE);
+
+        Map<UUID, Long> presentDays = new HashMap<>();
+        attendanceRepository.countPresentDaysByEmployee(businessId, run.getPeriodStart(), run.getPeriodEnd())
+                .forEach(row -> presentDays.put(row.getEmployeeId(), row.getPresentDays()));
+
+        Map<UUID, Double> overtimeHours = new HashMap<>();
+        attendanceRepository.sumOvertimeHoursByEmployee(businessId, run.getPeriodStart(), run.getPeriodEnd())
+                .forEach(row -> overtimeHours.put(row.getEmployeeId(), row.getOvertimeHours()));
+
+        Map<UUID, BigDecimal> sales = new HashMap<>();
+        saleRepository.calculateSalesByEmployee(businessId,
+                run.getPeriodStart().atStartOfDay(),
+                run.getPeriodEnd().plusDays(1).atStartOfDay())
+                .forEach(row -> sales.put(row.getEmployeeId(), row.getSalesAmount()));
+
+        return new Inputs(employees, alreadyPaid, presentDays, overtimeHours, sales);
+    }
+
+    /**
+     * Calculates and stores one chunk. If another payout for the period took
+     * one of its employees meanwhile, those employees are skipped and the
+     * rest stored again. If the chunk still cannot be committed, none of its
+     * payouts exist and each of its employees is recorded as failed.
+     */
+    private PayrollRun processChunk(PayrollRun run, List<Employee> chunk, Inputs inputs) {
+        List<SalaryPayout> payouts = new ArrayList<>(chunk.size());
+        List<PayrollRunError> errors = new ArrayList<>();
+        int skipped = 0;
+
+        for (Employee employee : chunk) {
+            if (inputs.alreadyPaid().contains(employee.getId())) {
+                skipped++;
+                continue;
+            }
+            try {
+                SalaryPayout payout = SalaryCalculator.calculate(employee,
+                        run.getPeriodStart(), run.getPeriodEnd(),
+                        inputs.presentDays().getOrDefault(employee.getId(), 0L),
+                        inputs.overtimeHours().getOrDefault(employee.getId(), 0.0),
+                        inputs.sales().getOrDefault(employee.getId(), BigDecimal.ZERO),
+                        null, null);
+                payout.setBusinessId(run.getBusinessId());
+                payout.setNotes(run.getNotes());
+                payouts.add(payout);
+            } catch (BusinessRuleException e) {
+                errors.add(error(run, employee.getId(), e.getRuleCode(), e.getMessage()));
+            } catch (RuntimeException e) {
+                log.error("Payroll run '{}' could not calculate salary for employee '{}'",
+                        run.getId(), employee.getId(), e);
+                errors.add(error(run, employee.getId(), "CALCULATION_FAILED", "Salary could not be calculated"));
+            }
+        }
+
+        int chunkSkipped = skipped;
+        RuntimeException failure;
+        try {
+            return transaction.execute(status -> {
+                salaryPayoutRepository.saveAll(payouts);
+                payrollRunErrorRepository.saveAll(errors);
+                return payrollRunRepository.save(recordProgress(run, chunk.size(), payouts, chunkSkipped, errors.size()));
+            });
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        // The failed transaction already gave these ids and versions; start them afresh
+        resetPersistedState(payouts);
+        resetPersistedState(errors);
+
+        if (isUniqueViolation(failure)) {
+            Set<UUID> paid = transaction.execute(status -> findPaidEmployeeIds(run));
+            payouts.removeIf(payout -> paid.contains(payout.getEmployeeId()));
+            int retrySkipped = chunk.size() - errors.size() - payouts.size();
+            try {
+                return transaction.execute(status -> {
+                    salaryPayoutRepository.saveAll(payouts);
+                    payrollRunErrorRepository.saveAll(errors);
+                    PayrollRun stored = findRun(run.getId(), run.getBusinessId());
+                    return payrollRunRepository.save(recordProgress(stored, chunk.size(), payouts, retrySkipped, errors.size()));
+                });
+            } catch (RuntimeException e) {
+                failure = e;
+                resetPersistedState(payouts);
+                resetPersistedState(errors);
+            }
+        }
+        log.warn("Payroll run '{}' could not store a chunk of {} employees", run.getId(), chunk.size(), failure);
+
+        List<PayrollRunError> unsaved = new ArrayList<>(errors);
+        for (SalaryPayout payout : payouts) {
+            unsaved.add(error(run, payout.getEmployeeId(), "PAYOUT_NOT_SAVED",
+                    "Payout could not be stored, start the run again to retry"));
+        }
+        return transaction.execute(status -> {
+            payrollRunErrorRepository.saveAll(unsaved);
+            PayrollRun stored = findRun(run.getId(), run.getBusinessId());
+            return payrollRunRepository.save(recordProgress(stored, chunk.size(), List.of(), chunkSkipped, unsaved.size()));
+        });
+    }
+
+    private PayrollRun recordProgress(PayrollRun run, int processed, List<SalaryPayout> payouts,
+            int skipped, int failed) {
+        BigDecimal net = run.getTotalNetSalary();
+        for (SalaryPayout payout : payouts) {
+            net = net.add(payout.getNetSalary());
+        }
+        run.setProcessedEmployees(run.getProcessedEmployees() + processed);
+        run.setCreatedPayouts(run.getCreatedPayouts() + payouts.size());
+        run.setSkippedEmployees(run.getSkippedEmployees() + skipped);
+        run.setFailedEmployees(run.getFailedEmployees() + failed);
+        run.setTotalNetSalary(net);
+        return run;
+    }
+
+    private void markFailed(UUID runId, UUID businessId, RuntimeException failure) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                PayrollRun run = findRun(runId, businessId);
+                run.setStatus(PayrollRun.RunStatus.FAILED);
+                run.setCompletedAt(LocalDateTime.now());
+                run.setFailureMessage(truncate(failure.getMessage()));
+                payrollRunRepository.save(run);
+            });
+        } catch (RuntimeException e) {
+            log.error("Could not mark payroll run '{}' as failed", runId, e);
+        }
+    }
+
+    private Set<UUID> findPaidEmployeeIds(PayrollRun run) {
+        return salaryPayoutRepository.findPaidEmployeeIds(
+                run.getBusinessId(), run.getPeriodStart(), run.getPeriodEnd());
+    }
+
+    private static void resetPersistedState(List<? extends BaseEntity> entities) {
+        for (BaseEntity entity : entities) {
+            entity.setId(null);
+            entity.setVersion(null);
+        }
+    }
+
+    private static boolean isUniqueViolation(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PayrollRun findRun(UUID runId, UUID businessId) {
+        return payrollRunRepository.findByIdAndBusinessIdAndDeletedFalse(runId, businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("PayrollRun", "id", runId));
+    }
+
+    private PayrollRunError error(PayrollRun run, UUID employeeId, String errorCode, String message) {
+        PayrollRunError error = PayrollRunError.builder()
+                .runId(run.getId())
+                .employeeId(employeeId)
+                .errorCode(errorCode)
+                .message(truncate(message))
+                .build();
+        error.setBusinessId(run.getBusinessId());
+        return error;
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_MESSAGE_LENGTH
+                ? message.substring(0, MAX_MESSAGE_LENGTH)
+                : message;
+    }
+
+    /**
+     * Everything a run needs from the database, read once per run.
+     */
+    private record Inputs(List<Employee> employees,
+            Set<UUID> alreadyPaid,
+            Map<UUID, Long> presentDays,
+            Map<UUID, Double> overtimeHours,
+            Map<UUID, BigDecimal> sales) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.trikaar.module.salary.service.impl;
+
+import com.trikaar.module.employee.entity.Employee;
+import com.trikaar.module.salary.entity.SalaryPayout;
+import com.trikaar.shared.exception.BusinessRuleException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Salary formula shared by single payouts and payroll runs.
+ * Salary = Base (by wage type) + Overtime (1.5x) + Sales incentive + Bonus - Deductions
+ *
+ * Pure arithmetic: callers look up attendance and sales figures first, either
+ * for one employee or for a whole business at once.
+ */
+final class SalaryCalculator {
+
+    private static final BigDecimal OVERTIME_MULTIPLIER = new BigDecimal("1.5");
+    private static final BigDecimal HOURS_PER_DAY = BigDecimal.valueOf(8);
+    private static final BigDecimal HOURS_PER_MONTH = BigDecimal.valueOf(240);
+
+    private SalaryCalculator() {
+    }
+
+    /** Whether the base amount depends on attendance (daily and hourly wages). */
+    static boolean paysByAttendance(Employee employee) {
+        return employee.getWageType() != Employee.WageType.MONTHLY;
+    }
+
+    static BigDecimal incentivePercentage(Employee employee) {
+        return employee.getSalesIncentivePercentage() != null
+                ? employee.getSalesIncentivePercentage()
+                : BigDecimal.ZERO;
+    }
+
+    /**
+     * Builds an unsaved payout without business id.
+     *
+     * @param salesAmount completed sales in the period; only used when the employee earns an incentive
+     */
+    static SalaryPayout calculate(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+            long presentDays, double overtimeHrs, BigDecimal salesAmount,
+            BigDecimal bonus, BigDecimal deductions) {
+        // 1. Calculate base amount based on wage type
+        BigDecimal baseAmount;
+        int daysWorked = 0;
+        BigDecimal hoursWorked = BigDecimal.ZERO;
+
+        switch (employee.getWageType()) {
+            case MONTHLY -> baseAmount = rate(employee.getBaseSalary(), employee, "base salary");
+            case DAILY -> {
+                daysWorked = (int) presentDays;
+                baseAmount = rate(employee.getDailyRate(), employee, "daily rate")
+                        .multiply(BigDecimal.valueOf(presentDays));
+            }
+            case HOURLY -> {
+                // Hours are not tracked per day yet; assume 8-hour days
+                daysWorked = (int) presentDays;
+                hoursWorked = HOURS_PER_DAY.multiply(BigDecimal.valueOf(presentDays));
+                baseAmount = rate(employee.getHourlyRate(), employee, "hourly rate").multiply(hoursWorked);
+            }
+            default -> throw new BusinessRuleException("INVALID_WAGE_TYPE",
+                    "Unknown wage type: " + employee.getWageType());
+        }
+
+        // 2. Calculate overtime
+        BigDecimal overtimeHours = BigDecimal.valueOf(overtimeHrs);
+        BigDecimal overtimeRate = employee.getHourlyRate() != null
+                ? employee.getHourlyRate().multiply(OVERTIME_MULTIPLIER)
+                : rate(employee.getBaseSalary(), employee, "base salary")
+                        .divide(HOURS_PER_MONTH, 2, RoundingMode.HALF_UP)
+                        .multiply(OVERTIME_MULTIPLIER);
+        BigDecimal overtimeAmount = overtimeRate.multiply(overtimeHours);
+
+        // 3. Calculate sales-based incentive
+        BigDecimal incentivePercentage = incentivePercentage(employee);
+        BigDecimal sales = BigDecimal.ZERO;
+        BigDecimal incentiveAmount = BigDecimal.ZERO;
+        if (incentivePercentage.compareTo(BigDecimal.ZERO) > 0 && salesAmount != null) {
+            sales = salesAmount;
+            incentiveAmount = sales.multiply(incentivePercentage)
+                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        }
+
+        // 4. Apply bonus and deductions
+        BigDecimal bonusAmount = bonus != null ? bonus : BigDecimal.ZERO;
+        BigDecimal deductionAmount = deductions != null ? deductions : BigDecimal.ZERO;
+
+        // 5. Calculate totals
+        BigDecimal grossSalary = baseAmount.add(overtimeAmount).add(incentiveAmount).add(bonusAmount);
+        BigDecimal netSalary = grossSalary.subtract(deductionAmount);
+
+        if (netSalary.compareTo(BigDecimal.ZERO) < 0) {
+            throw new BusinessRuleException("NEGATIVE_SALARY",
+                    "Net salary cannot be negative. Deductions exceed earnings.");
+        }
+
+        return SalaryPayout.builder()
+                .employeeId(employee.getId())
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .baseAmount(baseAmount)
+                .daysWorked(daysWorked)
+                .hoursWorked(hoursWorked)
+                .overtimeHours(overtimeHours)
+                .overtimeAmount(overtimeAmount)
+                .salesAmount(sales)
+                .incentivePercentage(incentivePercentage)
+                .incentiveAmount(incentiveAmount)
+                .bonus(bonusAmount)
+                .deductions(deductionAmount)
+                .grossSalary(grossSalary)
+                .netSalary(netSalary)
+                .build();
+    }
+
+    private static BigDecimal rate(BigDecimal value, Employee employee, String name) {
+        if (value == null) {
+            throw new BusinessRuleException("MISSING_WAGE_RATE",
+                    "Employee " + employee.getEmployeeCode() + " has no " + name + " for wage type "
+                            + employee.getWageType());
+        }
+        return value;
+    }
+}
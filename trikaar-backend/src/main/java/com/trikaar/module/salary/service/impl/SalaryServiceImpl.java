@@ -1,32 +1,49 @@
 package com.trikaar.module.salary.service.impl;
 
+import com.trikaar.config.SalaryProperties;
 import com.trikaar.module.audit.entity.AuditLog;
 import com.trikaar.module.audit.service.AuditService;
 import com.trikaar.module.employee.entity.Employee;
 import com.trikaar.module.employee.repository.AttendanceRepository;
 import com.trikaar.module.employee.repository.EmployeeRepository;
 import com.trikaar.module.salary.dto.GenerateSalaryRequest;
+import com.trikaar.module.salary.dto.PayrollRunRequest;
+import com.trikaar.module.salary.dto.PayrollRunResponse;
 import com.trikaar.module.salary.dto.SalaryPayoutResponse;
+import com.trikaar.module.salary.entity.PayrollRun;
+import com.trikaar.module.salary.entity.PayrollRunError;
 import com.trikaar.module.salary.entity.SalaryPayout;
+import com.trikaar.module.salary.repository.PayrollRunErrorRepository;
+import com.trikaar.module.salary.repository.PayrollRunRepository;
 import com.trikaar.module.salary.repository.SalaryPayoutRepository;
 import com.trikaar.module.salary.service.SalaryService;
 import com.trikaar.module.sales.repository.SaleRepository;
 import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import com.trikaar.shared.exception.BusinessRuleException;
 import com.trikaar.shared.exception.ResourceNotFoundException;
+import com.trikaar.shared.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,6 +55,10 @@ public class SalaryServiceImpl implements SalaryService {
     private final AttendanceRepository attendanceRepository;
     private final SaleRepository saleRepository;
     private final AuditService auditService;
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollRunErrorRepository payrollRunErrorRepository;
+    private final PayrollRunExecutor payrollRunExecutor;
+    private final SalaryProperties salaryProperties;
 
     @Override
     @Transactional
@@ -48,98 +69,131 @@ public class SalaryServiceImpl implements SalaryService {
                 request.getEmployeeId(), businessId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", request.getEmployeeId()));
 
-        // 1. Calculate base amount based on wage type
-        BigDecimal baseAmount;
-        int daysWorked = 0;
-        BigDecimal hoursWorked = BigDecimal.ZERO;
-
-        switch (employee.getWageType()) {
-            case MONTHLY -> baseAmount = employee.getBaseSalary();
-            case DAILY -> {
-                long presentDays = attendanceRepository.countPresentDays(
-                        employee.getId(), businessId, request.getPeriodStart(), request.getPeriodEnd());
-                daysWorked = (int) presentDays;
-                baseAmount = employee.getDailyRate().multiply(BigDecimal.valueOf(presentDays));
-            }
-            case HOURLY -> {
-                // For hourly, we'd sum actual hours from attendance
-                long presentDays2 = attendanceRepository.countPresentDays(
-                        employee.getId(), businessId, request.getPeriodStart(), request.getPeriodEnd());
-                daysWorked = (int) presentDays2;
-                hoursWorked = BigDecimal.valueOf(presentDays2 * 8); // Assume 8-hour days
-                baseAmount = employee.getHourlyRate().multiply(hoursWorked);
-            }
-            default -> throw new BusinessRuleException("INVALID_WAGE_TYPE",
-                    "Unknown wage type: " + employee.getWageType());
-        }
-
-        // 2. Calculate overtime
+        long presentDays = SalaryCalculator.paysByAttendance(employee)
+                ? attendanceRepository.countPresentDays(
+                        employee.getId(), businessId, request.getPeriodStart(), request.getPeriodEnd())
+                : 0;
         double overtimeHrs = attendanceRepository.sumOvertimeHours(
                 employee.getId(), businessId, request.getPeriodStart(), request.getPeriodEnd());
-        BigDecimal overtimeHours = BigDecimal.valueOf(overtimeHrs);
-        BigDecimal overtimeRate = employee.getHourlyRate() != null
-                ? employee.getHourlyRate().multiply(new BigDecimal("1.5"))
-                : employee.getBaseSalary().divide(BigDecimal.valueOf(240), 2, RoundingMode.HALF_UP)
-                        .multiply(new BigDecimal("1.5"));
-        BigDecimal overtimeAmount = overtimeRate.multiply(overtimeHours);
-
-        // 3. Calculate sales-based incentive
-        BigDecimal salesAmount = BigDecimal.ZERO;
-        BigDecimal incentiveAmount = BigDecimal.ZERO;
-        BigDecimal incentivePercentage = employee.getSalesIncentivePercentage() != null
-                ? employee.getSalesIncentivePercentage()
+        BigDecimal salesAmount = SalaryCalculator.incentivePercentage(employee).compareTo(BigDecimal.ZERO) > 0
+                ? saleRepository.calculateEmployeeSales(
+                        businessId, employee.getId(),
+                        request.getPeriodStart().atStartOfDay(),
+                        request.getPeriodEnd().plusDays(1).atStartOfDay())
                 : BigDecimal.ZERO;
 
-        if (incentivePercentage.compareTo(BigDecimal.ZERO) > 0) {
-            salesAmount = saleRepository.calculateEmployeeSales(
-                    businessId, employee.getId(),
-                    request.getPeriodStart().atStartOfDay(),
-                    request.getPeriodEnd().plusDays(1).atStartOfDay());
-            incentiveAmount = salesAmount.multiply(incentivePercentage)
-                    .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        SalaryPayout payout = SalaryCalculator.calculate(employee,
+                request.getPeriodStart(), request.getPeriodEnd(),
+                presentDays, overtimeHrs, salesAmount,
+                request.getBonus(), request.getDeductions());
+        payout.setDeductionReason(request.getDeductionReason());
+        payout.setNotes(request.getNotes());
+        payout.setBusinessId(businessId);
+        try {
+            payout = salaryPayoutRepository.saveAndFlush(payout);
+        } catch (DataIntegrityViolationException e) {
+            // uk_salary_payout_period: the employee already has a live payout for this period
+            throw new BusinessRuleException("SALARY_ALREADY_GENERATED",
+                    "Salary for this employee and period has already been generated");
         }
 
-        // 4. Apply bonus and deductions
-        BigDecimal bonus = request.getBonus() != null ? request.getBonus() : BigDecimal.ZERO;
-        BigDecimal deductions = request.getDeductions() != null ? request.getDeductions() : BigDecimal.ZERO;
+        log.info("Salary generated for '{}': Net={}, Gross={}, Period={} to {}",
+                employee.getFullName(), payout.getNetSalary(), payout.getGrossSalary(),
+                request.getPeriodStart(), request.getPeriodEnd());
+
+        return mapToResponse(payout, employee.getFullName());
+    }
+
+    @Override
+    @Transactional
+    public PayrollRunResponse startPayrollRun(PayrollRunRequest request) {
+        UUID businessId = TenantContext.getBusinessId();
+        LocalDate periodStart = request.getPeriodStart();
+        LocalDate periodEnd = request.getPeriodEnd();
 
-        // 5. Calculate totals
-        BigDecimal grossSalary = baseAmount.add(overtimeAmount).add(incentiveAmount).add(bonus);
-        BigDecimal netSalary = grossSalary.subtract(deductions);
+        if (periodEnd.isBefore(periodStart)) {
+            throw new BusinessRuleException("INVALID_PERIOD", "Period end cannot be before period start");
+        }
 
-        if (netSalary.compareTo(BigDecimal.ZERO) < 0) {
-            throw new BusinessRuleException("NEGATIVE_SALARY",
-                    "Net salary cannot be negative. Deductions exceed earnings.");
+        LocalDateTime now = LocalDateTime.now();
+        payrollRunRepository.failAbandonedRuns(businessId, periodStart, periodEnd,
+                now.minusNanos(salaryProperties.getPayrollRun().getStaleAfterMs() * 1_000_000), now);
+        if (payrollRunRepository.existsByBusinessIdAndPeriodStartAndPeriodEndAndStatusAndDeletedFalse(
+                businessId, periodStart, periodEnd, PayrollRun.RunStatus.RUNNING)) {
+            throw new BusinessRuleException("PAYROLL_RUN_IN_PROGRESS",
+                    "A payroll run for this period is already in progress");
         }
 
-        // 6. Create payout record
-        SalaryPayout payout = SalaryPayout.builder()
-                .employeeId(employee.getId())
-                .periodStart(request.getPeriodStart())
-                .periodEnd(request.getPeriodEnd())
-                .baseAmount(baseAmount)
-                .daysWorked(daysWorked)
-                .hoursWorked(hoursWorked)
-                .overtimeHours(overtimeHours)
-                .overtimeAmount(overtimeAmount)
-                .salesAmount(salesAmount)
-                .incentivePercentage(incentivePercentage)
-                .incentiveAmount(incentiveAmount)
-                .bonus(bonus)
-                .deductions(deductions)
-                .deductionReason(request.getDeductionReason())
-                .grossSalary(grossSalary)
-                .netSalary(netSalary)
+        PayrollRun run = PayrollRun.builder()
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
+                .startedAt(now)
                 .notes(request.getNotes())
                 .build();
-        payout.setBusinessId(businessId);
-        payout = salaryPayoutRepository.save(payout);
+        run.setBusinessId(businessId);
+        try {
+            run = payrollRunRepository.saveAndFlush(run);
+        } catch (DataIntegrityViolationException e) {
+            // uk_payroll_run_running: another request started the same period concurrently
+            throw new BusinessRuleException("PAYROLL_RUN_IN_PROGRESS",
+                    "A payroll run for this period is already in progress");
+        }
 
-        log.info("Salary generated for '{}': Net={}, Gross={}, Period={} to {}",
-                employee.getFullName(), netSalary, grossSalary,
-                request.getPeriodStart(), request.getPeriodEnd());
+        UUID runId = run.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                payrollRunExecutor.execute(runId, businessId);
+            }
+        });
 
-        return mapToResponse(payout, employee.getFullName());
+        log.info("Payroll run '{}' started for {} to {}", runId, periodStart, periodEnd);
+        return mapToRunResponse(run, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PayrollRunResponse getPayrollRun(UUID runId) {
+        UUID businessId = TenantContext.getBusinessId();
+        PayrollRun run = payrollRunRepository.findByIdAndBusinessIdAndDeletedFalse(runId, businessId)
+                .orElseThrow(() -> new ResourceNotFoundException("PayrollRun", "id", runId));
+
+        List<PayrollRunError> errors = payrollRunErrorRepository
+                .findAllByRunIdAndBusinessIdAndDeletedFalse(runId, businessId);
+        Map<UUID, String> employeeNames = new HashMap<>();
+        if (!errors.isEmpty()) {
+            Set<UUID> employeeIds = errors.stream()
+                    .map(PayrollRunError::getEmployeeId)
+                    .collect(Collectors.toSet());
+            employeeRepository.findAllByIdInAndBusinessIdAndDeletedFalse(employeeIds, businessId)
+                    .forEach(e -> employeeNames.put(e.getId(), e.getFullName()));
+        }
+
+        return mapToRunResponse(run, errors.stream()
+                .map(error -> PayrollRunResponse.EmployeeError.builder()
+                        .employeeId(error.getEmployeeId().toString())
+                        .employeeName(employeeNames.getOrDefault(error.getEmployeeId(), "Unknown"))
+                        .errorCode(error.getErrorCode())
+                        .message(error.getMessage())
+                        .build())
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<PayrollRunResponse> getPayrollRuns(int page, int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        Page<PayrollRun> runPage = payrollRunRepository.findAllByBusinessIdAndDeletedFalse(businessId,
+                PageRequest.of(page, size, Sort.by("startedAt").descending()));
+        return PagedResponse.<PayrollRunResponse>builder()
+                .content(runPage.getContent().stream().map(run -> mapToRunResponse(run, null)).toList())
+                .pageNumber(runPage.getNumber())
+                .pageSize(runPage.getSize())
+                .totalElements(runPage.getTotalElements())
+                .totalPages(runPage.getTotalPages())
+                .last(runPage.isLast())
+                .first(runPage.isFirst())
+                .build();
     }
 
     @Override
@@ -214,6 +268,22 @@ public class SalaryServiceImpl implements SalaryService {
         return buildPagedResponse(payoutPage, businessId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<SalaryPayoutResponse> getAllPayoutsByCursor(String cursor, int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        int pageSize = CursorResponse.clampPageSize(size);
+        CursorCodec.Position after = CursorCodec.decodePosition(cursor);
+
+        List<SalaryPayout> payouts = salaryPayoutRepository.findPageAfter(businessId,
+                after != null ? after.sortKeyAsDate() : CursorCodec.MAX_DATE,
+                after != null ? after.id() : CursorCodec.MAX_ID,
+                PageRequest.of(0, pageSize + 1));
+        return CursorResponse.of(payouts, pageSize,
+                payout -> CursorCodec.encode(payout.getPeriodStart(), payout.getId()),
+                page -> mapToResponses(page, businessId));
+    }
+
     // ═══════════════════ Private Helpers ═══════════════════
 
     private SalaryPayout findPayout(UUID payoutId, UUID businessId) {
@@ -249,14 +319,30 @@ public class SalaryServiceImpl implements SalaryService {
                 .build();
     }
 
+    private PayrollRunResponse mapToRunResponse(PayrollRun run, List<PayrollRunResponse.EmployeeError> errors) {
+        return PayrollRunResponse.builder()
+                .id(run.getId().toString())
+                .periodStart(run.getPeriodStart())
+                .periodEnd(run.getPeriodEnd())
+                .status(run.getStatus().name())
+                .totalEmployees(run.getTotalEmployees())
+                .processedEmployees(run.getProcessedEmployees())
+                .createdPayouts(run.getCreatedPayouts())
+                .skippedEmployees(run.getSkippedEmployees())
+                .failedEmployees(run.getFailedEmployees())
+                .totalNetSalary(run.getTotalNetSalary())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .failureMessage(run.getFailureMessage())
+                .notes(run.getNotes())
+                .errors(errors)
+                .build();
+    }
+
     private PagedResponse<SalaryPayoutResponse> buildPagedResponse(
             Page<SalaryPayout> page, UUID businessId) {
         return PagedResponse.<SalaryPayoutResponse>builder()
-                .content(page.getContent().stream().map(p -> {
-                    Employee emp = employeeRepository.findByIdAndBusinessIdAndDeletedFalse(
-                            p.getEmployeeId(), businessId).orElse(null);
-                    return mapToResponse(p, emp != null ? emp.getFullName() : "Unknown");
-                }).toList())
+                .content(mapToResponses(page.getContent(), businessId))
                 .pageNumber(page.getNumber())
                 .pageSize(page.getSize())
                 .totalElements(page.getTotalElements())
@@ -265,4 +351,20 @@ public class SalaryServiceImpl implements SalaryService {
                 .first(page.isFirst())
                 .build();
     }
+
+    private List<SalaryPayoutResponse> mapToResponses(List<SalaryPayout> payouts, UUID businessId) {
+        // Resolve employee names for the whole page in one query
+        Set<UUID> employeeIds = payouts.stream()
+                .map(SalaryPayout::getEmployeeId)
+                .collect(Collectors.toSet());
+        Map<UUID, String> employeeNames = new HashMap<>();
+        if (!employeeIds.isEmpty()) {
+            employeeRepository.findAllByIdInAndBusinessIdAndDeletedFalse(employeeIds, businessId)
+                    .forEach(e -> employeeNames.put(e.getId(), e.getFullName()));
+        }
+
+        return payouts.stream()
+                .map(p -> mapToResponse(p, employeeNames.getOrDefault(p.getEmployeeId(), "Unknown")))
+                .toList();
+    }
 }
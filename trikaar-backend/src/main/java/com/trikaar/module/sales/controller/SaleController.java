@@ -1,10 +1,13 @@
 package com.trikaar.module.sales.controller;
 
+import com.trikaar.module.idempotency.service.IdempotencyService;
 import com.trikaar.module.sales.dto.CreateSaleRequest;
 import com.trikaar.module.sales.dto.RefundRequest;
 import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.service.SaleIngestionService;
 import com.trikaar.module.sales.service.SaleService;
 import com.trikaar.shared.dto.ApiResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,18 +26,40 @@ import java.util.UUID;
 @Tag(name = "Sales & POS", description = "Point of Sale and sales management APIs")
 public class SaleController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final SaleService saleService;
+    private final SaleIngestionService saleIngestionService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'WORKER')")
-    @Operation(summary = "Create a new sale", description = "Process a complete POS transaction")
+    @Operation(summary = "Create a new sale", description = "Process a complete POS transaction. "
+            + "Retries with the same Idempotency-Key return the original sale.")
     public ResponseEntity<ApiResponse<SaleResponse>> createSale(
-            @Valid @RequestBody CreateSaleRequest request) {
-        SaleResponse response = saleService.createSale(request);
+            @Valid @RequestBody CreateSaleRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        // The sale itself is the lasting record of the key: it outlives the idempotency record
+        // and may have been stored by a sync
+        SaleResponse response = idempotencyKey != null
+                ? idempotencyService.execute("SALE", idempotencyKey, request, SaleResponse.class,
+                        () -> saleService.findSaleByIdempotencyKey(idempotencyKey)
+                                .orElseGet(() -> saleService.createSale(request, idempotencyKey, null)))
+                : saleIngestionService.submit(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response, "Sale completed successfully"));
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT', 'ANALYST')")
+    @Operation(summary = "List sales, newest first (cursor paged, no totals)")
+    public ResponseEntity<ApiResponse<CursorResponse<SaleResponse>>> getSalesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                saleService.getAllSalesByCursor(cursor, size)));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'WORKER', 'ACCOUNTANT', 'ANALYST')")
     @Operation(summary = "Get sale by ID")
@@ -87,10 +112,15 @@ public class SaleController {
 
     @PostMapping("/refund")
     @PreAuthorize("hasAnyRole('ADMIN', 'ACCOUNTANT')")
-    @Operation(summary = "Process a refund", description = "Full or partial refund of a completed sale")
+    @Operation(summary = "Process a refund", description = "Full or partial refund of a completed sale. "
+            + "Retries with the same Idempotency-Key return the original result.")
     public ResponseEntity<ApiResponse<SaleResponse>> processRefund(
-            @Valid @RequestBody RefundRequest request) {
-        SaleResponse response = saleService.processRefund(request);
+            @Valid @RequestBody RefundRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        SaleResponse response = idempotencyKey != null
+                ? idempotencyService.execute("REFUND", idempotencyKey, request, SaleResponse.class,
+                        () -> saleService.processRefund(request))
+                : saleService.processRefund(request);
         return ResponseEntity.ok(ApiResponse.success(response, "Refund processed successfully"));
     }
 }
@@ -0,0 +1,34 @@
+package com.trikaar.module.sales.controller;
+
+import com.trikaar.module.sales.dto.SaleSyncRequest;
+import com.trikaar.module.sales.dto.SaleSyncResponse;
+import com.trikaar.module.sales.service.SaleSyncService;
+import com.trikaar.shared.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sales/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sales & POS", description = "Point of Sale and sales management APIs")
+public class SaleSyncController {
+
+    private final SaleSyncService saleSyncService;
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'WORKER')")
+    @Operation(summary = "Sync offline sales",
+            description = "Upload sales buffered by a till; each is deduplicated by its idempotency key")
+    public ResponseEntity<ApiResponse<SaleSyncResponse>> syncSales(
+            @Valid @RequestBody SaleSyncRequest request) {
+        SaleSyncResponse response = saleSyncService.syncSales(request);
+        return ResponseEntity.ok(ApiResponse.success(response,
+                response.getCreated() + " sales synced, " + response.getDuplicates()
+                        + " already synced, " + response.getFailed() + " failed"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.trikaar.module.sales.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Sales buffered by a till while offline, uploaded in one request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaleSyncRequest {
+
+    @NotEmpty(message = "At least one sale is required")
+    @Valid
+    private List<SyncedSale> sales;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SyncedSale {
+
+        @NotBlank(message = "Idempotency key is required")
+        @Size(max = 100, message = "Idempotency key must be at most 100 characters")
+        private String idempotencyKey;
+
+        private LocalDateTime soldAt; // When the till rang it up; null = now
+
+        @NotNull(message = "Sale is required")
+        @Valid
+        private CreateSaleRequest sale;
+    }
+}
@@ -0,0 +1,41 @@
+package com.trikaar.module.sales.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Per-sale outcome of a sync, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaleSyncResponse {
+
+    private int created;
+    private int duplicates;
+    private int failed;
+    private List<Result> results;
+
+    public enum Status {
+        CREATED, DUPLICATE, FAILED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String idempotencyKey;
+        private Status status;
+        private String saleId;
+        private String transactionNumber;
+        private String errorCode; // Set when FAILED
+        private String message;
+        private boolean retryable; // FAILED only: safe to send again in a later sync
+    }
+}
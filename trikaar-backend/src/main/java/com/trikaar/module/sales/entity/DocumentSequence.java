@@ -0,0 +1,34 @@
+package com.trikaar.module.sales.entity;
+
+import com.trikaar.shared.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Counter row backing per-business, per-day document numbers
+ * (sale transaction numbers, refund numbers).
+ * Incremented atomically in blocks by the numbering service.
+ */
+@Entity
+@Table(name = "document_sequences", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_document_sequence", columnNames = { "business_id", "sequence_name",
+                "sequence_date" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentSequence extends BaseEntity {
+
+    @Column(name = "sequence_name", nullable = false, length = 30)
+    private String sequenceName; // SALE, REFUND
+
+    @Column(name = "sequence_date", nullable = false)
+    private LocalDate sequenceDate;
+
+    @Column(name = "last_value", nullable = false)
+    private long lastValue;
+}
@@ -15,7 +15,9 @@ import java.util.UUID;
  * Supports both full and partial refunds.
  */
 @Entity
-@Table(name = "refunds", indexes = {
+@Table(name = "refunds", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_refund_number_business", columnNames = { "refund_number", "business_id" })
+}, indexes = {
         @Index(name = "idx_refund_business_id", columnList = "business_id"),
         @Index(name = "idx_refund_sale_id", columnList = "original_sale_id"),
         @Index(name = "idx_refund_date", columnList = "refund_date")
@@ -27,7 +29,7 @@ import java.util.UUID;
 @Builder
 public class Refund extends BaseEntity {
 
-    @Column(name = "refund_number", nullable = false, unique = true, length = 50)
+    @Column(name = "refund_number", nullable = false, length = 50)
     private String refundNumber;
 
     @Column(name = "original_sale_id", nullable = false)
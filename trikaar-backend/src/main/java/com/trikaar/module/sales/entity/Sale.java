@@ -18,7 +18,10 @@ import java.util.UUID;
  * DRAFT → COMPLETED → (optionally) REFUNDED / PARTIALLY_REFUNDED
  */
 @Entity
-@Table(name = "sales", indexes = {
+@Table(name = "sales", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sale_txn_number_business", columnNames = { "transaction_number",
+                "business_id" })
+}, indexes = {
         @Index(name = "idx_sale_business_id", columnList = "business_id"),
         @Index(name = "idx_sale_transaction_number", columnList = "transaction_number"),
         @Index(name = "idx_sale_employee_id", columnList = "employee_id"),
@@ -33,7 +36,7 @@ import java.util.UUID;
 @Builder
 public class Sale extends BaseEntity {
 
-    @Column(name = "transaction_number", nullable = false, unique = true, length = 50)
+    @Column(name = "transaction_number", nullable = false, length = 50)
     private String transactionNumber;
 
     @Column(name = "employee_id", nullable = false)
@@ -97,6 +100,9 @@ public class Sale extends BaseEntity {
     @Column(name = "notes", length = 1000)
     private String notes;
 
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey; // Client-generated; unique per business (offline sync, retries)
+
     @OneToMany(mappedBy = "sale", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<SaleItem> items = new ArrayList<>();
@@ -0,0 +1,58 @@
+package com.trikaar.module.sales.mapper;
+
+import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.entity.Sale;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Manual mapper for Sale entity → DTO transformations.
+ */
+@Component
+public class SaleMapper {
+
+    /**
+     * Names are resolved by the caller, so mapping does no I/O beyond
+     * initializing the items collection.
+     */
+    public SaleResponse toResponse(Sale sale, String employeeName, String customerName) {
+        List<SaleResponse.SaleItemResponse> itemResponses = sale.getItems().stream()
+                .map(item -> SaleResponse.SaleItemResponse.builder()
+                        .id(item.getId().toString())
+                        .productId(item.getProductId().toString())
+                        .productName(item.getProductName())
+                        .sku(item.getSku())
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .discountAmount(item.getDiscountAmount())
+                        .taxAmount(item.getTaxAmount())
+                        .lineTotal(item.getLineTotal())
+                        .build())
+                .toList();
+
+        return SaleResponse.builder()
+                .id(sale.getId().toString())
+                .transactionNumber(sale.getTransactionNumber())
+                .employeeId(sale.getEmployeeId().toString())
+                .employeeName(employeeName)
+                .customerId(sale.getCustomerId() != null ? sale.getCustomerId().toString() : null)
+                .customerName(customerName)
+                .saleDate(sale.getSaleDate())
+                .subtotal(sale.getSubtotal())
+                .taxAmount(sale.getTaxAmount())
+                .discountAmount(sale.getDiscountAmount())
+                .loyaltyPointsRedeemed(sale.getLoyaltyPointsRedeemed())
+                .loyaltyDiscount(sale.getLoyaltyDiscount())
+                .totalAmount(sale.getTotalAmount())
+                .amountPaid(sale.getAmountPaid())
+                .changeAmount(sale.getChangeAmount())
+                .paymentMethod(sale.getPaymentMethod().name())
+                .status(sale.getStatus().name())
+                .loyaltyPointsEarned(sale.getLoyaltyPointsEarned())
+                .locked(sale.isLocked())
+                .notes(sale.getNotes())
+                .items(itemResponses)
+                .build();
+    }
+}
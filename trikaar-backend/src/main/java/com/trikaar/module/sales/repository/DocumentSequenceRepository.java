@@ -0,0 +1,48 @@
+package com.trikaar.module.sales.repository;
+
+import com.trikaar.module.sales.entity.DocumentSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+public interface DocumentSequenceRepository extends JpaRepository<DocumentSequence, UUID> {
+
+    /**
+     * Atomically reserves the next {@code blockSize} numbers and returns the
+     * last one reserved. Runs in its own short transaction so the counter row
+     * lock is released immediately instead of being held for the whole sale.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO document_sequences (business_id, sequence_name, sequence_date, last_value) " +
+            "VALUES (:businessId, :sequenceName, :sequenceDate, :blockSize) " +
+            "ON CONFLICT (business_id, sequence_name, sequence_date) DO UPDATE " +
+            "SET last_value = document_sequences.last_value + :blockSize, updated_at = CURRENT_TIMESTAMP " +
+            "RETURNING last_value", nativeQuery = true)
+    long reserveBlock(@Param("businessId") UUID businessId,
+            @Param("sequenceName") String sequenceName,
+            @Param("sequenceDate") LocalDate sequenceDate,
+            @Param("blockSize") long blockSize);
+
+    /**
+     * Hands back the unused tail of a block, but only if no other node has
+     * reserved past it in the meantime.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE document_sequences SET last_value = :releaseTo, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE business_id = :businessId AND sequence_name = :sequenceName " +
+            "AND sequence_date = :sequenceDate AND last_value = :blockEnd", nativeQuery = true)
+    int releaseBlock(@Param("businessId") UUID businessId,
+            @Param("sequenceName") String sequenceName,
+            @Param("sequenceDate") LocalDate sequenceDate,
+            @Param("blockEnd") long blockEnd,
+            @Param("releaseTo") long releaseTo);
+}
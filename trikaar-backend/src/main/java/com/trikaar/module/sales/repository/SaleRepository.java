@@ -10,6 +10,8 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,9 +22,18 @@ public interface SaleRepository extends JpaRepository<Sale, UUID> {
 
     Optional<Sale> findByIdAndBusinessIdAndDeletedFalse(UUID id, UUID businessId);
 
+    /**
+     * Initializes the items collection of every given sale with one query.
+     * Used after loading a page of sales to avoid one lazy load per row.
+     */
+    @Query("SELECT DISTINCT s FROM Sale s LEFT JOIN FETCH s.items WHERE s.id IN :ids")
+    List<Sale> fetchItemsForSales(@Param("ids") Collection<UUID> ids);
+
     Optional<Sale> findByTransactionNumberAndBusinessIdAndDeletedFalse(
             String transactionNumber, UUID businessId);
 
+    Optional<Sale> findByIdempotencyKeyAndBusinessId(String idempotencyKey, UUID businessId);
+
     Page<Sale> findAllByEmployeeIdAndBusinessIdAndDeletedFalse(
             UUID employeeId, UUID businessId, Pageable pageable);
 
@@ -52,10 +63,50 @@ public interface SaleRepository extends JpaRepository<Sale, UUID> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT COUNT(s) FROM Sale s WHERE s.businessId = :businessId " +
-            "AND s.saleDate >= :startOfDay AND s.saleDate < :endOfDay " +
-            "AND s.deleted = false")
-    long countTodaySales(@Param("businessId") UUID businessId,
-            @Param("startOfDay") LocalDateTime startOfDay,
-            @Param("endOfDay") LocalDateTime endOfDay);
+    /**
+     * {@link #calculateEmployeeSales} for every employee with completed sales in the period.
+     */
+    @Query("SELECT s.employeeId AS employeeId, SUM(s.totalAmount) AS salesAmount FROM Sale s " +
+            "WHERE s.businessId = :businessId AND s.status = 'COMPLETED' " +
+            "AND s.employeeId IS NOT NULL AND s.saleDate BETWEEN :startDate AND :endDate " +
+            "AND s.deleted = false " +
+            "GROUP BY s.employeeId")
+    List<EmployeeSales> calculateSalesByEmployee(@Param("businessId") UUID businessId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    interface EmployeeSales {
+        UUID getEmployeeId();
+
+        BigDecimal getSalesAmount();
+    }
+
+    /**
+     * Keyset page ordered by saleDate DESC, id DESC: rows strictly after the given position.
+     * The row comparison is the range start of a scan on idx_sales_keyset.
+     */
+    @Query("SELECT s FROM Sale s WHERE s.businessId = :businessId AND s.deleted = false " +
+            "AND (s.saleDate, s.id) < (:afterDate, :afterId) " +
+            "ORDER BY s.saleDate DESC, s.id DESC")
+    List<Sale> findPageAfter(@Param("businessId") UUID businessId,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * Sales already stored under any of the given idempotency keys.
+     */
+    @Query("SELECT s.idempotencyKey AS idempotencyKey, s.id AS id, " +
+            "s.transactionNumber AS transactionNumber FROM Sale s " +
+            "WHERE s.businessId = :businessId AND s.idempotencyKey IN :keys")
+    List<IdempotentSale> findByIdempotencyKeys(@Param("businessId") UUID businessId,
+            @Param("keys") Collection<String> keys);
+
+    interface IdempotentSale {
+        String getIdempotencyKey();
+
+        UUID getId();
+
+        String getTransactionNumber();
+    }
 }
@@ -0,0 +1,14 @@
+package com.trikaar.module.sales.service;
+
+import java.util.UUID;
+
+/**
+ * Allocates human-readable, per-business document numbers
+ * (e.g. {@code TXN-20240315-00042}) without scanning the sales table.
+ */
+public interface DocumentNumberService {
+
+    String nextTransactionNumber(UUID businessId);
+
+    String nextRefundNumber(UUID businessId);
+}
@@ -0,0 +1,14 @@
+package com.trikaar.module.sales.service;
+
+import com.trikaar.module.sales.dto.CreateSaleRequest;
+import com.trikaar.module.sales.dto.SaleResponse;
+
+/**
+ * Entry point for POS sales. Creates each sale in its own transaction or,
+ * with group commit enabled, hands it to its business's committer and
+ * waits until the batch containing it has committed.
+ */
+public interface SaleIngestionService {
+
+    SaleResponse submit(CreateSaleRequest request);
+}
@@ -3,20 +3,38 @@ package com.trikaar.module.sales.service;
 import com.trikaar.module.sales.dto.CreateSaleRequest;
 import com.trikaar.module.sales.dto.RefundRequest;
 import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface SaleService {
 
     SaleResponse createSale(CreateSaleRequest request);
 
+    /**
+     * Creates a sale stored under a client idempotency key (unique per business)
+     * and, for sales rung up offline, dated when it happened rather than now.
+     * Both are optional.
+     */
+    SaleResponse createSale(CreateSaleRequest request, String idempotencyKey, LocalDateTime soldAt);
+
     SaleResponse getSaleById(UUID saleId);
 
     SaleResponse getSaleByTransactionNumber(String transactionNumber);
 
+    /**
+     * The sale already stored under {@code idempotencyKey}, whether it came in
+     * through the API or a sync.
+     */
+    Optional<SaleResponse> findSaleByIdempotencyKey(String idempotencyKey);
+
     PagedResponse<SaleResponse> getAllSales(int page, int size, String sortBy, String sortDir);
 
+    CursorResponse<SaleResponse> getAllSalesByCursor(String cursor, int size);
+
     PagedResponse<SaleResponse> getSalesByEmployee(UUID employeeId, int page, int size);
 
     PagedResponse<SaleResponse> getSalesByCustomer(UUID customerId, int page, int size);
@@ -0,0 +1,13 @@
+package com.trikaar.module.sales.service;
+
+import com.trikaar.module.sales.dto.SaleSyncRequest;
+import com.trikaar.module.sales.dto.SaleSyncResponse;
+
+/**
+ * Bulk upload of sales recorded offline. Every sale carries a client
+ * idempotency key, so a batch can be re-sent safely after a lost response.
+ */
+public interface SaleSyncService {
+
+    SaleSyncResponse syncSales(SaleSyncRequest request);
+}
@@ -0,0 +1,114 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.shared.metrics.PersistenceFailureMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Applies a batch of sale operations in one transaction, so the batch pays
+ * for a single commit. If any item fails, or the commit does, the whole
+ * transaction is rolled back and every item is applied again in a
+ * transaction of its own: the items that are fine commit, and only those
+ * that fail on their own report a failure.
+ *
+ * Items cannot be isolated with savepoints instead. The JPA transaction
+ * manager does not support them, and a failing {@code @Transactional} call
+ * marks the whole transaction rollback-only regardless.
+ *
+ * Work a rolled-back attempt did outside the transaction is not undone:
+ * document numbers it allocated are skipped. After-commit callbacks, such as
+ * stock cache updates and audit entries, only run for the attempt that
+ * commits.
+ */
+@Slf4j
+@Component
+class BatchTransactionExecutor {
+
+    private final TransactionTemplate transaction;
+    private final PersistenceFailureMetrics persistenceFailureMetrics;
+
+    BatchTransactionExecutor(PlatformTransactionManager transactionManager,
+            PersistenceFailureMetrics persistenceFailureMetrics) {
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.persistenceFailureMetrics = persistenceFailureMetrics;
+    }
+
+    /**
+     * One outcome per item, in order. Never throws for a failing item.
+     */
+    <T, R> BatchResult<R> executeAll(List<T> items, Function<T, R> action) {
+        return executeAll(items, action, (item, work) -> work.run());
+    }
+
+    /**
+     * As {@link #executeAll(List, Function)}, with each item's own transaction,
+     * commit included, and its failure metrics run inside {@code scope}, e.g.
+     * as the item's tenant when the caller's thread has none.
+     */
+    <T, R> BatchResult<R> executeAll(List<T> items, Function<T, R> action, ItemScope<T> scope) {
+        if (items.size() > 1) {
+            try {
+                List<ItemOutcome<R>> outcomes = transaction.execute(status -> {
+                    List<ItemOutcome<R>> applied = new ArrayList<>(items.size());
+                    for (T item : items) {
+                        applied.add(new ItemOutcome<>(action.apply(item), null));
+                    }
+                    return applied;
+                });
+                return new BatchResult<>(outcomes, true);
+            } catch (RuntimeException e) {
+                log.info("Batch of {} rolled back ({}), applying its items one by one", items.size(), e.toString());
+            }
+        }
+
+        List<ItemOutcome<R>> outcomes = new ArrayList<>(items.size());
+        for (T item : items) {
+            outcomes.add(executeAlone(item, action, scope));
+        }
+        return new BatchResult<>(outcomes, items.size() <= 1);
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private <T, R> ItemOutcome<R> executeAlone(T item, Function<T, R> action, ItemScope<T> scope) {
+        List<ItemOutcome<R>> outcome = new ArrayList<>(1);
+        scope.run(item, () -> {
+            try {
+                outcome.add(new ItemOutcome<>(transaction.execute(status -> action.apply(item)), null));
+            } catch (RuntimeException e) {
+                persistenceFailureMetrics.record(e);
+                outcome.add(new ItemOutcome<>(null, e));
+            }
+        });
+        return outcome.get(0);
+    }
+
+    /**
+     * Runs the work done for one item inside whatever context the item needs.
+     */
+    @FunctionalInterface
+    interface ItemScope<T> {
+        void run(T item, Runnable work);
+    }
+
+    /**
+     * {@code committedTogether} is false when the batch was rolled back and
+     * its items were applied one transaction each.
+     */
+    record BatchResult<R>(List<ItemOutcome<R>> outcomes, boolean committedTogether) {
+    }
+
+    /**
+     * Either {@code result} or {@code failure} is set.
+     */
+    record ItemOutcome<R>(R result, RuntimeException failure) {
+    }
+}
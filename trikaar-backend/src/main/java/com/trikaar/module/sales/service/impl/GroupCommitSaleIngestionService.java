@@ -0,0 +1,255 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.config.SalesProperties;
+import com.trikaar.module.sales.dto.CreateSaleRequest;
+import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.service.SaleIngestionService;
+import com.trikaar.module.sales.service.SaleService;
+import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.exception.BusinessRuleException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group-commit sale ingestion.
+ *
+ * Each business has a lane (a bounded queue). Whenever a lane has work, one
+ * committer thread drains up to {@code maxBatchSize} sales from it and
+ * creates them all in a single transaction, so a busy store pays one commit
+ * per batch instead of one per sale. If any sale in the batch fails, the
+ * batch is rolled back and its sales are retried one transaction each
+ * ({@link BatchTransactionExecutor}): the failing sale's caller gets the
+ * error and the others still commit.
+ *
+ * Lanes never run concurrently with themselves, so a business's sales are
+ * committed in arrival order and batches of one store never contend for the
+ * same stock rows.
+ *
+ * Committer threads have no tenant of their own. Each sale is created and
+ * flushed as its submitter, so auditing columns such as updated_by are
+ * stamped before the tenant is gone, and a sale retried on its own also
+ * commits and reports failure metrics as that submitter.
+ */
+@Slf4j
+@Service
+public class GroupCommitSaleIngestionService implements SaleIngestionService {
+
+    private final SaleService saleService;
+    private final SalesProperties.GroupCommit settings;
+    private final BatchTransactionExecutor batchExecutor;
+    private final EntityManager entityManager;
+    private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSize;
+    private final Timer batchTimer;
+    private final Counter rejected;
+    private final Counter failedInBatch;
+    private final Counter fallbacks;
+
+    private ExecutorService committers;
+
+    public GroupCommitSaleIngestionService(SaleService saleService,
+            SalesProperties salesProperties,
+            BatchTransactionExecutor batchExecutor,
+            EntityManager entityManager,
+            MeterRegistry meterRegistry) {
+        this.saleService = saleService;
+        this.settings = salesProperties.getGroupCommit();
+        this.batchExecutor = batchExecutor;
+        this.entityManager = entityManager;
+
+        Gauge.builder("trikaar.sales.group.queued", lanes,
+                map -> map.values().stream().mapToInt(lane -> lane.queue.size()).sum())
+                .description("Sales waiting for a group commit")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("trikaar.sales.group.batch.size")
+                .description("Sales per group-commit transaction")
+                .register(meterRegistry);
+        this.batchTimer = meterRegistry.timer("trikaar.sales.group.batch.commit");
+        this.rejected = meterRegistry.counter("trikaar.sales.group.rejected");
+        this.failedInBatch = meterRegistry.counter("trikaar.sales.group.failed");
+        this.fallbacks = meterRegistry.counter("trikaar.sales.group.fallback");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        committers = Executors.newFixedThreadPool(settings.getCommitterThreads(),
+                Thread.ofPlatform().name("sale-committer-", 0).daemon().factory());
+        log.info("Group-commit sale ingestion enabled: {} committers, batches of up to {}",
+                settings.getCommitterThreads(), settings.getMaxBatchSize());
+    }
+
+    @Override
+    public SaleResponse submit(CreateSaleRequest request) {
+        if (committers == null) {
+            return saleService.createSale(request);
+        }
+
+        UUID businessId = TenantContext.getBusinessId();
+        PendingSale pending = new PendingSale(request, businessId, TenantContext.getUserId(),
+                new CompletableFuture<>());
+        Lane lane = lanes.computeIfAbsent(businessId, id -> new Lane(settings.getLaneCapacity()));
+        if (!lane.queue.offer(pending)) {
+            rejected.increment();
+            throw new BusinessRuleException("SALES_BACKLOG_FULL",
+                    "Too many sales are waiting to be committed, please retry");
+        }
+        schedule(lane);
+        return await(pending);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (committers == null) {
+            return;
+        }
+        committers.shutdown();
+        try {
+            if (!committers.awaitTermination(settings.getResponseTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("Sale committers did not finish within {} ms", settings.getResponseTimeoutMs());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void schedule(Lane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            committers.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(Lane lane) {
+        try {
+            List<PendingSale> batch = nextBatch(lane);
+            while (!batch.isEmpty()) {
+                commit(batch);
+                batch = nextBatch(lane);
+            }
+        } catch (RuntimeException e) {
+            log.error("Sale committer failed", e);
+        } finally {
+            lane.scheduled.set(false);
+            // A sale queued after the last drain but before the flag was cleared
+            if (!lane.queue.isEmpty()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    /**
+     * Takes what is queued, lingering briefly for more so that tills
+     * submitting at nearly the same moment share one commit.
+     */
+    private List<PendingSale> nextBatch(Lane lane) {
+        int max = settings.getMaxBatchSize();
+        List<PendingSale> batch = new ArrayList<>(max);
+        lane.queue.drainTo(batch, max);
+        if (batch.isEmpty() || batch.size() >= max || settings.getLingerMs() <= 0) {
+            return batch;
+        }
+        try {
+            PendingSale next = lane.queue.poll(settings.getLingerMs(), TimeUnit.MILLISECONDS);
+            if (next != null) {
+                batch.add(next);
+                lane.queue.drainTo(batch, max - batch.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return batch;
+    }
+
+    private void commit(List<PendingSale> batch) {
+        BatchTransactionExecutor.BatchResult<SaleResponse> result = batchTimer.record(() ->
+                batchExecutor.executeAll(batch, this::createAndFlush,
+                        (pending, work) -> TenantContext.runAs(pending.businessId(), pending.userId(), work)));
+        if (result.committedTogether()) {
+            batchSize.record(batch.size());
+        } else {
+            fallbacks.increment(batch.size());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            BatchTransactionExecutor.ItemOutcome<SaleResponse> outcome = result.outcomes().get(i);
+            if (outcome.failure() != null) {
+                failedInBatch.increment();
+                batch.get(i).result().completeExceptionally(outcome.failure());
+            } else {
+                batch.get(i).result().complete(outcome.result());
+            }
+        }
+    }
+
+    /**
+     * Creates the sale as its submitter and flushes it before leaving that
+     * tenant scope; otherwise the batch commit would flush it without one.
+     */
+    private SaleResponse createAndFlush(PendingSale pending) {
+        return TenantContext.callAs(pending.businessId(), pending.userId(), () -> {
+            SaleResponse response = saleService.createSale(pending.request());
+            entityManager.flush();
+            return response;
+        });
+    }
+
+    private SaleResponse await(PendingSale pending) {
+        try {
+            return pending.result().get(settings.getResponseTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Sale could not be committed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessRuleException("SALE_COMMIT_PENDING",
+                    "Sale is still being committed; check recent sales before retrying");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessRuleException("SALE_COMMIT_PENDING",
+                    "Sale is still being committed; check recent sales before retrying");
+        }
+    }
+
+    private record PendingSale(CreateSaleRequest request, UUID businessId, UUID userId,
+            CompletableFuture<SaleResponse> result) {
+    }
+
+    private static final class Lane {
+
+        private final BlockingQueue<PendingSale> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Lane(int capacity) {
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+    }
+}
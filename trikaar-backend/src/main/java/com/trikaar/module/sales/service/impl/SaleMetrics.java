@@ -0,0 +1,121 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.metrics.BusinessMeters;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkout and refund timings, tagged by business.
+ *
+ * <ul>
+ *   <li>{@code trikaar.sales.checkout} / {@code trikaar.sales.refund} (tag {@code outcome}:
+ *       committed, rolled_back, rejected, failed) - end to end, including commit</li>
+ *   <li>{@code trikaar.sales.checkout.phase} (tag {@code phase}) - where a committed
+ *       checkout spent its time; {@code commit} covers the flush of pending inserts
+ *       and the daily rollup upserts, which run just before commit</li>
+ *   <li>{@code trikaar.sales.rejections} (tags {@code operation}, {@code reason}) - business
+ *       rule rejections by rule code, e.g. INSUFFICIENT_STOCK</li>
+ * </ul>
+ */
+@Component
+class SaleMetrics {
+
+    enum Phase {
+        VALIDATION, NUMBERING, PRICING, LOYALTY, PERSIST, STOCK, AUDIT
+    }
+
+    private final BusinessMeters businessMeters;
+
+    SaleMetrics(BusinessMeters businessMeters) {
+        this.businessMeters = businessMeters;
+    }
+
+    Timing startCheckout(UUID businessId) {
+        return new Timing("checkout", businessId, true);
+    }
+
+    Timing startRefund(UUID businessId) {
+        return new Timing("refund", businessId, false);
+    }
+
+    /**
+     * One operation in flight. Not thread-safe; used by the thread running it.
+     */
+    final class Timing {
+
+        private final String operation;
+        private final UUID businessId;
+        private final long startedAt;
+        private final long[] phaseNanos;
+        private long lastMark;
+
+        private Timing(String operation, UUID businessId, boolean withPhases) {
+            this.operation = operation;
+            this.businessId = businessId;
+            this.startedAt = System.nanoTime();
+            this.lastMark = startedAt;
+            this.phaseNanos = withPhases ? new long[Phase.values().length] : null;
+        }
+
+        /** Charges the time since the previous mark to {@code phase}. */
+        void mark(Phase phase) {
+            long now = System.nanoTime();
+            phaseNanos[phase.ordinal()] += now - lastMark;
+            lastMark = now;
+        }
+
+        /**
+         * The method body finished; the outcome is known once the surrounding
+         * transaction completes.
+         */
+        void succeeded() {
+            long workDoneAt = System.nanoTime();
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                record("committed", workDoneAt, workDoneAt);
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    record(status == STATUS_COMMITTED ? "committed" : "rolled_back", workDoneAt, System.nanoTime());
+                }
+            });
+        }
+
+        void failed(RuntimeException failure) {
+            String outcome = "failed";
+            if (failure instanceof BusinessRuleException rejection) {
+                outcome = "rejected";
+                businessMeters.counter("trikaar.sales.rejections", businessId,
+                        "operation", operation, "reason", rejection.getRuleCode()).increment();
+            }
+            long now = System.nanoTime();
+            record(outcome, now, now);
+        }
+
+        private void record(String outcome, long workDoneAt, long completedAt) {
+            if (phaseNanos != null && "committed".equals(outcome)) {
+                for (Phase phase : Phase.values()) {
+                    if (phaseNanos[phase.ordinal()] > 0) {
+                        phaseTimer(phase.name().toLowerCase(Locale.ROOT))
+                                .record(phaseNanos[phase.ordinal()], TimeUnit.NANOSECONDS);
+                    }
+                }
+                phaseTimer("commit").record(completedAt - workDoneAt, TimeUnit.NANOSECONDS);
+            }
+            businessMeters.timer("trikaar.sales." + operation, businessId, "outcome", outcome)
+                    .record(completedAt - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        private Timer phaseTimer(String phase) {
+            return businessMeters.timer("trikaar.sales.checkout.phase", businessId, "phase", phase);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.module.inventory.entity.Product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Per-line sale arithmetic, free of I/O so it can be benchmarked on its own.
+ */
+final class SalePricing {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private SalePricing() {
+    }
+
+    /**
+     * Prices one basket line: tax applies to the line after its discount and
+     * is rounded half-up to paise.
+     */
+    static LineAmounts priceLine(Product product, BigDecimal quantity, BigDecimal discount) {
+        BigDecimal lineSubtotal = product.getSellingPrice().multiply(quantity);
+        BigDecimal itemDiscount = discount != null ? discount : BigDecimal.ZERO;
+        BigDecimal taxableAmount = lineSubtotal.subtract(itemDiscount);
+        BigDecimal itemTax = product.isTaxable()
+                ? taxableAmount.multiply(product.getTaxPercentage())
+                        .divide(HUNDRED, 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        return new LineAmounts(lineSubtotal, itemDiscount, itemTax, taxableAmount.add(itemTax));
+    }
+
+    record LineAmounts(BigDecimal subtotal, BigDecimal discount, BigDecimal tax, BigDecimal total) {
+    }
+}
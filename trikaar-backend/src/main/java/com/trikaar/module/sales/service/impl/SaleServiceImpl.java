@@ -8,20 +8,25 @@ import com.trikaar.module.employee.entity.Employee;
 import com.trikaar.module.employee.repository.EmployeeRepository;
 import com.trikaar.module.inventory.entity.Product;
 import com.trikaar.module.inventory.entity.StockMovement;
-import com.trikaar.module.inventory.repository.ProductRepository;
-import com.trikaar.module.inventory.repository.StockMovementRepository;
+import com.trikaar.module.inventory.service.ProductCatalogService;
+import com.trikaar.module.inventory.service.StockService;
 import com.trikaar.module.loyalty.service.LoyaltyService;
+import com.trikaar.module.reporting.service.SalesRollupService;
 import com.trikaar.module.sales.dto.CreateSaleRequest;
 import com.trikaar.module.sales.dto.RefundRequest;
 import com.trikaar.module.sales.dto.SaleResponse;
 import com.trikaar.module.sales.entity.*;
+import com.trikaar.module.sales.mapper.SaleMapper;
 import com.trikaar.module.sales.repository.RefundRepository;
 import com.trikaar.module.sales.repository.SaleRepository;
+import com.trikaar.module.sales.service.DocumentNumberService;
 import com.trikaar.module.sales.service.SaleService;
 import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.dto.CursorResponse;
 import com.trikaar.shared.dto.PagedResponse;
 import com.trikaar.shared.exception.BusinessRuleException;
 import com.trikaar.shared.exception.ResourceNotFoundException;
+import com.trikaar.shared.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,35 +36,66 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SaleServiceImpl implements SaleService {
 
+    /** How far ahead of the server clock an offline till's sale date may be. */
+    private static final long MAX_CLOCK_SKEW_MINUTES = 5;
+
     private final SaleRepository saleRepository;
     private final RefundRepository refundRepository;
-    private final ProductRepository productRepository;
     private final EmployeeRepository employeeRepository;
     private final CustomerRepository customerRepository;
-    private final StockMovementRepository stockMovementRepository;
+    private final StockService stockService;
+    private final ProductCatalogService productCatalogService;
+    private final DocumentNumberService documentNumberService;
     private final LoyaltyService loyaltyService;
     private final AuditService auditService;
-
-    private final AtomicLong transactionCounter = new AtomicLong(System.currentTimeMillis() % 100000);
+    private final SalesRollupService salesRollupService;
+    private final SaleMetrics saleMetrics;
+    private final SaleMapper saleMapper;
 
     @Override
     @Transactional
     public SaleResponse createSale(CreateSaleRequest request) {
+        return createSale(request, null, null);
+    }
+
+    @Override
+    @Transactional
+    public SaleResponse createSale(CreateSaleRequest request, String idempotencyKey, LocalDateTime soldAt) {
         UUID businessId = TenantContext.getBusinessId();
+        SaleMetrics.Timing timing = saleMetrics.startCheckout(businessId);
+        try {
+            SaleResponse response = checkout(businessId, request, idempotencyKey, soldAt, timing);
+            timing.succeeded();
+            return response;
+        } catch (RuntimeException e) {
+            timing.failed(e);
+            throw e;
+        }
+    }
+
+    private SaleResponse checkout(UUID businessId, CreateSaleRequest request, String idempotencyKey,
+            LocalDateTime soldAt, SaleMetrics.Timing timing) {
+        LocalDateTime now = LocalDateTime.now();
+        if (soldAt != null && soldAt.isAfter(now.plusMinutes(MAX_CLOCK_SKEW_MINUTES))) {
+            throw new BusinessRuleException("INVALID_SALE_DATE",
+                    "Sale date " + soldAt + " is in the future");
+        }
 
         // 1. Validate employee exists
         Employee employee = employeeRepository.findByIdAndBusinessIdAndDeletedFalse(
@@ -73,56 +109,57 @@ public class SaleServiceImpl implements SaleService {
                     request.getCustomerId(), businessId)
                     .orElseThrow(() -> new ResourceNotFoundException("Customer", "id", request.getCustomerId()));
         }
+        timing.mark(SaleMetrics.Phase.VALIDATION);
 
-        // 3. Generate transaction number
-        String transactionNumber = generateTransactionNumber(businessId);
-
-        // 4. Build sale
+        // 3. Build sale
         Sale sale = Sale.builder()
-                .transactionNumber(transactionNumber)
                 .employeeId(employee.getId())
                 .customerId(customer != null ? customer.getId() : null)
-                .saleDate(LocalDateTime.now())
+                .saleDate(soldAt != null ? soldAt : now)
                 .paymentMethod(Sale.PaymentMethod.valueOf(request.getPaymentMethod().toUpperCase()))
                 .status(Sale.SaleStatus.COMPLETED)
                 .notes(request.getNotes())
+                .idempotencyKey(idempotencyKey)
                 .build();
         sale.setBusinessId(businessId);
 
-        // 5. Process each item — validate stock, calculate totals, deduct inventory
-        BigDecimal subtotal = BigDecimal.ZERO;
-        BigDecimal totalTax = BigDecimal.ZERO;
-        List<SaleItem> saleItems = new ArrayList<>();
-
+        // 4. Load every product in the basket with one query, then price each line
+        Map<UUID, BigDecimal> quantities = new LinkedHashMap<>();
         for (CreateSaleRequest.SaleItemRequest itemReq : request.getItems()) {
-            Product product = productRepository.findByIdAndBusinessIdAndDeletedFalse(
-                    itemReq.getProductId(), businessId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Product", "id", itemReq.getProductId()));
+            quantities.merge(itemReq.getProductId(), itemReq.getQuantity(), BigDecimal::add);
+        }
+        Map<UUID, Product> products = stockService.loadProducts(businessId, quantities.keySet());
+
+        for (Map.Entry<UUID, BigDecimal> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
 
             if (!product.isActive()) {
                 throw new BusinessRuleException("INACTIVE_PRODUCT",
                         "Product '" + product.getProductName() + "' is inactive");
             }
 
-            // Check stock availability
-            if (product.getCurrentStock().compareTo(itemReq.getQuantity()) < 0) {
+            // Check stock availability against the whole basket quantity.
+            // The balance may come from the catalogue cache, so drop it to re-read on retry.
+            if (product.getCurrentStock().compareTo(entry.getValue()) < 0) {
+                productCatalogService.evict(businessId, product.getId());
                 throw new BusinessRuleException("INSUFFICIENT_STOCK",
                         "Insufficient stock for '" + product.getProductName()
                                 + "'. Available: " + product.getCurrentStock()
-                                + ", Requested: " + itemReq.getQuantity());
+                                + ", Requested: " + entry.getValue());
             }
+        }
+        timing.mark(SaleMetrics.Phase.VALIDATION);
+
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal totalTax = BigDecimal.ZERO;
+        List<SaleItem> saleItems = new ArrayList<>();
+
+        for (CreateSaleRequest.SaleItemRequest itemReq : request.getItems()) {
+            Product product = products.get(itemReq.getProductId());
 
             // Calculate line totals
-            BigDecimal lineSubtotal = product.getSellingPrice().multiply(itemReq.getQuantity());
-            BigDecimal itemDiscount = itemReq.getDiscountAmount() != null
-                    ? itemReq.getDiscountAmount()
-                    : BigDecimal.ZERO;
-            BigDecimal taxableAmount = lineSubtotal.subtract(itemDiscount);
-            BigDecimal itemTax = product.isTaxable()
-                    ? taxableAmount.multiply(product.getTaxPercentage())
-                            .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP)
-                    : BigDecimal.ZERO;
-            BigDecimal lineTotal = taxableAmount.add(itemTax);
+            SalePricing.LineAmounts line = SalePricing.priceLine(
+                    product, itemReq.getQuantity(), itemReq.getDiscountAmount());
 
             SaleItem saleItem = SaleItem.builder()
                     .sale(sale)
@@ -132,42 +169,25 @@ public class SaleServiceImpl implements SaleService {
                     .quantity(itemReq.getQuantity())
                     .unitPrice(product.getSellingPrice())
                     .costPrice(product.getCostPrice())
-                    .discountAmount(itemDiscount)
-                    .taxAmount(itemTax)
+                    .discountAmount(line.discount())
+                    .taxAmount(line.tax())
                     .taxPercentage(product.getTaxPercentage())
-                    .lineTotal(lineTotal)
+                    .lineTotal(line.total())
                     .build();
             saleItem.setBusinessId(businessId);
             saleItems.add(saleItem);
 
-            subtotal = subtotal.add(lineSubtotal);
-            totalTax = totalTax.add(itemTax);
-
-            // Deduct stock
-            BigDecimal stockBefore = product.getCurrentStock();
-            product.setCurrentStock(stockBefore.subtract(itemReq.getQuantity()));
-            productRepository.save(product);
-
-            // Record stock movement
-            StockMovement movement = StockMovement.builder()
-                    .productId(product.getId())
-                    .movementType(StockMovement.MovementType.SALE_OUT)
-                    .quantity(itemReq.getQuantity().negate())
-                    .stockBefore(stockBefore)
-                    .stockAfter(product.getCurrentStock())
-                    .referenceType("SALE")
-                    .notes("Sale: " + transactionNumber)
-                    .build();
-            movement.setBusinessId(businessId);
-            stockMovementRepository.save(movement);
+            subtotal = subtotal.add(line.subtotal());
+            totalTax = totalTax.add(line.tax());
         }
 
-        // 6. Apply sale-level discount
+        // 5. Apply sale-level discount
         BigDecimal saleDiscount = request.getDiscountAmount() != null
                 ? request.getDiscountAmount()
                 : BigDecimal.ZERO;
+        timing.mark(SaleMetrics.Phase.PRICING);
 
-        // 7. Handle loyalty redemption
+        // 6. Handle loyalty redemption
         BigDecimal loyaltyDiscount = BigDecimal.ZERO;
         BigDecimal loyaltyPointsRedeemed = BigDecimal.ZERO;
         if (customer != null && request.getLoyaltyPointsToRedeem() != null
@@ -181,8 +201,9 @@ public class SaleServiceImpl implements SaleService {
                         "Customer has only " + customer.getLoyaltyPoints() + " loyalty points");
             }
         }
+        timing.mark(SaleMetrics.Phase.LOYALTY);
 
-        // 8. Calculate totals
+        // 7. Calculate totals
         BigDecimal totalAmount = subtotal.add(totalTax)
                 .subtract(saleDiscount).subtract(loyaltyDiscount);
 
@@ -197,7 +218,7 @@ public class SaleServiceImpl implements SaleService {
                             + ") is less than total (" + totalAmount + ")");
         }
 
-        // 9. Finalize sale
+        // 8. Finalize sale
         sale.setItems(saleItems);
         sale.setSubtotal(subtotal);
         sale.setTaxAmount(totalTax);
@@ -208,32 +229,52 @@ public class SaleServiceImpl implements SaleService {
         sale.setAmountPaid(request.getAmountPaid());
         sale.setChangeAmount(changeAmount);
         sale.setLocked(true); // Lock record immediately on completion
+        timing.mark(SaleMetrics.Phase.PRICING);
 
-        // 10. Calculate and assign loyalty points earned
-        if (customer != null) {
-            BigDecimal pointsEarned = loyaltyService.calculatePointsEarned(businessId, totalAmount);
-            sale.setLoyaltyPointsEarned(pointsEarned);
+        // 9. Calculate loyalty points earned
+        BigDecimal pointsEarned = customer != null
+                ? loyaltyService.calculatePointsEarned(businessId, totalAmount)
+                : BigDecimal.ZERO;
+        sale.setLoyaltyPointsEarned(pointsEarned);
+        timing.mark(SaleMetrics.Phase.LOYALTY);
+
+        // 10. Number the sale only once every check has passed, so rejected sales use no number
+        String transactionNumber = documentNumberService.nextTransactionNumber(businessId);
+        sale.setTransactionNumber(transactionNumber);
+        timing.mark(SaleMetrics.Phase.NUMBERING);
 
-            // Update customer loyalty
+        sale = saleRepository.save(sale);
+        timing.mark(SaleMetrics.Phase.PERSIST);
+
+        // 11. Deduct stock for the whole basket and record movements in bulk
+        stockService.deductStock(businessId, products, quantities,
+                sale.getId(), "SALE", "Sale: " + transactionNumber);
+        timing.mark(SaleMetrics.Phase.STOCK);
+
+        // 12. Update customer loyalty
+        if (customer != null) {
             loyaltyService.processLoyaltyTransaction(
                     businessId, customer.getId(), sale.getId(),
                     pointsEarned, loyaltyPointsRedeemed, totalAmount);
         }
+        timing.mark(SaleMetrics.Phase.LOYALTY);
 
-        sale = saleRepository.save(sale);
+        // 13. Roll the sale into the daily summary (applied just before commit)
+        salesRollupService.recordSale(sale);
 
-        // 11. Audit log
+        // 14. Audit log
         auditService.logAction(
                 AuditLog.AuditAction.SALE_CREATED,
                 "Sale",
                 sale.getId(),
                 "Sale created: " + transactionNumber + " | Total: " + totalAmount);
+        timing.mark(SaleMetrics.Phase.AUDIT);
 
         log.info("Sale '{}' created. Total: {}, Employee: {}, Customer: {}",
                 transactionNumber, totalAmount, employee.getFullName(),
                 customer != null ? customer.getFullName() : "Walk-in");
 
-        return mapToResponse(sale, employee.getFullName(),
+        return saleMapper.toResponse(sale, employee.getFullName(),
                 customer != null ? customer.getFullName() : null);
     }
 
@@ -241,6 +282,18 @@ public class SaleServiceImpl implements SaleService {
     @Transactional
     public SaleResponse processRefund(RefundRequest request) {
         UUID businessId = TenantContext.getBusinessId();
+        SaleMetrics.Timing timing = saleMetrics.startRefund(businessId);
+        try {
+            SaleResponse response = refund(businessId, request);
+            timing.succeeded();
+            return response;
+        } catch (RuntimeException e) {
+            timing.failed(e);
+            throw e;
+        }
+    }
+
+    private SaleResponse refund(UUID businessId, RefundRequest request) {
         UUID userId = TenantContext.getUserId();
 
         // 1. Find original sale
@@ -256,15 +309,10 @@ public class SaleServiceImpl implements SaleService {
             throw new BusinessRuleException("VOIDED_SALE", "Cannot refund a voided sale");
         }
 
-        // 2. Generate refund number
-        String refundNumber = "RFN-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))
-                + "-" + transactionCounter.incrementAndGet();
-
-        // 3. Build refund
+        // 2. Build refund
         boolean isFullRefund = request.getItems() == null || request.getItems().isEmpty();
 
         Refund refund = Refund.builder()
-                .refundNumber(refundNumber)
                 .originalSaleId(originalSale.getId())
                 .originalTransactionNumber(originalSale.getTransactionNumber())
                 .refundDate(LocalDateTime.now())
@@ -277,6 +325,7 @@ public class SaleServiceImpl implements SaleService {
 
         BigDecimal totalRefundAmount = BigDecimal.ZERO;
         List<RefundItem> refundItems = new ArrayList<>();
+        Map<UUID, BigDecimal> returnedQuantities = new LinkedHashMap<>();
 
         if (isFullRefund) {
             // Full refund — reverse all items
@@ -285,21 +334,23 @@ public class SaleServiceImpl implements SaleService {
                         saleItem.getQuantity(), businessId);
                 refundItems.add(refundItem);
                 totalRefundAmount = totalRefundAmount.add(refundItem.getRefundAmount());
-
-                // Reverse stock
-                reverseStock(saleItem.getProductId(), saleItem.getQuantity(),
-                        businessId, originalSale.getTransactionNumber());
+                returnedQuantities.merge(saleItem.getProductId(), saleItem.getQuantity(), BigDecimal::add);
             }
             originalSale.setStatus(Sale.SaleStatus.REFUNDED);
         } else {
-            // Partial refund
+            // Partial refund — index the sale's lines once (first line per product, as before)
+            Map<UUID, SaleItem> saleItemsByProduct = new HashMap<>();
+            for (SaleItem saleItem : originalSale.getItems()) {
+                saleItemsByProduct.putIfAbsent(saleItem.getProductId(), saleItem);
+            }
+
             for (RefundRequest.RefundItemRequest itemReq : request.getItems()) {
-                SaleItem matchingSaleItem = originalSale.getItems().stream()
-                        .filter(si -> si.getProductId().equals(itemReq.getProductId()))
-                        .findFirst()
-                        .orElseThrow(() -> new BusinessRuleException("INVALID_REFUND_ITEM",
-                                "Product " + itemReq.getProductId()
-                                        + " was not part of the original sale"));
+                SaleItem matchingSaleItem = saleItemsByProduct.get(itemReq.getProductId());
+                if (matchingSaleItem == null) {
+                    throw new BusinessRuleException("INVALID_REFUND_ITEM",
+                            "Product " + itemReq.getProductId()
+                                    + " was not part of the original sale");
+                }
 
                 if (itemReq.getQuantity().compareTo(matchingSaleItem.getQuantity()) > 0) {
                     throw new BusinessRuleException("EXCESSIVE_REFUND_QUANTITY",
@@ -311,17 +362,25 @@ public class SaleServiceImpl implements SaleService {
                         itemReq.getQuantity(), businessId);
                 refundItems.add(refundItem);
                 totalRefundAmount = totalRefundAmount.add(refundItem.getRefundAmount());
-
-                reverseStock(matchingSaleItem.getProductId(), itemReq.getQuantity(),
-                        businessId, originalSale.getTransactionNumber());
+                returnedQuantities.merge(itemReq.getProductId(), itemReq.getQuantity(), BigDecimal::add);
             }
             originalSale.setStatus(Sale.SaleStatus.PARTIALLY_REFUNDED);
         }
 
+        // Number the refund only once its items have been validated
+        String refundNumber = documentNumberService.nextRefundNumber(businessId);
+        refund.setRefundNumber(refundNumber);
+
+        // Put the stock back with one statement and bulk-insert the movements
+        stockService.addStock(businessId, returnedQuantities,
+                StockMovement.MovementType.REFUND_IN, originalSale.getId(),
+                "REFUND", "Refund for sale: " + originalSale.getTransactionNumber());
+
         refund.setRefundAmount(totalRefundAmount);
         refund.setItems(refundItems);
         refundRepository.save(refund);
         saleRepository.save(originalSale);
+        salesRollupService.recordRefund(refund);
 
         // Audit log
         auditService.logAction(
@@ -344,7 +403,7 @@ public class SaleServiceImpl implements SaleService {
         UUID businessId = TenantContext.getBusinessId();
         Sale sale = saleRepository.findByIdAndBusinessIdAndDeletedFalse(saleId, businessId)
                 .orElseThrow(() -> new ResourceNotFoundException("Sale", "id", saleId));
-        return mapToResponse(sale, resolveEmployeeName(sale.getEmployeeId(), businessId),
+        return saleMapper.toResponse(sale, resolveEmployeeName(sale.getEmployeeId(), businessId),
                 resolveCustomerName(sale.getCustomerId(), businessId));
     }
 
@@ -355,10 +414,19 @@ public class SaleServiceImpl implements SaleService {
         Sale sale = saleRepository.findByTransactionNumberAndBusinessIdAndDeletedFalse(
                 transactionNumber, businessId)
                 .orElseThrow(() -> new ResourceNotFoundException("Sale", "transactionNumber", transactionNumber));
-        return mapToResponse(sale, resolveEmployeeName(sale.getEmployeeId(), businessId),
+        return saleMapper.toResponse(sale, resolveEmployeeName(sale.getEmployeeId(), businessId),
                 resolveCustomerName(sale.getCustomerId(), businessId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SaleResponse> findSaleByIdempotencyKey(String idempotencyKey) {
+        UUID businessId = TenantContext.getBusinessId();
+        return saleRepository.findByIdempotencyKeyAndBusinessId(idempotencyKey, businessId)
+                .map(sale -> saleMapper.toResponse(sale, resolveEmployeeName(sale.getEmployeeId(), businessId),
+                        resolveCustomerName(sale.getCustomerId(), businessId)));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<SaleResponse> getAllSales(int page, int size, String sortBy, String sortDir) {
@@ -371,6 +439,22 @@ public class SaleServiceImpl implements SaleService {
         return buildPagedResponse(salePage, businessId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<SaleResponse> getAllSalesByCursor(String cursor, int size) {
+        UUID businessId = TenantContext.getBusinessId();
+        int pageSize = CursorResponse.clampPageSize(size);
+        CursorCodec.Position after = CursorCodec.decodePosition(cursor);
+
+        List<Sale> sales = saleRepository.findPageAfter(businessId,
+                after != null ? after.sortKeyAsDateTime() : CursorCodec.MAX_DATE_TIME,
+                after != null ? after.id() : CursorCodec.MAX_ID,
+                PageRequest.of(0, pageSize + 1));
+        return CursorResponse.of(sales, pageSize,
+                sale -> CursorCodec.encode(sale.getSaleDate(), sale.getId()),
+                page -> mapToResponses(page, businessId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<SaleResponse> getSalesByEmployee(UUID employeeId, int page, int size) {
@@ -391,14 +475,6 @@ public class SaleServiceImpl implements SaleService {
 
     // ═══════════════════ Private Helpers ═══════════════════
 
-    private String generateTransactionNumber(UUID businessId) {
-        String dateStr = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        long count = saleRepository.countTodaySales(businessId,
-                LocalDate.now().atStartOfDay(),
-                LocalDate.now().plusDays(1).atStartOfDay());
-        return "TXN-" + dateStr + "-" + String.format("%05d", count + 1);
-    }
-
     private RefundItem createRefundItem(Refund refund, SaleItem saleItem,
             BigDecimal quantity, UUID businessId) {
         BigDecimal proportionalRefund = saleItem.getUnitPrice().multiply(quantity);
@@ -414,28 +490,6 @@ public class SaleServiceImpl implements SaleService {
         return item;
     }
 
-    private void reverseStock(UUID productId, BigDecimal quantity,
-            UUID businessId, String transactionNumber) {
-        Product product = productRepository.findByIdAndBusinessIdAndDeletedFalse(productId, businessId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
-
-        BigDecimal stockBefore = product.getCurrentStock();
-        product.setCurrentStock(stockBefore.add(quantity));
-        productRepository.save(product);
-
-        StockMovement movement = StockMovement.builder()
-                .productId(productId)
-                .movementType(StockMovement.MovementType.REFUND_IN)
-                .quantity(quantity)
-                .stockBefore(stockBefore)
-                .stockAfter(product.getCurrentStock())
-                .referenceType("REFUND")
-                .notes("Refund for sale: " + transactionNumber)
-                .build();
-        movement.setBusinessId(businessId);
-        stockMovementRepository.save(movement);
-    }
-
     private String resolveEmployeeName(UUID employeeId, UUID businessId) {
         return employeeRepository.findByIdAndBusinessIdAndDeletedFalse(employeeId, businessId)
                 .map(Employee::getFullName).orElse("Unknown");
@@ -448,55 +502,9 @@ public class SaleServiceImpl implements SaleService {
                 .map(Customer::getFullName).orElse("Unknown");
     }
 
-    private SaleResponse mapToResponse(Sale sale, String employeeName, String customerName) {
-        List<SaleResponse.SaleItemResponse> itemResponses = sale.getItems().stream()
-                .map(item -> SaleResponse.SaleItemResponse.builder()
-                        .id(item.getId().toString())
-                        .productId(item.getProductId().toString())
-                        .productName(item.getProductName())
-                        .sku(item.getSku())
-                        .quantity(item.getQuantity())
-                        .unitPrice(item.getUnitPrice())
-                        .discountAmount(item.getDiscountAmount())
-                        .taxAmount(item.getTaxAmount())
-                        .lineTotal(item.getLineTotal())
-                        .build())
-                .toList();
-
-        return SaleResponse.builder()
-                .id(sale.getId().toString())
-                .transactionNumber(sale.getTransactionNumber())
-                .employeeId(sale.getEmployeeId().toString())
-                .employeeName(employeeName)
-                .customerId(sale.getCustomerId() != null ? sale.getCustomerId().toString() : null)
-                .customerName(customerName)
-                .saleDate(sale.getSaleDate())
-                .subtotal(sale.getSubtotal())
-                .taxAmount(sale.getTaxAmount())
-                .discountAmount(sale.getDiscountAmount())
-                .loyaltyPointsRedeemed(sale.getLoyaltyPointsRedeemed())
-                .loyaltyDiscount(sale.getLoyaltyDiscount())
-                .totalAmount(sale.getTotalAmount())
-                .amountPaid(sale.getAmountPaid())
-                .changeAmount(sale.getChangeAmount())
-                .paymentMethod(sale.getPaymentMethod().name())
-                .status(sale.getStatus().name())
-                .loyaltyPointsEarned(sale.getLoyaltyPointsEarned())
-                .locked(sale.isLocked())
-                .notes(sale.getNotes())
-                .items(itemResponses)
-                .build();
-    }
-
     private PagedResponse<SaleResponse> buildPagedResponse(Page<Sale> page, UUID businessId) {
-        List<SaleResponse> responses = page.getContent().stream()
-                .map(sale -> mapToResponse(sale,
-                        resolveEmployeeName(sale.getEmployeeId(), businessId),
-                        resolveCustomerName(sale.getCustomerId(), businessId)))
-                .toList();
-
         return PagedResponse.<SaleResponse>builder()
-                .content(responses)
+                .content(mapToResponses(page.getContent(), businessId))
                 .pageNumber(page.getNumber())
                 .pageSize(page.getSize())
                 .totalElements(page.getTotalElements())
@@ -505,4 +513,38 @@ public class SaleServiceImpl implements SaleService {
                 .first(page.isFirst())
                 .build();
     }
+
+    private List<SaleResponse> mapToResponses(List<Sale> sales, UUID businessId) {
+        // Resolve items, employees and customers for the whole page — one query each
+        Set<UUID> saleIds = new HashSet<>();
+        Set<UUID> employeeIds = new HashSet<>();
+        Set<UUID> customerIds = new HashSet<>();
+        for (Sale sale : sales) {
+            saleIds.add(sale.getId());
+            employeeIds.add(sale.getEmployeeId());
+            if (sale.getCustomerId() != null) {
+                customerIds.add(sale.getCustomerId());
+            }
+        }
+
+        Map<UUID, String> employeeNames = new HashMap<>();
+        Map<UUID, String> customerNames = new HashMap<>();
+        if (!sales.isEmpty()) {
+            saleRepository.fetchItemsForSales(saleIds);
+            employeeRepository.findAllByIdInAndBusinessIdAndDeletedFalse(employeeIds, businessId)
+                    .forEach(e -> employeeNames.put(e.getId(), e.getFullName()));
+        }
+        if (!customerIds.isEmpty()) {
+            customerRepository.findAllByIdInAndBusinessIdAndDeletedFalse(customerIds, businessId)
+                    .forEach(c -> customerNames.put(c.getId(), c.getFullName()));
+        }
+
+        return sales.stream()
+                .map(sale -> saleMapper.toResponse(sale,
+                        employeeNames.getOrDefault(sale.getEmployeeId(), "Unknown"),
+                        sale.getCustomerId() != null
+                                ? customerNames.getOrDefault(sale.getCustomerId(), "Unknown")
+                                : null))
+                .toList();
+    }
 }
@@ -0,0 +1,202 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.config.SalesProperties;
+import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.dto.SaleSyncRequest;
+import com.trikaar.module.sales.dto.SaleSyncResponse;
+import com.trikaar.module.sales.repository.SaleRepository;
+import com.trikaar.module.sales.service.SaleService;
+import com.trikaar.module.sales.service.SaleSyncService;
+import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Offline sale sync.
+ *
+ * Keys already stored are answered as DUPLICATE from one lookup; the rest are
+ * created in chunks, one transaction per chunk. A chunk with a bad sale is
+ * rolled back and retried one transaction per sale, so the bad sale fails
+ * alone. A concurrent upload of the same key is caught by the unique index
+ * and also reported as DUPLICATE.
+ */
+@Slf4j
+@Service
+public class SaleSyncServiceImpl implements SaleSyncService {
+
+    private static final String IDEMPOTENCY_CONSTRAINT = "uk_sales_idempotency_key";
+
+    private final SaleService saleService;
+    private final SaleRepository saleRepository;
+    private final BatchTransactionExecutor batchExecutor;
+    private final SalesProperties.Sync settings;
+
+    public SaleSyncServiceImpl(SaleService saleService,
+            SaleRepository saleRepository,
+            BatchTransactionExecutor batchExecutor,
+            SalesProperties salesProperties) {
+        this.saleService = saleService;
+        this.saleRepository = saleRepository;
+        this.batchExecutor = batchExecutor;
+        this.settings = salesProperties.getSync();
+    }
+
+    @Override
+    public SaleSyncResponse syncSales(SaleSyncRequest request) {
+        UUID businessId = TenantContext.getBusinessId();
+        List<SaleSyncRequest.SyncedSale> sales = request.getSales();
+        if (sales.size() > settings.getMaxSalesPerRequest()) {
+            throw new BusinessRuleException("SYNC_BATCH_TOO_LARGE",
+                    "At most " + settings.getMaxSalesPerRequest() + " sales can be synced per request");
+        }
+
+        // 1. Answer keys we already have without touching them again
+        Set<String> keys = new HashSet<>();
+        sales.forEach(sale -> keys.add(sale.getIdempotencyKey()));
+        Map<String, SaleRepository.IdempotentSale> stored = new HashMap<>();
+        saleRepository.findByIdempotencyKeys(businessId, keys)
+                .forEach(sale -> stored.put(sale.getIdempotencyKey(), sale));
+
+        SaleSyncResponse.Result[] results = new SaleSyncResponse.Result[sales.size()];
+        List<Integer> pending = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < sales.size(); i++) {
+            String key = sales.get(i).getIdempotencyKey();
+            if (stored.containsKey(key)) {
+                results[i] = duplicate(stored.get(key));
+            } else if (!seen.add(key)) {
+                results[i] = failed(key, "DUPLICATE_IN_REQUEST",
+                        "Idempotency key appears more than once in this request", false);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        // 2. Create the rest, one transaction per chunk
+        Set<Integer> racedDuplicates = new HashSet<>();
+        for (int from = 0; from < pending.size(); from += settings.getChunkSize()) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + settings.getChunkSize(), pending.size()));
+            createChunk(sales, chunk, results, racedDuplicates);
+        }
+
+        // 3. Keys another upload stored first
+        if (!racedDuplicates.isEmpty()) {
+            Set<String> racedKeys = new HashSet<>();
+            racedDuplicates.forEach(i -> racedKeys.add(sales.get(i).getIdempotencyKey()));
+            saleRepository.findByIdempotencyKeys(businessId, racedKeys)
+                    .forEach(sale -> stored.put(sale.getIdempotencyKey(), sale));
+            for (int i : racedDuplicates) {
+                SaleRepository.IdempotentSale sale = stored.get(sales.get(i).getIdempotencyKey());
+                results[i] = sale != null
+                        ? duplicate(sale)
+                        : failed(sales.get(i).getIdempotencyKey(), "SYNC_CONFLICT",
+                                "Sale is being synced by another request", true);
+            }
+        }
+
+        return summarize(List.of(results), businessId);
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void createChunk(List<SaleSyncRequest.SyncedSale> sales, List<Integer> chunk,
+            SaleSyncResponse.Result[] results, Set<Integer> racedDuplicates) {
+        List<BatchTransactionExecutor.ItemOutcome<SaleResponse>> outcomes = batchExecutor.executeAll(chunk, i -> {
+            SaleSyncRequest.SyncedSale sale = sales.get(i);
+            return saleService.createSale(sale.getSale(), sale.getIdempotencyKey(), sale.getSoldAt());
+        }).outcomes();
+
+        for (int n = 0; n < chunk.size(); n++) {
+            int i = chunk.get(n);
+            String key = sales.get(i).getIdempotencyKey();
+            BatchTransactionExecutor.ItemOutcome<SaleResponse> outcome = outcomes.get(n);
+            if (outcome.failure() == null) {
+                results[i] = SaleSyncResponse.Result.builder()
+                        .idempotencyKey(key)
+                        .status(SaleSyncResponse.Status.CREATED)
+                        .saleId(outcome.result().getId())
+                        .transactionNumber(outcome.result().getTransactionNumber())
+                        .build();
+            } else if (isIdempotencyConflict(outcome.failure())) {
+                racedDuplicates.add(i);
+            } else {
+                results[i] = rejected(key, outcome.failure());
+            }
+        }
+    }
+
+    private SaleSyncResponse.Result rejected(String key, RuntimeException failure) {
+        if (failure instanceof BusinessRuleException rule) {
+            return failed(key, rule.getRuleCode(), rule.getMessage(), false);
+        }
+        if (failure instanceof ResourceNotFoundException notFound) {
+            return failed(key, "RESOURCE_NOT_FOUND", notFound.getMessage(), false);
+        }
+        if (failure instanceof IllegalArgumentException invalid) {
+            return failed(key, "INVALID_REQUEST", invalid.getMessage(), false);
+        }
+        log.error("Unexpected failure syncing sale '{}'", key, failure);
+        return failed(key, "INTERNAL_ERROR", "Sale could not be stored, please sync it again", true);
+    }
+
+    private boolean isIdempotencyConflict(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException violation
+                    && IDEMPOTENCY_CONSTRAINT.equals(violation.getConstraintName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SaleSyncResponse.Result duplicate(SaleRepository.IdempotentSale sale) {
+        return SaleSyncResponse.Result.builder()
+                .idempotencyKey(sale.getIdempotencyKey())
+                .status(SaleSyncResponse.Status.DUPLICATE)
+                .saleId(sale.getId().toString())
+                .transactionNumber(sale.getTransactionNumber())
+                .build();
+    }
+
+    private SaleSyncResponse.Result failed(String key, String errorCode, String message, boolean retryable) {
+        return SaleSyncResponse.Result.builder()
+                .idempotencyKey(key)
+                .status(SaleSyncResponse.Status.FAILED)
+                .errorCode(errorCode)
+                .message(message)
+                .retryable(retryable)
+                .build();
+    }
+
+    private SaleSyncResponse summarize(List<SaleSyncResponse.Result> results, UUID businessId) {
+        int created = 0;
+        int duplicates = 0;
+        int failed = 0;
+        for (SaleSyncResponse.Result result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case FAILED -> failed++;
+            }
+        }
+        log.info("Sale sync for business {}: {} created, {} duplicates, {} failed",
+                businessId, created, duplicates, failed);
+        return SaleSyncResponse.builder()
+                .created(created)
+                .duplicates(duplicates)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+}
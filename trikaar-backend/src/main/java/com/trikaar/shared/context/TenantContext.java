@@ -1,6 +1,7 @@
 package com.trikaar.shared.context;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Thread-local holder for the current tenant (businessId).
@@ -9,6 +10,12 @@ import java.util.UUID;
  *
  * CRITICAL: Must be cleared after each request to prevent data leakage
  * in thread-pooled environments.
+ *
+ * Safe with virtual threads: thread locals belong to the virtual thread, not
+ * to the carrier it is mounted on, so a request never sees another request's
+ * tenant even when both run on the same carrier. Work handed to another
+ * thread does not inherit the tenant; use {@link #callAs} (or the task
+ * decorator for @Async executors) to carry it over explicitly.
  */
 public final class TenantContext {
 
@@ -35,6 +42,30 @@ public final class TenantContext {
         CURRENT_USER_ID.set(userId);
     }
 
+    /**
+     * Runs {@code action} as the given tenant and restores whatever was bound
+     * before, so calls can nest and the thread is left as it was found.
+     */
+    public static <T> T callAs(UUID businessId, UUID userId, Supplier<T> action) {
+        UUID previousBusinessId = CURRENT_BUSINESS_ID.get();
+        UUID previousUserId = CURRENT_USER_ID.get();
+        CURRENT_BUSINESS_ID.set(businessId);
+        CURRENT_USER_ID.set(userId);
+        try {
+            return action.get();
+        } finally {
+            restore(CURRENT_BUSINESS_ID, previousBusinessId);
+            restore(CURRENT_USER_ID, previousUserId);
+        }
+    }
+
+    public static void runAs(UUID businessId, UUID userId, Runnable action) {
+        callAs(businessId, userId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
     /**
      * MUST be called at the end of every request (e.g., in a filter's finally
      * block)
@@ -44,4 +75,12 @@ public final class TenantContext {
         CURRENT_BUSINESS_ID.remove();
         CURRENT_USER_ID.remove();
     }
+
+    private static void restore(ThreadLocal<UUID> holder, UUID previous) {
+        if (previous == null) {
+            holder.remove();
+        } else {
+            holder.set(previous);
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.trikaar.shared.context;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Carries the submitting thread's tenant and MDC into @Async tasks.
+ *
+ * Spring Boot applies a single TaskDecorator bean to the application task
+ * executor in both threading modes (pooled platform threads or one virtual
+ * thread per task).
+ */
+@Component
+public class TenantContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        UUID businessId = TenantContext.getBusinessId();
+        UUID userId = TenantContext.getUserId();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            setMdc(mdc);
+            try {
+                TenantContext.runAs(businessId, userId, runnable);
+            } finally {
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.trikaar.shared.datasource;
+
+import com.trikaar.config.DatabaseProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions created in V11 ahead of the clock, and
+ * optionally archives months older than the retention period. The work is
+ * done by the create_monthly_partitions / detach_monthly_partitions database
+ * functions, which take an advisory lock, so several instances can run this
+ * at the same time. Runs outside a transaction and therefore always on the
+ * primary.
+ *
+ * Inserts never fail for a missing month: rows fall into the table's default
+ * partition and are moved out when the month's partition is created.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "trikaar.datasource.partitions", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class PartitionMaintenance {
+
+    private static final List<String> PARTITIONED_TABLES =
+            List.of("stock_movements", "audit_logs", "loyalty_transactions");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseProperties.Partitions settings;
+    private final MeterRegistry meterRegistry;
+
+    public PartitionMaintenance(DataSource dataSource, DatabaseProperties databaseProperties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.settings = databaseProperties.getPartitions();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${trikaar.datasource.partitions.cron:0 30 2 * * *}")
+    public void maintain() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                createAhead(table, currentMonth);
+                if (settings.getRetentionMonths() > 0) {
+                    archiveBefore(table, currentMonth.minusMonths(settings.getRetentionMonths()));
+                }
+            } catch (RuntimeException e) {
+                // The next run retries; until then new rows land in the default partition
+                log.error("Partition maintenance for '{}' failed: {}", table, e.getMessage(), e);
+                meterRegistry.counter("trikaar.datasource.partitions.failures", "table", table).increment();
+            }
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void createAhead(String table, LocalDate currentMonth) {
+        Integer created = jdbcTemplate.queryForObject("SELECT create_monthly_partitions(?, ?, ?)", Integer.class,
+                table, currentMonth, settings.getMonthsAhead() + 1);
+        if (created != null && created > 0) {
+            log.info("Created {} monthly partitions for '{}'", created, table);
+            meterRegistry.counter("trikaar.datasource.partitions.created", "table", table).increment(created);
+        }
+    }
+
+    private void archiveBefore(String table, LocalDate before) {
+        List<String> archived = jdbcTemplate.queryForList("SELECT detach_monthly_partitions(?, ?)", String.class,
+                table, before);
+        if (!archived.isEmpty()) {
+            log.info("Moved partitions {} of '{}' to the archive schema", archived, table);
+            meterRegistry.counter("trikaar.datasource.partitions.archived", "table", table)
+                    .increment(archived.size());
+        }
+    }
+}
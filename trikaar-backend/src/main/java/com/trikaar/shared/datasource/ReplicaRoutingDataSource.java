@@ -0,0 +1,172 @@
+package com.trikaar.shared.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trikaar.config.DatabaseProperties;
+import com.trikaar.shared.context.TenantContext;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends read-only transactions to a streaming replica and everything else to
+ * the primary, so reporting and listing traffic cannot exhaust the pool tills
+ * check out from.
+ *
+ * Reads stay on the primary when
+ * <ul>
+ *   <li>the replica is unreachable or its last lag check failed,</li>
+ *   <li>replication lag exceeds max-lag-ms, or</li>
+ *   <li>the current user committed a write within read-your-writes-ms.</li>
+ * </ul>
+ *
+ * The routing decision uses the transaction's read-only flag, which is only
+ * known once the transaction has started; this data source must therefore sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ * Owns both pools and closes them on shutdown.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /** Zero when the replica has replayed everything it received; also zero on a primary. */
+    private static final String LAG_SQL = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final DatabaseProperties.Replica settings;
+    private final Cache<UUID, Boolean> recentWriters;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter fallbacks;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagMs = -1;
+    private ScheduledExecutorService lagMonitor;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+            DatabaseProperties.Replica settings, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.settings = settings;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(settings.getReadYourWritesMs()))
+                .maximumSize(settings.getMaxTrackedWriters())
+                .build();
+        this.replicaReads = meterRegistry.counter("trikaar.datasource.reads", "target", "replica");
+        this.primaryReads = meterRegistry.counter("trikaar.datasource.reads", "target", "primary");
+        this.fallbacks = meterRegistry.counter("trikaar.datasource.replica.fallbacks");
+        Gauge.builder("trikaar.datasource.replica.lag", this, ds -> ds.lagMs)
+                .description("Replication lag at the last check in ms; -1 if the check failed")
+                .register(meterRegistry);
+        Gauge.builder("trikaar.datasource.replica.usable", this, ds -> ds.replicaUsable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        lagMonitor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        lagMonitor.scheduleWithFixedDelay(this::checkReplica, 0, settings.getLagCheckIntervalMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        if (lagMonitor != null) {
+            lagMonitor.shutdownNow();
+        }
+        replica.close();
+        primary.close();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriter();
+            return primary.getConnection();
+        }
+        if (replicaUsable && !wroteRecently()) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replicaUsable = false;
+                fallbacks.increment();
+                log.warn("Replica unavailable, reading from the primary until it recovers: {}", e.getMessage());
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Credentials are configured per pool");
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    /** Starts the user's read-your-writes window once their transaction has committed. */
+    private void rememberWriter() {
+        UUID userId = TenantContext.getUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private boolean wroteRecently() {
+        UUID userId = TenantContext.getUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private void checkReplica() {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            long lag = rs.getLong(1);
+            lagMs = lag;
+            boolean usable = lag <= settings.getMaxLagMs();
+            if (usable != replicaUsable) {
+                if (usable) {
+                    log.info("Replica is in use for reads (lag {} ms)", lag);
+                } else {
+                    log.warn("Replica lag {} ms exceeds {} ms, reading from the primary", lag, settings.getMaxLagMs());
+                }
+            }
+            replicaUsable = usable;
+        } catch (SQLException | RuntimeException e) {
+            lagMs = -1;
+            if (replicaUsable) {
+                log.warn("Replica lag check failed, reading from the primary: {}", e.getMessage());
+            }
+            replicaUsable = false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.trikaar.shared.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset-paginated response wrapper. Unlike {@link PagedResponse} it carries
+ * no totals, so producing a page never needs a COUNT(*).
+ * Pass {@code nextCursor} back as {@code cursor} to fetch the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static int clampPageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Builds a page from a query that fetched {@code pageSize + 1} rows: the
+     * extra row only signals that another page exists.
+     *
+     * @param cursorOf encodes the keyset position of a row
+     * @param mapper   converts the page rows to response items
+     */
+    public static <E, T> CursorResponse<T> of(List<E> rows, int pageSize,
+            Function<E, String> cursorOf, Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+        List<T> content = mapper.apply(page);
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
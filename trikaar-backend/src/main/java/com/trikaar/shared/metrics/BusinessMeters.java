@@ -0,0 +1,80 @@
+package com.trikaar.shared.metrics;
+
+import com.trikaar.config.MetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timers and counters tagged by business, with bounded cardinality.
+ *
+ * Configured businesses and then the first ones seen, up to
+ * {@code trikaar.metrics.max-tagged-businesses}, get their own tag value;
+ * every later business is reported as "other", so a node serving thousands of
+ * tenants still exports a fixed number of series. Meters are cached, so the
+ * hot path does a map lookup instead of building a meter id per call.
+ */
+@Component
+public class BusinessMeters {
+
+    public static final String TAG = "business";
+
+    private static final String OTHER = "other";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxTaggedBusinesses;
+    private final Map<UUID, String> tagValues = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Meter> meters = new ConcurrentHashMap<>();
+
+    public BusinessMeters(MeterRegistry meterRegistry, MetricsProperties metricsProperties) {
+        this.meterRegistry = meterRegistry;
+        this.maxTaggedBusinesses = metricsProperties.getMaxTaggedBusinesses();
+        metricsProperties.getTaggedBusinesses().forEach(id -> tagValues.put(id, id.toString()));
+    }
+
+    /**
+     * @param tags extra tag key/value pairs; values must come from a small fixed set
+     */
+    public Timer timer(String name, UUID businessId, String... tags) {
+        return (Timer) meters.computeIfAbsent(new MeterKey(name, tagValue(businessId), Arrays.asList(tags)),
+                key -> Timer.builder(name).tags(Tags.of(tags).and(TAG, key.business())).register(meterRegistry));
+    }
+
+    /**
+     * @param tags extra tag key/value pairs; values must come from a small fixed set
+     */
+    public Counter counter(String name, UUID businessId, String... tags) {
+        return (Counter) meters.computeIfAbsent(new MeterKey(name, tagValue(businessId), Arrays.asList(tags)),
+                key -> Counter.builder(name).tags(Tags.of(tags).and(TAG, key.business())).register(meterRegistry));
+    }
+
+    public String tagValue(UUID businessId) {
+        if (businessId == null) {
+            return NONE;
+        }
+        String value = tagValues.get(businessId);
+        if (value != null) {
+            return value;
+        }
+        if (tagValues.size() >= maxTaggedBusinesses) {
+            return OTHER;
+        }
+        // Racing first sightings may overshoot the limit by a few entries; harmless
+        return tagValues.computeIfAbsent(businessId, UUID::toString);
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private record MeterKey(String name, String business, List<String> tags) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.trikaar.shared.metrics;
+
+import com.trikaar.shared.context.TenantContext;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts write conflicts by business:
+ * <ul>
+ *   <li>{@code trikaar.persistence.optimistic.lock.failures} (tag {@code entity}) -
+ *       a {@code @Version} check lost to a concurrent update</li>
+ *   <li>{@code trikaar.persistence.unique.violations} (tag {@code constraint}) -
+ *       e.g. {@code uk_sale_txn_number_business} for transaction-number collisions</li>
+ * </ul>
+ * Fed from the REST exception handler and from batch paths that catch
+ * failures per item.
+ */
+@Component
+public class PersistenceFailureMetrics {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final BusinessMeters businessMeters;
+
+    public PersistenceFailureMetrics(BusinessMeters businessMeters) {
+        this.businessMeters = businessMeters;
+    }
+
+    public void record(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            String entity = optimisticLockEntity(cause);
+            if (entity != null) {
+                businessMeters.counter("trikaar.persistence.optimistic.lock.failures",
+                        TenantContext.getBusinessId(), "entity", entity).increment();
+                return;
+            }
+            if (cause instanceof ConstraintViolationException violation
+                    && UNIQUE_VIOLATION.equals(violation.getSQLState())) {
+                String constraint = violation.getConstraintName();
+                businessMeters.counter("trikaar.persistence.unique.violations", TenantContext.getBusinessId(),
+                        "constraint", constraint != null ? constraint.toLowerCase() : "unknown").increment();
+                return;
+            }
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private static String optimisticLockEntity(Throwable cause) {
+        if (cause instanceof ObjectOptimisticLockingFailureException springFailure) {
+            return simpleName(springFailure.getPersistentClassName());
+        }
+        if (cause instanceof StaleObjectStateException stale) {
+            return simpleName(stale.getEntityName());
+        }
+        if (cause instanceof OptimisticLockException jpaFailure) {
+            return simpleName(jpaFailure.getEntity() != null ? jpaFailure.getEntity().getClass().getName() : null);
+        }
+        return cause instanceof StaleStateException ? "unknown" : null;
+    }
+
+    private static String simpleName(String entityName) {
+        return entityName != null ? entityName.substring(entityName.lastIndexOf('.') + 1) : "unknown";
+    }
+}
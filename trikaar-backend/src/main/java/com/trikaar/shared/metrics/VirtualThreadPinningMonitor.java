@@ -0,0 +1,117 @@
+package com.trikaar.shared.metrics;
+
+import com.trikaar.config.MetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads pinned to their carrier.
+ *
+ * A virtual thread that blocks inside a {@code synchronized} block (or a
+ * native frame) keeps its carrier thread, so enough of them stall every
+ * request on the node. While virtual threads are enabled this streams the
+ * JDK's {@code jdk.VirtualThreadPinned} events into
+ * {@code trikaar.threads.virtual.pinned} and logs the stack of each distinct
+ * pinning site once.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private final Environment environment;
+    private final MetricsProperties.VirtualThreadPinning settings;
+    private final Timer pinned;
+    private final Counter unreportedSites;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Environment environment,
+            MetricsProperties metricsProperties,
+            MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.settings = metricsProperties.getVirtualThreadPinning();
+        this.pinned = Timer.builder("trikaar.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to a carrier thread")
+                .register(meterRegistry);
+        this.unreportedSites = meterRegistry.counter("trikaar.threads.virtual.pinned.unreported.sites");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!settings.isEnabled() || !Threading.VIRTUAL.isActive(environment)) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT)
+                .withThreshold(Duration.ofMillis(settings.getThresholdMs()))
+                .withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Recording virtual thread pinning longer than {} ms", settings.getThresholdMs());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String site = pinningSite(frames);
+        if (reportedSites.contains(site)) {
+            return;
+        }
+        if (reportedSites.size() >= settings.getMaxReportedSites()) {
+            unreportedSites.increment();
+            return;
+        }
+        if (reportedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            for (RecordedFrame frame : frames) {
+                stack.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+            log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site, stack);
+        }
+    }
+
+    /** First application frame, or the top frame when the whole stack is JDK / library code. */
+    private static String pinningSite(List<RecordedFrame> frames) {
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame site = frames.get(0);
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith("com.trikaar.")) {
+                site = frame;
+                break;
+            }
+        }
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName();
+    }
+}
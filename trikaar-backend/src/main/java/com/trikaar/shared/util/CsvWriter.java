@@ -0,0 +1,81 @@
+package com.trikaar.shared.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+/**
+ * RFC 4180 CSV writer, the counterpart of {@link CsvReader}. Fields are quoted
+ * only when they contain a comma, quote or line break; records end with CRLF.
+ * Not thread-safe.
+ *
+ * Exports are opened in spreadsheets, which run a cell starting with
+ * {@code = + - @}, tab or CR as a formula. Such text fields are written
+ * quoted with a leading {@code '}, so a product name or audit value typed by
+ * a user shows as text instead of running. Numbers are never prefixed, so
+ * negative amounts stay numeric.
+ */
+public final class CsvWriter implements Closeable, Flushable {
+
+    private static final String FORMULA_START = "=+-@\t\r";
+
+    private final Writer writer;
+
+    /**
+     * @param writer should be buffered
+     */
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes one record; {@code null} fields are written empty, numbers as
+     * plain decimals and other values with {@code toString()}.
+     */
+    public void writeRow(Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (fields[i] instanceof BigDecimal decimal) {
+                writer.write(decimal.toPlainString());
+            } else if (fields[i] instanceof Number number) {
+                writer.write(number.toString());
+            } else if (fields[i] != null) {
+                writeField(fields[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean formula = !value.isEmpty() && FORMULA_START.indexOf(value.charAt(0)) >= 0;
+        boolean quote = formula;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
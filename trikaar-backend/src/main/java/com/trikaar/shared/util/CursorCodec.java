@@ -0,0 +1,100 @@
+package com.trikaar.shared.util;
+
+import com.trikaar.shared.exception.BusinessRuleException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes keyset positions (sort key values + id) as opaque URL-safe cursors.
+ * Clients must treat cursors as tokens; only this class knows the layout.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "\u001F";
+
+    // First-page positions: sort before (ascending) or after (descending) every real row
+    public static final UUID MIN_ID = new UUID(0L, 0L);
+    public static final UUID MAX_ID = new UUID(-1L, -1L);
+    public static final LocalDateTime MAX_DATE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... parts) {
+        String joined = String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Cursor for the common "one sort key + id" listing.
+     */
+    public static String encode(Object sortKey, UUID id) {
+        return encode(id.toString(), String.valueOf(sortKey));
+    }
+
+    /**
+     * Decodes a cursor into exactly {@code expectedParts} values.
+     *
+     * @throws BusinessRuleException if the cursor was not produced by {@link #encode}
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = joined.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Expected " + expectedParts + " parts");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(Object, UUID)}; null for the first page.
+     */
+    public static Position decodePosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = decode(cursor, 2);
+        try {
+            return new Position(parts[1], UUID.fromString(parts[0]));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessRuleException invalid() {
+        return new BusinessRuleException("INVALID_CURSOR", "Malformed pagination cursor");
+    }
+
+    /**
+     * Last row of the previous page: its sort key and id.
+     */
+    public record Position(String sortKey, UUID id) {
+
+        public LocalDateTime sortKeyAsDateTime() {
+            try {
+                return LocalDateTime.parse(sortKey);
+            } catch (DateTimeParseException e) {
+                throw invalid();
+            }
+        }
+
+        public LocalDate sortKeyAsDate() {
+            try {
+                return LocalDate.parse(sortKey);
+            } catch (DateTimeParseException e) {
+                throw invalid();
+            }
+        }
+    }
+}
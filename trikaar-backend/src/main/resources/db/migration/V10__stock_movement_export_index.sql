@@ -0,0 +1,8 @@
+-- ══════════════════════════════════════════════════════════════
+--  V10 - Stock movement export index
+--  Streaming exports read a business's movements in (created_at, id)
+--  order; without this they sort the whole table range first.
+-- ══════════════════════════════════════════════════════════════
+
+CREATE INDEX idx_stock_movements_export ON stock_movements (business_id, created_at, id)
+    WHERE is_deleted = FALSE;
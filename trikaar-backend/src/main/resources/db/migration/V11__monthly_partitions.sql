@@ -0,0 +1,249 @@
+-- ══════════════════════════════════════════════════════════════
+--  V11 - Monthly partitions for append-only history
+--  stock_movements, audit_logs and loyalty_transactions become
+--  range-partitioned by created_at, one partition per month, so
+--  date-bounded queries only touch the months they ask for and old
+--  months can be detached instead of deleted row by row.
+--
+--  sales and sale_items stay as they are: a partitioned primary or
+--  unique key must contain the partition column, which would break
+--  the foreign keys from sale_items/refunds and the uniqueness of
+--  transaction_number and idempotency keys. They get the indexes
+--  their hot queries were missing instead.
+--
+--  The existing rows are copied in this migration, so it runs for
+--  as long as copying these tables takes.
+-- ══════════════════════════════════════════════════════════════
+
+CREATE SCHEMA IF NOT EXISTS archive;
+
+-- ── Partition helpers ────────────────────────────────────────
+-- Partitions are named <table>_pYYYY_MM and cover [month, month + 1).
+-- Both functions are also called by the application's partition
+-- maintenance job; the advisory lock serialises instances.
+
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent TEXT, from_month DATE, months INT)
+RETURNS INT
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE;
+    partition_name TEXT;
+    default_name TEXT;
+    moved BIGINT;
+    created INT := 0;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table pt
+                   JOIN pg_class c ON c.oid = pt.partrelid
+                   WHERE c.relname = parent AND c.relnamespace = 'public'::regnamespace) THEN
+        RETURN 0;
+    END IF;
+    PERFORM pg_advisory_xact_lock(hashtext('partitions:' || parent));
+
+    default_name := parent || '_default';
+    FOR i IN 0 .. months - 1 LOOP
+        month_start := date_trunc('month', from_month)::DATE + make_interval(months => i);
+        partition_name := format('%s_p%s', parent, to_char(month_start, 'YYYY_MM'));
+        CONTINUE WHEN to_regclass('public.' || partition_name) IS NOT NULL;
+
+        -- Rows that landed in the default partition for this month have to
+        -- move out before a partition covering them can be attached.
+        EXECUTE format('CREATE TABLE public.%I (LIKE public.%I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                partition_name, parent);
+        IF to_regclass('public.' || default_name) IS NOT NULL THEN
+            EXECUTE format('WITH moved AS (DELETE FROM public.%I WHERE created_at >= %L AND created_at < %L '
+                    || 'RETURNING *) INSERT INTO public.%I SELECT * FROM moved',
+                    default_name, month_start, month_start + INTERVAL '1 month', partition_name);
+            GET DIAGNOSTICS moved = ROW_COUNT;
+            IF moved > 0 THEN
+                RAISE NOTICE 'Moved % rows from % into %', moved, default_name, partition_name;
+            END IF;
+        END IF;
+        EXECUTE format('ALTER TABLE public.%I ATTACH PARTITION public.%I FOR VALUES FROM (%L) TO (%L)',
+                parent, partition_name, month_start, month_start + INTERVAL '1 month');
+        created := created + 1;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Detaches every monthly partition that ends on or before the given date
+-- and moves it to the archive schema, where it can be dumped and dropped.
+CREATE OR REPLACE FUNCTION detach_monthly_partitions(parent TEXT, before DATE)
+RETURNS SETOF TEXT
+LANGUAGE plpgsql AS $$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('partitions:' || parent));
+
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        WHERE p.relname = parent AND p.relnamespace = 'public'::regnamespace
+          AND c.relname ~ ('^' || parent || '_p[0-9]{4}_[0-9]{2}$')
+          AND to_date(right(c.relname, 7), 'YYYY_MM') + INTERVAL '1 month' <= before
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE public.%I DETACH PARTITION public.%I', parent, partition_name);
+        EXECUTE format('ALTER TABLE public.%I SET SCHEMA archive', partition_name);
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$;
+
+-- Creates the months from the oldest existing row up to three months
+-- ahead, so the copy below never falls into the default partition.
+CREATE OR REPLACE FUNCTION pg_temp.partition_history(parent TEXT, source TEXT)
+RETURNS VOID
+LANGUAGE plpgsql AS $$
+DECLARE
+    first_month DATE;
+BEGIN
+    EXECUTE format('SELECT date_trunc(''month'', COALESCE(MIN(created_at), now()))::DATE FROM public.%I', source)
+        INTO first_month;
+    PERFORM create_monthly_partitions(parent, first_month,
+            ((EXTRACT(YEAR FROM age(date_trunc('month', now()), first_month)) * 12
+              + EXTRACT(MONTH FROM age(date_trunc('month', now()), first_month)))::INT) + 4);
+END;
+$$;
+
+-- ── Stock Movements ──────────────────────────────────────────
+ALTER TABLE stock_movements RENAME TO stock_movements_unpartitioned;
+ALTER INDEX stock_movements_pkey RENAME TO stock_movements_unpartitioned_pkey;
+
+CREATE TABLE stock_movements (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    product_id UUID NOT NULL,
+    movement_type VARCHAR(30) NOT NULL,
+    quantity NUMERIC(12,3) NOT NULL,
+    stock_before NUMERIC(12,3) NOT NULL,
+    stock_after NUMERIC(12,3) NOT NULL,
+    reference_id UUID,
+    reference_type VARCHAR(50),
+    notes VARCHAR(500),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_stock_movement_product FOREIGN KEY (product_id) REFERENCES products(id),
+    CONSTRAINT fk_stock_movement_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE stock_movements_default PARTITION OF stock_movements DEFAULT;
+SELECT pg_temp.partition_history('stock_movements', 'stock_movements_unpartitioned');
+
+INSERT INTO stock_movements (id, business_id, product_id, movement_type, quantity, stock_before, stock_after,
+        reference_id, reference_type, notes, is_deleted, version, created_at, updated_at, created_by, updated_by)
+SELECT id, business_id, product_id, movement_type, quantity, stock_before, stock_after,
+        reference_id, reference_type, notes, is_deleted, version, created_at, updated_at, created_by, updated_by
+FROM stock_movements_unpartitioned;
+
+DROP TABLE stock_movements_unpartitioned;
+
+CREATE INDEX idx_stock_movement_business ON stock_movements(business_id);
+CREATE INDEX idx_stock_movement_product ON stock_movements(product_id);
+CREATE INDEX idx_stock_movement_type ON stock_movements(movement_type);
+CREATE INDEX idx_stock_movement_created ON stock_movements(created_at);
+CREATE INDEX idx_stock_movements_export ON stock_movements (business_id, created_at, id)
+    WHERE is_deleted = FALSE;
+
+-- ── Audit Logs ───────────────────────────────────────────────
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER INDEX audit_logs_pkey RENAME TO audit_logs_unpartitioned_pkey;
+
+CREATE TABLE audit_logs (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id UUID,
+    description VARCHAR(2000) NOT NULL,
+    performed_by UUID,
+    ip_address VARCHAR(50),
+    old_value TEXT,
+    new_value TEXT,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_audit_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+SELECT pg_temp.partition_history('audit_logs', 'audit_logs_unpartitioned');
+
+INSERT INTO audit_logs (id, business_id, action, entity_type, entity_id, description, performed_by, ip_address,
+        old_value, new_value, is_deleted, version, created_at, updated_at, created_by, updated_by)
+SELECT id, business_id, action, entity_type, entity_id, description, performed_by, ip_address,
+        old_value, new_value, is_deleted, version, created_at, updated_at, created_by, updated_by
+FROM audit_logs_unpartitioned;
+
+DROP TABLE audit_logs_unpartitioned;
+
+CREATE INDEX idx_audit_business_id ON audit_logs(business_id);
+CREATE INDEX idx_audit_action ON audit_logs(action);
+CREATE INDEX idx_audit_entity_type ON audit_logs(entity_type);
+CREATE INDEX idx_audit_entity_id ON audit_logs(entity_id);
+CREATE INDEX idx_audit_performed_by ON audit_logs(performed_by);
+CREATE INDEX idx_audit_created_at ON audit_logs(created_at);
+CREATE INDEX idx_audit_logs_keyset ON audit_logs (business_id, created_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+-- ── Loyalty Transactions ─────────────────────────────────────
+ALTER TABLE loyalty_transactions RENAME TO loyalty_transactions_unpartitioned;
+ALTER INDEX loyalty_transactions_pkey RENAME TO loyalty_transactions_unpartitioned_pkey;
+
+CREATE TABLE loyalty_transactions (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    customer_id UUID NOT NULL,
+    transaction_type VARCHAR(20) NOT NULL,
+    points NUMERIC(12,2) NOT NULL,
+    balance_after NUMERIC(12,2) NOT NULL,
+    sale_id UUID,
+    sale_amount NUMERIC(14,2),
+    description VARCHAR(500),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_loyalty_txn_customer FOREIGN KEY (customer_id) REFERENCES customers(id),
+    CONSTRAINT fk_loyalty_txn_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE loyalty_transactions_default PARTITION OF loyalty_transactions DEFAULT;
+SELECT pg_temp.partition_history('loyalty_transactions', 'loyalty_transactions_unpartitioned');
+
+INSERT INTO loyalty_transactions (id, business_id, customer_id, transaction_type, points, balance_after,
+        sale_id, sale_amount, description, is_deleted, version, created_at, updated_at, created_by, updated_by)
+SELECT id, business_id, customer_id, transaction_type, points, balance_after,
+        sale_id, sale_amount, description, is_deleted, version, created_at, updated_at, created_by, updated_by
+FROM loyalty_transactions_unpartitioned;
+
+DROP TABLE loyalty_transactions_unpartitioned;
+
+CREATE INDEX idx_loyalty_txn_business ON loyalty_transactions(business_id);
+CREATE INDEX idx_loyalty_txn_customer ON loyalty_transactions(customer_id);
+CREATE INDEX idx_loyalty_txn_type ON loyalty_transactions(transaction_type);
+
+DROP FUNCTION pg_temp.partition_history(TEXT, TEXT);
+
+-- ── Sales ────────────────────────────────────────────────────
+-- Revenue and sale counts for a period are answered from the index alone.
+CREATE INDEX idx_sales_completed_period ON sales (business_id, sale_date) INCLUDE (total_amount)
+    WHERE is_deleted = FALSE AND status = 'COMPLETED';
+
+-- Loading a sale's lines looked them up without an index on sale_id.
+CREATE INDEX idx_sale_item_sale ON sale_items(sale_id);
@@ -0,0 +1,13 @@
+-- ══════════════════════════════════════════════════════════════
+--  V12 - One live payout per employee and period
+--  A payroll run decides who is already paid from a read taken at
+--  its start, and a single /salary/generate can land at any time,
+--  so the database has the final say: a second live payout for the
+--  same employee and period is rejected and the writer skips it.
+--
+--  If a period was already paid twice this migration fails on the
+--  duplicate key; cancel the extra payout and run it again.
+-- ══════════════════════════════════════════════════════════════
+
+CREATE UNIQUE INDEX uk_salary_payout_period ON salary_payouts (business_id, employee_id, period_start, period_end)
+    WHERE status <> 'CANCELLED' AND is_deleted = false;
@@ -0,0 +1,35 @@
+-- ══════════════════════════════════════════════════════════════
+--  V2 - Per-business document number sequences
+--  Replaces the COUNT(*)-per-checkout transaction numbering with a
+--  counter row per business, document type and day.
+-- ══════════════════════════════════════════════════════════════
+
+-- ── Document Sequences ───────────────────────────────────────
+CREATE TABLE document_sequences (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    sequence_name VARCHAR(30) NOT NULL,
+    sequence_date DATE NOT NULL,
+    last_value BIGINT NOT NULL DEFAULT 0,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    CONSTRAINT uk_document_sequence UNIQUE (business_id, sequence_name, sequence_date),
+    CONSTRAINT fk_document_sequence_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+);
+
+-- Seed today's counters from existing data so numbering continues without collisions
+INSERT INTO document_sequences (business_id, sequence_name, sequence_date, last_value)
+SELECT business_id, 'SALE', CAST(sale_date AS DATE), COUNT(*)
+FROM sales
+GROUP BY business_id, CAST(sale_date AS DATE);
+
+-- ── Transaction / refund numbers are unique per business ─────
+ALTER TABLE sales DROP CONSTRAINT IF EXISTS sales_transaction_number_key;
+ALTER TABLE sales ADD CONSTRAINT uk_sale_txn_number_business UNIQUE (transaction_number, business_id);
+
+ALTER TABLE refunds DROP CONSTRAINT IF EXISTS refunds_refund_number_key;
+ALTER TABLE refunds ADD CONSTRAINT uk_refund_number_business UNIQUE (refund_number, business_id);
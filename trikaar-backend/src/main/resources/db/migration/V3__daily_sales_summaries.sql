@@ -0,0 +1,59 @@
+-- ══════════════════════════════════════════════════════════════
+--  V3 - Incrementally maintained daily sales rollup
+--  One row per business, day and slot. A sale or refund always lands
+--  in the slot derived from its id, so concurrent tills spread over
+--  the slots instead of queueing on a single hot row, and a retried
+--  write hits the same row. Readers sum the slots of a day.
+-- ══════════════════════════════════════════════════════════════
+
+-- ── Daily Sales Summaries ────────────────────────────────────
+CREATE TABLE daily_sales_summaries (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    summary_date DATE NOT NULL,
+    slot SMALLINT NOT NULL DEFAULT 0,
+    transaction_count BIGINT NOT NULL DEFAULT 0,
+    total_revenue NUMERIC(16,2) NOT NULL DEFAULT 0,
+    total_tax NUMERIC(16,2) NOT NULL DEFAULT 0,
+    total_discount NUMERIC(16,2) NOT NULL DEFAULT 0,
+    cash_total NUMERIC(16,2) NOT NULL DEFAULT 0,
+    card_total NUMERIC(16,2) NOT NULL DEFAULT 0,
+    upi_total NUMERIC(16,2) NOT NULL DEFAULT 0,
+    mixed_total NUMERIC(16,2) NOT NULL DEFAULT 0,
+    credit_total NUMERIC(16,2) NOT NULL DEFAULT 0,
+    refund_count BIGINT NOT NULL DEFAULT 0,
+    total_refunds NUMERIC(16,2) NOT NULL DEFAULT 0,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    CONSTRAINT uk_daily_summary_business_date_slot UNIQUE (business_id, summary_date, slot),
+    CONSTRAINT fk_daily_summary_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+);
+
+-- ── Backfill from existing sales and refunds (slot 0) ────────
+INSERT INTO daily_sales_summaries (business_id, summary_date, slot, transaction_count,
+        total_revenue, total_tax, total_discount,
+        cash_total, card_total, upi_total, mixed_total, credit_total)
+SELECT s.business_id, CAST(s.sale_date AS DATE), 0, COUNT(*),
+       SUM(s.total_amount), SUM(s.tax_amount),
+       SUM(COALESCE(s.discount_amount, 0) + COALESCE(s.loyalty_discount, 0)
+           + COALESCE((SELECT SUM(si.discount_amount) FROM sale_items si WHERE si.sale_id = s.id), 0)),
+       SUM(CASE WHEN s.payment_method = 'CASH' THEN s.total_amount ELSE 0 END),
+       SUM(CASE WHEN s.payment_method = 'CARD' THEN s.total_amount ELSE 0 END),
+       SUM(CASE WHEN s.payment_method = 'UPI' THEN s.total_amount ELSE 0 END),
+       SUM(CASE WHEN s.payment_method = 'MIXED' THEN s.total_amount ELSE 0 END),
+       SUM(CASE WHEN s.payment_method = 'CREDIT' THEN s.total_amount ELSE 0 END)
+FROM sales s
+WHERE s.is_deleted = FALSE AND s.status NOT IN ('DRAFT', 'VOID')
+GROUP BY s.business_id, CAST(s.sale_date AS DATE);
+
+INSERT INTO daily_sales_summaries (business_id, summary_date, slot, refund_count, total_refunds)
+SELECT r.business_id, CAST(r.refund_date AS DATE), 0, COUNT(*), SUM(r.refund_amount)
+FROM refunds r
+WHERE r.is_deleted = FALSE
+GROUP BY r.business_id, CAST(r.refund_date AS DATE)
+ON CONFLICT (business_id, summary_date, slot) DO UPDATE
+SET refund_count = EXCLUDED.refund_count, total_refunds = EXCLUDED.total_refunds;
@@ -0,0 +1,26 @@
+-- ══════════════════════════════════════════════════════════════
+--  V4 - Product search indexes
+--  Trigram index for substring matching on product names and
+--  pattern-ops indexes for SKU / barcode prefix matching, so POS
+--  search no longer sequentially scans products per keystroke.
+--  Every index leads with business_id, so a search only visits the
+--  searching tenant's entries.
+-- ══════════════════════════════════════════════════════════════
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- ── Name: LIKE '%term%' served by GIN trigram index ──────────
+-- btree_gin lets business_id share the GIN index, so the trigram
+-- matches are intersected with the tenant inside the index instead
+-- of being collected for every business and filtered afterwards.
+CREATE INDEX idx_products_name_trgm ON products
+    USING gin (business_id, lower(product_name) gin_trgm_ops)
+    WHERE is_deleted = FALSE;
+
+-- ── SKU / barcode: LIKE 'term%' served by b-tree range scans ─
+CREATE INDEX idx_products_sku_prefix ON products (business_id, lower(sku) text_pattern_ops)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_products_barcode_prefix ON products (business_id, barcode text_pattern_ops)
+    WHERE is_deleted = FALSE;
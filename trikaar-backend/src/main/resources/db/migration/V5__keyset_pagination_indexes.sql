@@ -0,0 +1,23 @@
+-- ══════════════════════════════════════════════════════════════
+--  V5 - Keyset pagination indexes
+--  One index per cursor listing, matching its (sort key, id) order,
+--  so every page is a bounded index range scan regardless of depth.
+-- ══════════════════════════════════════════════════════════════
+
+CREATE INDEX idx_sales_keyset ON sales (business_id, sale_date DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_salary_payouts_keyset ON salary_payouts (business_id, period_start DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_audit_logs_keyset ON audit_logs (business_id, created_at DESC, id DESC)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_products_keyset ON products (business_id, product_name, id)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_customers_keyset ON customers (business_id, first_name, id)
+    WHERE is_deleted = FALSE;
+
+CREATE INDEX idx_employees_keyset ON employees (business_id, first_name, id)
+    WHERE is_deleted = FALSE;
@@ -0,0 +1,11 @@
+-- ══════════════════════════════════════════════════════════════
+--  V6 - Sale idempotency keys
+--  Client-generated key per sale (offline sync, retried POSTs).
+--  The unique index is the dedupe guarantee; it covers deleted
+--  rows too, so a key is never reused.
+-- ══════════════════════════════════════════════════════════════
+
+ALTER TABLE sales ADD COLUMN idempotency_key VARCHAR(100);
+
+CREATE UNIQUE INDEX uk_sales_idempotency_key ON sales (business_id, idempotency_key)
+    WHERE idempotency_key IS NOT NULL;
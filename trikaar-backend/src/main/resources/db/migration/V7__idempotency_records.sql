@@ -0,0 +1,27 @@
+-- ══════════════════════════════════════════════════════════════
+--  V7 - Idempotency records
+--  One row per (business, operation, Idempotency-Key): the request
+--  fingerprint and the response returned for it. Written in the same
+--  transaction as the operation itself; expired rows are purged.
+-- ══════════════════════════════════════════════════════════════
+
+-- ── Idempotency Records ──────────────────────────────────────
+CREATE TABLE idempotency_records (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    operation VARCHAR(30) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body TEXT,
+    expires_at TIMESTAMP NOT NULL,
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    CONSTRAINT uk_idempotency_business_operation_key UNIQUE (business_id, operation, idempotency_key),
+    CONSTRAINT fk_idempotency_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+);
+
+CREATE INDEX idx_idempotency_expires_at ON idempotency_records (expires_at);
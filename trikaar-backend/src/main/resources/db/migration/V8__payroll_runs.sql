@@ -0,0 +1,60 @@
+-- ══════════════════════════════════════════════════════════════
+--  V8 - Payroll runs
+--  One row per bulk salary run over a period, with its progress
+--  counters, plus one row per employee the run could not pay.
+--  At most one run per business and period can be RUNNING.
+-- ══════════════════════════════════════════════════════════════
+
+-- ── Payroll Runs ─────────────────────────────────────────────
+CREATE TABLE payroll_runs (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    period_start DATE NOT NULL,
+    period_end DATE NOT NULL,
+    status VARCHAR(30) NOT NULL DEFAULT 'RUNNING',
+    total_employees INT NOT NULL DEFAULT 0,
+    processed_employees INT NOT NULL DEFAULT 0,
+    created_payouts INT NOT NULL DEFAULT 0,
+    skipped_employees INT NOT NULL DEFAULT 0,
+    failed_employees INT NOT NULL DEFAULT 0,
+    total_net_salary NUMERIC(16,2) NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    failure_message VARCHAR(1000),
+    notes VARCHAR(1000),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    CONSTRAINT fk_payroll_run_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+);
+
+CREATE INDEX idx_payroll_run_business_period ON payroll_runs (business_id, period_start DESC, id DESC);
+CREATE UNIQUE INDEX uk_payroll_run_running ON payroll_runs (business_id, period_start, period_end)
+    WHERE status = 'RUNNING' AND is_deleted = false;
+
+-- ── Payroll Run Errors ───────────────────────────────────────
+CREATE TABLE payroll_run_errors (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    run_id UUID NOT NULL,
+    employee_id UUID NOT NULL,
+    error_code VARCHAR(50) NOT NULL,
+    message VARCHAR(500),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    CONSTRAINT fk_payroll_error_run FOREIGN KEY (run_id) REFERENCES payroll_runs(id),
+    CONSTRAINT fk_payroll_error_employee FOREIGN KEY (employee_id) REFERENCES employees(id),
+    CONSTRAINT fk_payroll_error_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+);
+
+CREATE INDEX idx_payroll_error_run ON payroll_run_errors (run_id);
+
+-- Skip check for employees already paid for the period
+CREATE INDEX idx_salary_business_period ON salary_payouts (business_id, period_start, period_end);
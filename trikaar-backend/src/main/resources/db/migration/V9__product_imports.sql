@@ -0,0 +1,54 @@
+-- ══════════════════════════════════════════════════════════════
+--  V9 - Bulk product imports
+--  One row per uploaded product file with its progress counters,
+--  plus the rows that could not be imported. At most one import
+--  per business can be RUNNING.
+-- ══════════════════════════════════════════════════════════════
+
+-- ── Product Imports ──────────────────────────────────────────
+CREATE TABLE product_imports (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    file_name VARCHAR(255),
+    status VARCHAR(30) NOT NULL DEFAULT 'RUNNING',
+    total_rows INT NOT NULL DEFAULT 0,
+    processed_rows INT NOT NULL DEFAULT 0,
+    created_products INT NOT NULL DEFAULT 0,
+    updated_products INT NOT NULL DEFAULT 0,
+    failed_rows INT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    failure_message VARCHAR(1000),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    CONSTRAINT fk_product_import_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+);
+
+CREATE INDEX idx_product_import_business ON product_imports (business_id, started_at DESC);
+CREATE UNIQUE INDEX uk_product_import_running ON product_imports (business_id)
+    WHERE status = 'RUNNING' AND is_deleted = false;
+
+-- ── Product Import Errors ────────────────────────────────────
+CREATE TABLE product_import_errors (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    business_id UUID NOT NULL,
+    import_id UUID NOT NULL,
+    row_number INT NOT NULL,
+    sku VARCHAR(100),
+    error_code VARCHAR(50) NOT NULL,
+    message VARCHAR(500),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    created_by UUID,
+    updated_by UUID,
+    CONSTRAINT fk_product_import_error_import FOREIGN KEY (import_id) REFERENCES product_imports(id),
+    CONSTRAINT fk_product_import_error_business FOREIGN KEY (business_id) REFERENCES businesses(id)
+);
+
+CREATE INDEX idx_product_import_error_import ON product_import_errors (import_id, row_number);
@@ -0,0 +1,136 @@
+package com.trikaar.module.inventory.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the native batch stock statements against a real Postgres, where row
+ * locking and deadlock detection actually happen. Two tills sell or refund
+ * baskets that share products, listed in opposite order, over and over; every
+ * statement must go through and the balances must add up. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductRepositoryStockLockTest {
+
+    private static final int ROUNDS = 200;
+    private static final BigDecimal INITIAL_STOCK = new BigDecimal("10000");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final UUID businessId = UUID.randomUUID();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService tills;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tills = Executors.newFixedThreadPool(2);
+
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE IF NOT EXISTS products ("
+                + "id UUID PRIMARY KEY, business_id UUID NOT NULL, "
+                + "current_stock NUMERIC(12, 3) NOT NULL, is_deleted BOOLEAN NOT NULL DEFAULT FALSE, "
+                + "version BIGINT, updated_at TIMESTAMP)");
+        for (UUID productId : List.of(first, second)) {
+            jdbcTemplate.update("INSERT INTO products (id, business_id, current_stock) "
+                    + "VALUES (:id, :businessId, :stock)", new MapSqlParameterSource()
+                    .addValue("id", productId)
+                    .addValue("businessId", businessId)
+                    .addValue("stock", INITIAL_STOCK));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        tills.shutdownNow();
+    }
+
+    @Test
+    void overlappingBasketsInOppositeOrderDoNotDeadlock() throws Exception {
+        String deduct = nativeQuery("deductStockBatch");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            CyclicBarrier start = new CyclicBarrier(2);
+            Future<Integer> forward = tills.submit(() -> sell(deduct, start, first + "," + second));
+            Future<Integer> backward = tills.submit(() -> sell(deduct, start, second + "," + first));
+
+            assertThat(forward.get(30, TimeUnit.SECONDS)).isEqualTo(2);
+            assertThat(backward.get(30, TimeUnit.SECONDS)).isEqualTo(2);
+        }
+
+        BigDecimal expected = INITIAL_STOCK.subtract(BigDecimal.valueOf(2L * ROUNDS));
+        assertThat(stockOf(first)).isEqualByComparingTo(expected);
+        assertThat(stockOf(second)).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void incrementAndDeductInOppositeOrderDoNotDeadlock() throws Exception {
+        String deduct = nativeQuery("deductStockBatch");
+        String increment = nativeQuery("incrementStockBatch");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            CyclicBarrier start = new CyclicBarrier(2);
+            Future<Integer> sale = tills.submit(() -> sell(deduct, start, first + "," + second));
+            Future<Integer> refund = tills.submit(() -> sell(increment, start, second + "," + first));
+
+            assertThat(sale.get(30, TimeUnit.SECONDS)).isEqualTo(2);
+            assertThat(refund.get(30, TimeUnit.SECONDS)).isEqualTo(2);
+        }
+
+        assertThat(stockOf(first)).isEqualByComparingTo(INITIAL_STOCK);
+        assertThat(stockOf(second)).isEqualByComparingTo(INITIAL_STOCK);
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    /** Runs one batch statement for a unit of each product and returns the rows it touched. */
+    private int sell(String sql, CyclicBarrier start, String productIds) throws Exception {
+        start.await(10, TimeUnit.SECONDS);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("businessId", businessId)
+                .addValue("productIds", productIds)
+                .addValue("quantities", "1,1");
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForList(sql, params).size());
+    }
+
+    private BigDecimal stockOf(UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT current_stock FROM products WHERE id = :id",
+                new MapSqlParameterSource("id", productId), BigDecimal.class);
+    }
+
+    private static String nativeQuery(String method) throws NoSuchMethodException {
+        return ProductRepository.class
+                .getMethod(method, UUID.class, String.class, String.class)
+                .getAnnotation(Query.class)
+                .value();
+    }
+}
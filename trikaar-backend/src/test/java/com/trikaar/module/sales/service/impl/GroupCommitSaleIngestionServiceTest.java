@@ -0,0 +1,267 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.config.SalesProperties;
+import com.trikaar.module.sales.dto.CreateSaleRequest;
+import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.service.SaleService;
+import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.metrics.PersistenceFailureMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives group-commit ingestion with real committer threads and real
+ * transactions on an in-memory database. The stub sale service inserts a
+ * row per sale and holds the first sale it sees until released, so the
+ * sales submitted meanwhile queue up in the lane and are committed as the
+ * next batch. Sales whose notes start with "invalid:" insert their row and
+ * then fail.
+ */
+class GroupCommitSaleIngestionServiceTest {
+
+    private static final String INVALID = "invalid:";
+    private static final long WAIT_SECONDS = 10;
+
+    private final UUID businessId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final List<String> createdInOrder = Collections.synchronizedList(new ArrayList<>());
+    private final List<UUID> createdAs = Collections.synchronizedList(new ArrayList<>());
+    private final List<UUID> flushedAs = Collections.synchronizedList(new ArrayList<>());
+    private final List<UUID> failuresRecordedAs = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstSaleEntered = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstSale = new CountDownLatch(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private SaleService saleService;
+    private DataSourceTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private PersistenceFailureMetrics persistenceFailureMetrics;
+    private MeterRegistry meterRegistry;
+    private GroupCommitSaleIngestionService ingestionService;
+    private ExecutorService tills;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:group-commit-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE committed_sales (sale_key VARCHAR(100) PRIMARY KEY)");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        SaleService target = mock(SaleService.class);
+        when(target.createSale(any(CreateSaleRequest.class))).thenAnswer(invocation -> {
+            CreateSaleRequest request = invocation.getArgument(0);
+            if (firstSaleEntered.getCount() > 0) {
+                firstSaleEntered.countDown();
+                releaseFirstSale.await(WAIT_SECONDS, TimeUnit.SECONDS);
+            }
+            createdAs.add(TenantContext.getBusinessId());
+            String key = request.getNotes().startsWith(INVALID)
+                    ? request.getNotes().substring(INVALID.length())
+                    : request.getNotes();
+            createdInOrder.add(key);
+            jdbcTemplate.update("INSERT INTO committed_sales (sale_key) VALUES (?)", key);
+            if (request.getNotes().startsWith(INVALID)) {
+                throw new BusinessRuleException("INSUFFICIENT_STOCK", "Insufficient stock");
+            }
+            return SaleResponse.builder().transactionNumber("TXN-" + key).build();
+        });
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(SaleService.class);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager,
+                new MatchAlwaysTransactionAttributeSource()));
+        saleService = (SaleService) proxyFactory.getProxy();
+
+        entityManager = mock(EntityManager.class);
+        doAnswer(invocation -> flushedAs.add(TenantContext.getBusinessId())).when(entityManager).flush();
+        persistenceFailureMetrics = mock(PersistenceFailureMetrics.class);
+        doAnswer(invocation -> failuresRecordedAs.add(TenantContext.getBusinessId()))
+                .when(persistenceFailureMetrics).record(any());
+
+        tills = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstSale.countDown();
+        if (ingestionService != null) {
+            ingestionService.stop();
+        }
+        tills.shutdownNow();
+        TenantContext.clear();
+    }
+
+    @Test
+    void commitsSalesOfALaneInArrivalOrder() throws Exception {
+        start(settings());
+        Future<SaleResponse> first = submitAndWait("sale-1");
+
+        List<Future<SaleResponse>> queued = new ArrayList<>();
+        for (int i = 2; i <= 5; i++) {
+            queued.add(submitQueued("sale-" + i, i - 1));
+        }
+        releaseFirstSale.countDown();
+
+        assertThat(first.get(WAIT_SECONDS, TimeUnit.SECONDS).getTransactionNumber()).isEqualTo("TXN-sale-1");
+        for (int i = 0; i < queued.size(); i++) {
+            assertThat(queued.get(i).get(WAIT_SECONDS, TimeUnit.SECONDS).getTransactionNumber())
+                    .isEqualTo("TXN-sale-" + (i + 2));
+        }
+        assertThat(createdInOrder).containsExactly("sale-1", "sale-2", "sale-3", "sale-4", "sale-5");
+        assertThat(committedKeys()).containsExactlyInAnyOrder("sale-1", "sale-2", "sale-3", "sale-4", "sale-5");
+        assertThat(createdAs).containsOnly(businessId);
+        assertThat(flushedAs).hasSize(5).containsOnly(businessId);
+    }
+
+    @Test
+    void otherSalesOfABatchCommitWhenOneFails() throws Exception {
+        start(settings());
+        Future<SaleResponse> first = submitAndWait("sale-1");
+        Future<SaleResponse> second = submitQueued("sale-2", 1);
+        Future<SaleResponse> invalid = submitQueued(INVALID + "sale-3", 2);
+        Future<SaleResponse> fourth = submitQueued("sale-4", 3);
+        releaseFirstSale.countDown();
+
+        assertThat(first.get(WAIT_SECONDS, TimeUnit.SECONDS).getTransactionNumber()).isEqualTo("TXN-sale-1");
+        assertThat(second.get(WAIT_SECONDS, TimeUnit.SECONDS).getTransactionNumber()).isEqualTo("TXN-sale-2");
+        assertThat(fourth.get(WAIT_SECONDS, TimeUnit.SECONDS).getTransactionNumber()).isEqualTo("TXN-sale-4");
+        ExecutionException failure = catchThrowableOfType(
+                () -> invalid.get(WAIT_SECONDS, TimeUnit.SECONDS), ExecutionException.class);
+        assertThat(failure.getCause()).isInstanceOf(BusinessRuleException.class);
+        assertThat(((BusinessRuleException) failure.getCause()).getRuleCode()).isEqualTo("INSUFFICIENT_STOCK");
+
+        assertThat(committedKeys()).containsExactlyInAnyOrder("sale-1", "sale-2", "sale-4");
+        assertThat(failuresRecordedAs).containsExactly(businessId);
+    }
+
+    @Test
+    void rejectsASaleWhenTheLaneIsFull() throws Exception {
+        SalesProperties.GroupCommit settings = settings();
+        settings.setLaneCapacity(2);
+        start(settings);
+        Future<SaleResponse> first = submitAndWait("sale-1");
+        Future<SaleResponse> second = submitQueued("sale-2", 1);
+        Future<SaleResponse> third = submitQueued("sale-3", 2);
+
+        TenantContext.setBusinessId(businessId);
+        assertThatThrownBy(() -> ingestionService.submit(request("sale-4")))
+                .isInstanceOf(BusinessRuleException.class)
+                .extracting(e -> ((BusinessRuleException) e).getRuleCode())
+                .isEqualTo("SALES_BACKLOG_FULL");
+
+        releaseFirstSale.countDown();
+        first.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        second.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        third.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        assertThat(committedKeys()).containsExactlyInAnyOrder("sale-1", "sale-2", "sale-3");
+    }
+
+    @Test
+    void reportsAPendingCommitWhenTheResponseTimesOut() throws Exception {
+        SalesProperties.GroupCommit settings = settings();
+        settings.setResponseTimeoutMs(200);
+        start(settings);
+        submitAndWait("sale-1");
+
+        TenantContext.setBusinessId(businessId);
+        assertThatThrownBy(() -> ingestionService.submit(request("sale-2")))
+                .isInstanceOf(BusinessRuleException.class)
+                .extracting(e -> ((BusinessRuleException) e).getRuleCode())
+                .isEqualTo("SALE_COMMIT_PENDING");
+
+        // The sales were only slow, not lost
+        releaseFirstSale.countDown();
+        awaitCondition(() -> committedKeys().size() == 2);
+        assertThat(committedKeys()).containsExactlyInAnyOrder("sale-1", "sale-2");
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    private static SalesProperties.GroupCommit settings() {
+        SalesProperties.GroupCommit settings = new SalesProperties.GroupCommit();
+        settings.setEnabled(true);
+        settings.setCommitterThreads(2);
+        settings.setMaxBatchSize(32);
+        settings.setLingerMs(2);
+        settings.setResponseTimeoutMs(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+        return settings;
+    }
+
+    private void start(SalesProperties.GroupCommit settings) {
+        SalesProperties properties = new SalesProperties();
+        properties.setGroupCommit(settings);
+        meterRegistry = new SimpleMeterRegistry();
+        ingestionService = new GroupCommitSaleIngestionService(saleService, properties,
+                new BatchTransactionExecutor(transactionManager, persistenceFailureMetrics),
+                entityManager, meterRegistry);
+        ingestionService.start();
+    }
+
+    /** Submits the sale that the stub holds, once a committer is inside it. */
+    private Future<SaleResponse> submitAndWait(String key) throws InterruptedException {
+        Future<SaleResponse> response = submit(key);
+        assertThat(firstSaleEntered.await(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        return response;
+    }
+
+    /** Submits a sale and waits until the lane holds {@code queuedAfter} sales. */
+    private Future<SaleResponse> submitQueued(String key, int queuedAfter) throws InterruptedException {
+        Future<SaleResponse> response = submit(key);
+        awaitCondition(() -> meterRegistry.get("trikaar.sales.group.queued").gauge().value() >= queuedAfter);
+        return response;
+    }
+
+    private Future<SaleResponse> submit(String key) {
+        return tills.submit(() -> TenantContext.callAs(businessId, userId,
+                () -> ingestionService.submit(request(key))));
+    }
+
+    private static CreateSaleRequest request(String key) {
+        CreateSaleRequest request = new CreateSaleRequest();
+        request.setNotes(key);
+        return request;
+    }
+
+    private List<String> committedKeys() {
+        return jdbcTemplate.queryForList("SELECT sale_key FROM committed_sales", String.class);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.trikaar.module.sales.service.impl;
+
+import com.trikaar.config.SalesProperties;
+import com.trikaar.module.sales.dto.CreateSaleRequest;
+import com.trikaar.module.sales.dto.SaleResponse;
+import com.trikaar.module.sales.dto.SaleSyncRequest;
+import com.trikaar.module.sales.dto.SaleSyncResponse;
+import com.trikaar.module.sales.repository.SaleRepository;
+import com.trikaar.module.sales.service.SaleService;
+import com.trikaar.shared.context.TenantContext;
+import com.trikaar.shared.exception.BusinessRuleException;
+import com.trikaar.shared.metrics.PersistenceFailureMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the sync against real transactions on an in-memory database. Each
+ * created sale inserts a row, and a sale marked invalid inserts its row and
+ * then fails, so the table shows exactly what was committed. The sale
+ * service sits behind a transactional proxy, as in the application, so a
+ * failing sale marks the surrounding transaction rollback-only.
+ */
+class SaleSyncServiceImplTest {
+
+    private static final String INVALID = "invalid";
+
+    private JdbcTemplate jdbcTemplate;
+    private SaleService saleServiceTarget;
+    private SaleSyncServiceImpl saleSyncService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sale-sync-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE synced_sales (idempotency_key VARCHAR(100) PRIMARY KEY)");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        saleServiceTarget = mock(SaleService.class);
+        when(saleServiceTarget.createSale(any(), anyString(), any())).thenAnswer(invocation -> {
+            CreateSaleRequest request = invocation.getArgument(0);
+            String key = invocation.getArgument(1);
+            jdbcTemplate.update("INSERT INTO synced_sales (idempotency_key) VALUES (?)", key);
+            if (INVALID.equals(request.getNotes())) {
+                throw new BusinessRuleException("INSUFFICIENT_STOCK", "Insufficient stock");
+            }
+            return SaleResponse.builder()
+                    .id(UUID.randomUUID().toString())
+                    .transactionNumber("TXN-" + key)
+                    .build();
+        });
+        ProxyFactory proxyFactory = new ProxyFactory(saleServiceTarget);
+        proxyFactory.addInterface(SaleService.class);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager,
+                new MatchAlwaysTransactionAttributeSource()));
+
+        BatchTransactionExecutor batchExecutor = new BatchTransactionExecutor(transactionManager,
+                mock(PersistenceFailureMetrics.class));
+        saleSyncService = new SaleSyncServiceImpl((SaleService) proxyFactory.getProxy(),
+                mock(SaleRepository.class), batchExecutor, new SalesProperties());
+
+        TenantContext.setBusinessId(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void commitsValidSalesWhenOneSaleInTheBatchIsInvalid() {
+        SaleSyncResponse response = saleSyncService.syncSales(
+                request("sale-1", "sale-2", INVALID + ":sale-3", "sale-4", "sale-5"));
+
+        assertThat(response.getCreated()).isEqualTo(4);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults())
+                .extracting(SaleSyncResponse.Result::getStatus)
+                .containsExactly(SaleSyncResponse.Status.CREATED, SaleSyncResponse.Status.CREATED,
+                        SaleSyncResponse.Status.FAILED, SaleSyncResponse.Status.CREATED,
+                        SaleSyncResponse.Status.CREATED);
+        SaleSyncResponse.Result failed = response.getResults().get(2);
+        assertThat(failed.getErrorCode()).isEqualTo("INSUFFICIENT_STOCK");
+        assertThat(failed.isRetryable()).isFalse();
+
+        assertThat(committedKeys()).containsExactlyInAnyOrder("sale-1", "sale-2", "sale-4", "sale-5");
+    }
+
+    @Test
+    void commitsAValidBatchInOnePass() {
+        SaleSyncResponse response = saleSyncService.syncSales(request("sale-1", "sale-2", "sale-3"));
+
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(committedKeys()).containsExactlyInAnyOrder("sale-1", "sale-2", "sale-3");
+        verify(saleServiceTarget, times(3)).createSale(any(), anyString(), any());
+    }
+
+    // ═══════════════════ Private Helpers ═══════════════════
+
+    /** Keys prefixed with "invalid:" become sales that fail. */
+    private static SaleSyncRequest request(String... keys) {
+        List<SaleSyncRequest.SyncedSale> sales = new ArrayList<>();
+        for (String key : keys) {
+            CreateSaleRequest sale = new CreateSaleRequest();
+            if (key.startsWith(INVALID + ":")) {
+                key = key.substring(INVALID.length() + 1);
+                sale.setNotes(INVALID);
+            }
+            sales.add(new SaleSyncRequest.SyncedSale(key, null, sale));
+        }
+        return new SaleSyncRequest(sales);
+    }
+
+    private List<String> committedKeys() {
+        return jdbcTemplate.queryForList("SELECT idempotency_key FROM synced_sales", String.class);
+    }
+}